@@ -0,0 +1,18 @@
+package com.plee.library.config;
+
+import com.plee.library.domain.member.Member;
+import com.plee.library.domain.member.Role;
+
+import java.io.Serializable;
+
+/**
+ * 세션에 저장되는 로그인한 회원의 정보입니다.
+ * 회원 엔티티 대신 식별과 권한 확인에 필요한 값만 가지므로, 세션의 크기가 작고 직렬화할 수 있습니다.
+ * 로그인 이후 변경된 이름과 권한은 다시 로그인해야 반영됩니다.
+ */
+public record LoginMember(Long id, String loginId, String name, Role role) implements Serializable {
+
+    public static LoginMember from(Member member) {
+        return new LoginMember(member.getId(), member.getLoginId(), member.getName(), member.getRole());
+    }
+}
@@ -11,14 +11,14 @@ import java.util.List;
 
 @Getter
 public class MemberAdapter extends User {
-    private Member member;
+    private final LoginMember member;
 
     public MemberAdapter(Member member) {
         super(member.getLoginId(), member.getPassword(), getAuthorities(member));
-        this.member = member;
+        this.member = LoginMember.from(member);
     }
 
     private static List<GrantedAuthority> getAuthorities(Member member) {
         return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + member.getRole().toString()));
     }
-}
\ No newline at end of file
+}
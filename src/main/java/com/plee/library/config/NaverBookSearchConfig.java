@@ -1,46 +1,192 @@
 package com.plee.library.config;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.plee.library.dto.book.request.SearchApiBookRequest;
 import com.plee.library.dto.book.response.SearchBookResponse;
+import com.plee.library.util.message.BookMessage;
+import com.plee.library.util.resilience.CircuitBreaker;
+import com.plee.library.util.resilience.TokenBucketRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 네이버 도서 검색 API 를 비동기로 호출합니다.
+ * 연결을 재사용하는 하나의 HttpClient 를 공유하며, 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.
+ * 네이버 API 의 초당, 일일 호출 한도를 넘지 않도록 호출 수를 제한하며, 관리자의 검색을 회원의 검색보다 먼저 허용합니다.
+ * 동시 호출 수를 제한하고, 연속으로 실패하면 일정 시간 동안 호출하지 않고 바로 실패합니다.
+ */
+@Slf4j
 @Component
 public class NaverBookSearchConfig {
 
-    @Value("${naver.client.id}")
-    private String clientId;
+    private final String clientId;
+    private final String clientSecret;
+    private final String bookSearchUrl;
+    private final Duration readTimeout;
+    private final HttpClient httpClient;
+    private final ObjectReader responseReader;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final TokenBucketRateLimiter rateLimiter;
+
+    @Autowired
+    public NaverBookSearchConfig(ObjectMapper objectMapper,
+                                 @Value("${naver.client.id}") String clientId,
+                                 @Value("${naver.client.secret}") String clientSecret,
+                                 @Value("${naver.url}") String bookSearchUrl,
+                                 @Value("${library.naver.client.connect-timeout:2s}") Duration connectTimeout,
+                                 @Value("${library.naver.client.read-timeout:3s}") Duration readTimeout,
+                                 @Value("${library.naver.client.max-concurrent-calls:20}") int maxConcurrentCalls,
+                                 @Value("${library.naver.client.failure-threshold:5}") int failureThreshold,
+                                 @Value("${library.naver.client.open-duration:30s}") Duration openDuration,
+                                 @Value("${library.naver.rate-limit.permits-per-second:10}") double permitsPerSecond,
+                                 @Value("${library.naver.rate-limit.burst:10}") int burst,
+                                 @Value("${library.naver.rate-limit.daily-limit:25000}") long dailyLimit,
+                                 @Value("${library.naver.rate-limit.max-queue-size:50}") int maxQueueSize,
+                                 @Value("${library.naver.rate-limit.max-wait:2s}") Duration maxWait) {
+        this(objectMapper, clientId, clientSecret, bookSearchUrl, connectTimeout, readTimeout, maxConcurrentCalls,
+                failureThreshold, openDuration, new TokenBucketRateLimiter(permitsPerSecond, burst, dailyLimit, maxQueueSize, maxWait));
+    }
+
+    public NaverBookSearchConfig(ObjectMapper objectMapper, String clientId, String clientSecret, String bookSearchUrl,
+                                 Duration connectTimeout, Duration readTimeout, int maxConcurrentCalls,
+                                 int failureThreshold, Duration openDuration, TokenBucketRateLimiter rateLimiter) {
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.bookSearchUrl = bookSearchUrl;
+        this.readTimeout = readTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        // 응답에 DTO 에 없는 필드가 추가되어도 검색이 실패하지 않도록 무시
+        this.responseReader = objectMapper.readerFor(SearchBookResponse.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * 네이버 도서 검색 API 로 도서를 검색합니다.
+     * 호출 한도를 넘은 경우 대기열에서 우선순위 순서로 차례를 기다리며, 대기열이 가득 찼거나 오래 기다린 경우 실패한 결과를 반환합니다.
+     * 서킷 브레이커가 열려있거나 동시 호출 수가 최대인 경우 호출 한도를 사용하지 않고 바로 실패합니다.
+     *
+     * @param searchBookRequest 검색 요청 정보
+     * @param priority 호출 우선순위
+     * @return 검색 결과를 담은 SearchBookResponse 의 CompletableFuture
+     */
+    public CompletableFuture<SearchBookResponse> searchBook(SearchApiBookRequest searchBookRequest, TokenBucketRateLimiter.Priority priority) {
+        // 호출하지 않을 요청이 토큰과 하루 호출 수를 사용하지 않도록 허가를 받기 전에 확인
+        if (!circuitBreaker.isCallPermitted()) {
+            return CompletableFuture.failedFuture(new IllegalStateException(BookMessage.API_ERROR.getMessage()));
+        }
+        if (bulkhead.availablePermits() == 0) {
+            return CompletableFuture.failedFuture(new IllegalStateException(BookMessage.API_BUSY.getMessage()));
+        }
+
+        return rateLimiter.acquire(priority)
+                .exceptionally(e -> {
+                    log.warn("naver search api rate limited keyword = {}, priority = {}", searchBookRequest.getKeyword(), priority);
+                    BookMessage message = rateLimiter.isDailyLimitExhausted() ? BookMessage.API_QUOTA_EXCEEDED : BookMessage.API_BUSY;
+                    throw new CompletionException(new IllegalStateException(message.getMessage(), e));
+                })
+                .thenCompose(permit -> call(searchBookRequest));
+    }
 
-    @Value("${naver.client.secret}")
-    private String clientSecret;
+    /**
+     * 동시 호출 수가 최대인 경우, 서킷 브레이커가 열려있는 경우 호출하지 않고 실패한 결과를 반환합니다.
+     * 허가를 기다리는 동안 상태가 바뀌어 호출하지 않은 경우 받은 허가를 반환합니다.
+     */
+    private CompletableFuture<SearchBookResponse> call(SearchApiBookRequest searchBookRequest) {
+        if (!bulkhead.tryAcquire()) {
+            rateLimiter.refund();
+            return CompletableFuture.failedFuture(new IllegalStateException(BookMessage.API_BUSY.getMessage()));
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            rateLimiter.refund();
+            return CompletableFuture.failedFuture(new IllegalStateException(BookMessage.API_ERROR.getMessage()));
+        }
 
-    @Value("${naver.url}")
-    private String bookSearchUrl;
+        CompletableFuture<HttpResponse<byte[]>> response;
+        try {
+            response = httpClient.sendAsync(buildRequest(searchBookRequest), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            circuitBreaker.onFailure();
+            return CompletableFuture.failedFuture(e);
+        }
 
-    public SearchBookResponse searchBook(SearchApiBookRequest searchBookRequest) {
-        var uri = UriComponentsBuilder.fromUriString(bookSearchUrl)
+        return response.handle((result, e) -> {
+            bulkhead.release();
+            if (e != null) {
+                // 연결 실패, 응답 시간 초과
+                circuitBreaker.onFailure();
+                log.warn("naver search api failed keyword = {}, error = {}", searchBookRequest.getKeyword(), e.getMessage());
+                throw new CompletionException(new IllegalStateException(BookMessage.API_ERROR.getMessage(), e));
+            }
+            return readResponse(searchBookRequest, result);
+        });
+    }
+
+    private HttpRequest buildRequest(SearchApiBookRequest searchBookRequest) {
+        URI uri = UriComponentsBuilder.fromUriString(bookSearchUrl)
                 .queryParams(searchBookRequest.toMultiValueMap())
                 .build()
                 .encode()
                 .toUri();
 
-        var headers = new HttpHeaders();
-        headers.set("X-Naver-Client-Id", clientId);
-        headers.set("X-Naver-Client-Secret", clientSecret);
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        return HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .header("X-Naver-Client-Id", clientId)
+                .header("X-Naver-Client-Secret", clientSecret)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .GET()
+                .build();
+    }
+
+    private SearchBookResponse readResponse(SearchApiBookRequest searchBookRequest, HttpResponse<byte[]> result) {
+        int status = result.statusCode();
+        if (status >= 500 || status == 429) {
+            // 네이버 서버 장애, 호출 한도 초과만 서킷 브레이커의 실패로 기록
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+        if (status != 200) {
+            log.warn("naver search api error keyword = {}, status = {}", searchBookRequest.getKeyword(), status);
+            throw new CompletionException(new IllegalStateException(BookMessage.API_ERROR.getMessage()));
+        }
 
-        var httpEntity = new HttpEntity<>(headers);
-        var responseType = new ParameterizedTypeReference<SearchBookResponse>(){};
-        var responseEntity = new RestTemplate().exchange(
-                uri, HttpMethod.GET, httpEntity, responseType);
+        try {
+            return responseReader.readValue(result.body());
+        } catch (IOException e) {
+            throw new CompletionException(new IllegalStateException(BookMessage.API_ERROR.getMessage(), e));
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
 
-        return responseEntity.getBody();
+    public TokenBucketRateLimiter.Stats getRateLimitStats() {
+        return rateLimiter.getStats();
     }
 }
@@ -1,35 +1,54 @@
 package com.plee.library.controller.admin;
 
 import com.plee.library.dto.admin.request.DeleteBookRequest;
+import com.plee.library.dto.admin.request.ExportFormat;
+import com.plee.library.dto.admin.request.LoanStatsPeriod;
+import com.plee.library.dto.admin.request.LoanStatusFilter;
 import com.plee.library.dto.admin.request.SearchBookRequest;
 import com.plee.library.dto.admin.request.UpdateBookRequest;
 import com.plee.library.dto.admin.request.UpdateMemberRequest;
 import com.plee.library.dto.admin.response.LoanStatusResponse;
+import com.plee.library.dto.admin.response.LoanDailyStatsResponse;
 import com.plee.library.dto.admin.response.LoanDailyStatusResponse;
 import com.plee.library.dto.admin.response.RequestStatusResponse;
 import com.plee.library.dto.book.request.SaveBookRequest;
 import com.plee.library.dto.admin.response.BooksResponse;
+import com.plee.library.dto.admin.response.CatalogImportResult;
 import com.plee.library.dto.admin.response.MemberStatusResponse;
 import com.plee.library.dto.book.response.CategoryResponse;
 import com.plee.library.util.message.BookMessage;
 import com.plee.library.util.message.MemberMessage;
 import com.plee.library.service.book.BookService;
+import com.plee.library.service.book.NaverBookSearchCache;
+import com.plee.library.service.book.ReferenceDataCache;
+import com.plee.library.service.catalog.CatalogImportService;
+import com.plee.library.service.export.HistoryExportService;
 import com.plee.library.service.member.MemberService;
+import com.plee.library.util.resilience.TokenBucketRateLimiter;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -44,6 +63,10 @@ public class AdminController {
 
     private final MemberService memberService;
 
+    private final HistoryExportService historyExportService;
+
+    private final CatalogImportService catalogImportService;
+
     // 도서 추가 뷰를 카테고리 정보와 함께 반환합니다.
     @GetMapping("/new-book")
     public String addBookForm(Model model) {
@@ -76,11 +99,36 @@ public class AdminController {
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
+    // CSV 또는 JSON Lines 형식의 도서 목록 파일로 도서를 일괄 입고처리합니다.
+    @PostMapping("/books/import")
+    @ResponseBody
+    public ResponseEntity<Object> importBooks(@RequestParam("file") MultipartFile file,
+                                              @RequestParam(value = "format", defaultValue = "CSV") ExportFormat format) {
+        log.info("ADMIN POST importBooks request, file = {}, format = {}", file.getOriginalFilename(), format);
+        try (InputStream in = file.getInputStream()) {
+            CatalogImportResult result = catalogImportService.importCatalog(format, in);
+            return ResponseEntity.ok(result);
+        } catch (IOException | IllegalArgumentException e) {
+            // 파일을 읽을 수 없거나 필수 열이 없는 경우
+            log.warn("ADMIN POST importBooks request failed = {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(BookMessage.INVALID_IMPORT_FILE.getMessage());
+        }
+    }
+
     // 전체 도서 목록 페이지를 반환합니다.
     @GetMapping("/books")
-    public String allBooks(@PageableDefault(size = 10, sort = "createdAt", direction = DESC) Pageable pageable, Model model) {
+    public String allBooks(@PageableDefault(size = 10, sort = "createdAt", direction = DESC) Pageable pageable,
+                           @RequestParam(value = "cursor", required = false) String cursor, RedirectAttributes redirectAttributes, Model model) {
         log.info("ADMIN GET allBooks request");
-        Page<BooksResponse> response = bookService.findBooks(pageable);
+        Page<BooksResponse> response;
+        try {
+            response = bookService.findBooks(cursor, pageable);
+        } catch (IllegalArgumentException e) {
+            // 올바르지 않은 커서인 경우
+            log.warn("ADMIN GET allBooks request failed = {}", e.getMessage());
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+            return "redirect:/admin/books";
+        }
         List<CategoryResponse> categories = bookService.findCategories();
 
         model.addAttribute("books", response);
@@ -207,20 +255,88 @@ public class AdminController {
 
     // 대출 현황 페이지를 반환합니다.
     @GetMapping("/loan")
-    public String loanStatus(@PageableDefault(size = 10, sort = "createdAt", direction = DESC) Pageable pageable, Model model) {
-        log.info("ADMIN GET LoanStatus request");
-        // 모든 대출 내역 조회
-        Page<LoanStatusResponse> loanHistory = bookService.findAllLoanHistory(pageable);
+    public String loanStatus(@PageableDefault(size = 10, sort = "createdAt", direction = DESC) Pageable pageable,
+                             @RequestParam(value = "status", required = false) LoanStatusFilter status,
+                             @RequestParam(value = "cursor", required = false) String cursor, RedirectAttributes redirectAttributes, Model model) {
+        log.info("ADMIN GET LoanStatus request status = {}", status);
+        // 상태 조건에 해당하는 대출 내역 조회
+        Page<LoanStatusResponse> loanHistory;
+        try {
+            loanHistory = bookService.findAllLoanHistory(status, cursor, pageable);
+        } catch (IllegalArgumentException e) {
+            // 올바르지 않은 커서인 경우
+            log.warn("ADMIN GET LoanStatus request failed = {}", e.getMessage());
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+            return "redirect:/admin/loan";
+        }
 
         // 최근 5일간 대출 빈도수 차트 데이터
         LoanDailyStatusResponse data = bookService.calculateDailyLoanCounts();
 
         model.addAttribute("loanHistory", loanHistory);
+        model.addAttribute("status", status);
         model.addAttribute("data", data);
         model.addAttribute("selectedMenu", "admin-loan-status");
         return "admin/loanStatus";
     }
 
+    // 기간별 날짜별 대출 통계를 반환합니다.
+    @GetMapping("/loan/stats")
+    @ResponseBody
+    public ResponseEntity<List<LoanDailyStatsResponse>> loanStats(@RequestParam(value = "period", defaultValue = "WEEK") LoanStatsPeriod period,
+                                                                  @RequestParam(value = "endDate", required = false)
+                                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        log.info("ADMIN GET loanStats request period = {}, endDate = {}", period, endDate);
+        List<LoanDailyStatsResponse> response = bookService.findLoanStats(period, endDate != null ? endDate : LocalDate.now());
+        return ResponseEntity.ok(response);
+    }
+
+    // 전체 대출 이력을 gzip 으로 압축하여 내려받습니다.
+    @GetMapping("/loan/export")
+    public ResponseEntity<StreamingResponseBody> exportLoanHistory(@RequestParam(value = "format", defaultValue = "CSV") ExportFormat format) {
+        log.info("ADMIN GET exportLoanHistory request format = {}", format);
+        return exportResponse("loan-history", format, out -> historyExportService.exportLoanHistory(format, out));
+    }
+
+    // 전체 신규 도서 요청 이력을 gzip 으로 압축하여 내려받습니다.
+    @GetMapping("/request/export")
+    public ResponseEntity<StreamingResponseBody> exportRequestHistory(@RequestParam(value = "format", defaultValue = "CSV") ExportFormat format) {
+        log.info("ADMIN GET exportRequestHistory request format = {}", format);
+        return exportResponse("request-history", format, out -> historyExportService.exportRequestHistory(format, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportResponse(String name, ExportFormat format, StreamingResponseBody body) {
+        String filename = name + "-" + LocalDate.now() + "." + format.getExtension() + ".gz";
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .body(body);
+    }
+
+    // 네이버 도서 검색 API 캐시 통계를 반환합니다.
+    @GetMapping("/api-cache/stats")
+    @ResponseBody
+    public ResponseEntity<NaverBookSearchCache.Stats> searchApiCacheStats() {
+        log.info("ADMIN GET searchApiCacheStats request");
+        return ResponseEntity.ok(bookService.getSearchApiCacheStats());
+    }
+
+    // 네이버 도서 검색 API 호출 한도 사용 통계를 반환합니다.
+    @GetMapping("/api-quota/stats")
+    @ResponseBody
+    public ResponseEntity<TokenBucketRateLimiter.Stats> searchApiQuotaStats() {
+        log.info("ADMIN GET searchApiQuotaStats request");
+        return ResponseEntity.ok(bookService.getSearchApiQuotaStats());
+    }
+
+    // 카테고리 목록과 최근 입고된 도서 목록 캐시 통계를 반환합니다.
+    @GetMapping("/reference-cache/stats")
+    @ResponseBody
+    public ResponseEntity<ReferenceDataCache.Stats> referenceDataCacheStats() {
+        log.info("ADMIN GET referenceDataCacheStats request");
+        return ResponseEntity.ok(bookService.getReferenceDataCacheStats());
+    }
+
     // 신규 도서 요청 페이지를 반환합니다.
     @GetMapping("/request")
     public String requestHistory(@PageableDefault(size = 10, sort = "createdAt", direction = DESC) Pageable pageable, Model model) {
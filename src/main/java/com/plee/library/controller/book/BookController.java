@@ -1,7 +1,7 @@
 package com.plee.library.controller.book;
 
 import com.plee.library.annotation.CurrentMember;
-import com.plee.library.domain.member.Member;
+import com.plee.library.config.LoginMember;
 import com.plee.library.dto.book.request.AddBookRequest;
 import com.plee.library.dto.book.request.BookmarkRequest;
 import com.plee.library.dto.book.request.ReturnBookRequest;
@@ -9,6 +9,8 @@ import com.plee.library.dto.book.request.SearchKeywordBookRequest;
 import com.plee.library.dto.book.response.*;
 import com.plee.library.util.message.BookMessage;
 import com.plee.library.service.book.BookService;
+import com.plee.library.service.book.CatalogVersion;
+import com.plee.library.util.web.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,10 +23,13 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.springframework.data.domain.Sort.Direction.DESC;
 
@@ -34,13 +39,18 @@ import static org.springframework.data.domain.Sort.Direction.DESC;
 @RequestMapping("/books")
 public class BookController {
     private final BookService bookService;
+    private final CatalogVersion catalogVersion;
 
     // 전체 도서 목록 페이지를 반환합니다.
     @GetMapping
     public String allBooks(@PageableDefault(size = 5, sort = "createdAt", direction = DESC) Pageable pageable,
-                           @CurrentMember Member member, Model model) {
+                           @CurrentMember LoginMember member, ServletWebRequest webRequest, Model model) {
         log.info("GET allBooks request");
-        Page<BooksMarkResponse> response = bookService.findBooksWithMark(member.getId(), pageable);
+        // 이전에 받은 화면 이후 변경된 정보가 없는 경우 조회 없이 304 응답
+        if (ConditionalGet.checkNotModified(webRequest, catalogVersion.tag())) {
+            return null;
+        }
+        Page<BooksMarkResponse> response = bookService.findBooksWithMark(member.id(), pageable);
         List<CategoryResponse> categories = bookService.findCategories();
 
         // 페이징된 도서 정보와 메뉴 정보를 모델에 담아 반환
@@ -53,12 +63,15 @@ public class BookController {
 
     // 도서 상세 뷰를 반환합니다.
     @GetMapping("/{bookId}")
-    public String bookDetail(@PathVariable("bookId") Long bookId, Model model, @CurrentMember Member member,
-                             RedirectAttributes redirectAttributes) {
-        log.info("GEP bookDetail bookId = {}, member = {}", bookId, member.getLoginId());
+    public String bookDetail(@PathVariable("bookId") Long bookId, Model model, @CurrentMember LoginMember member,
+                             ServletWebRequest webRequest, RedirectAttributes redirectAttributes) {
+        log.info("GEP bookDetail bookId = {}, member = {}", bookId, member.loginId());
+        if (ConditionalGet.checkNotModified(webRequest, catalogVersion.bookTag(bookId))) {
+            return null;
+        }
         try {
             // 도서 상세 정보와 회원의 도서 대출 정보, 찜 여부 정보를 받아 반환
-            BookDetailResponse response = bookService.getBookDetails(member.getId(), bookId);
+            BookDetailResponse response = bookService.getBookDetails(member.id(), bookId);
             model.addAttribute("response", response);
         } catch (NoSuchElementException e) {
             // 도서 정보를 찾을 수 없는 경우, 에러 메세지를 담아 리다이렉트
@@ -73,7 +86,7 @@ public class BookController {
     @GetMapping("/search")
     public String searchBookByKeyword(@Valid @ModelAttribute("searchBookRequest") SearchKeywordBookRequest request, BindingResult bindingResult,
                                       @PageableDefault(size = 5, sort = "createdAt", direction = DESC) Pageable pageable,
-                                      @CurrentMember Member member, RedirectAttributes redirectAttributes, Model model) {
+                                      @CurrentMember LoginMember member, RedirectAttributes redirectAttributes, Model model) {
         log.info("GET searchBookByKeyword keyword = {}", request.getKeyword());
         if (bindingResult.hasErrors()) {
             log.warn("searchBookByKeyword validation error");
@@ -85,19 +98,25 @@ public class BookController {
         }
 
         // 페이징된 검색 결과를 모델에 담아 반환
-        Page<BooksMarkResponse> books = bookService.findBySearchKeyword(request, member.getId(), pageable);
+        Page<BooksMarkResponse> books = bookService.findBySearchKeyword(request, member.id(), pageable);
         model.addAttribute("books", books);
+        // 검색 결과 수를 추정하는 경우, 최대 수를 초과한 결과는 "1000+" 처럼 표시
+        model.addAttribute("countLimit", bookService.getSearchCountLimit());
         return "book/searchBookList";
     }
 
     // 카테고리별 도서 조회 결과를 반환합니다.
     @GetMapping("/category/{categoryId}")
     public String searchBookByCategory(@PathVariable("categoryId") Long categoryId, @PageableDefault(size = 5, sort = "createdAt", direction = DESC) Pageable pageable,
-                                       @CurrentMember Member member, RedirectAttributes redirectAttributes, Model model) {
+                                       @CurrentMember LoginMember member, ServletWebRequest webRequest,
+                                       RedirectAttributes redirectAttributes, Model model) {
         log.info("GET searchBookByCategory categoryId = {}", categoryId);
+        if (ConditionalGet.checkNotModified(webRequest, catalogVersion.tag())) {
+            return null;
+        }
         try {
             // 특정 카테고리의 도서와 카테고리 정보 조회
-            Page<BooksMarkResponse> response = bookService.findBooksByCategoryWithMark(categoryId, member.getId(), pageable);
+            Page<BooksMarkResponse> response = bookService.findBooksByCategoryWithMark(categoryId, member.id(), pageable);
             List<CategoryResponse> categories = bookService.findCategories();
 
             // 도서 정보와 카테고리 정보, 메뉴 정보를 모델에 담아 반환
@@ -115,9 +134,9 @@ public class BookController {
 
     // 대출 기록 페이지를 반환합니다.
     @GetMapping("/loan")
-    public String loanHistory(@PageableDefault(size = 5, sort = "createdAt", direction = DESC) Pageable pageable, @CurrentMember Member member, Model model) {
-        log.info("GET loanHistory member = {}", member.getLoginId());
-        Page<LoanHistoryResponse> loanHistory = bookService.findLoanHistory(member.getId(), pageable);
+    public String loanHistory(@PageableDefault(size = 5, sort = "createdAt", direction = DESC) Pageable pageable, @CurrentMember LoginMember member, Model model) {
+        log.info("GET loanHistory member = {}", member.loginId());
+        Page<LoanHistoryResponse> loanHistory = bookService.findLoanHistory(member.id(), pageable);
 
         model.addAttribute("loanHistory", loanHistory);
         model.addAttribute("onLoan", false);
@@ -127,9 +146,9 @@ public class BookController {
 
     // 현재 대출중인 도서 기록을 반환합니다.
     @GetMapping("/on-loan")
-    public String onLoanHistory(@CurrentMember Member member, Model model) {
-        log.info("GET onLoanHistory member = {}", member.getLoginId());
-        Page<LoanHistoryResponse> loanHistory = bookService.findOnLoanHistory(member.getId());
+    public String onLoanHistory(@CurrentMember LoginMember member, Model model) {
+        log.info("GET onLoanHistory member = {}", member.loginId());
+        Page<LoanHistoryResponse> loanHistory = bookService.findOnLoanHistory(member.id());
 
         model.addAttribute("loanHistory", loanHistory);
         model.addAttribute("onLoan", true);
@@ -139,10 +158,10 @@ public class BookController {
 
     // 도서 대출 요청을 처리합니다.
     @PostMapping("/loan")
-    public String loanBook(@RequestParam("bookId") Long bookId, @CurrentMember Member member, RedirectAttributes redirectAttributes) {
-        log.info("POST loanBook request bookId = {}, loginId = {}", bookId, member.getLoginId());
+    public String loanBook(@RequestParam("bookId") Long bookId, @CurrentMember LoginMember member, RedirectAttributes redirectAttributes) {
+        log.info("POST loanBook request bookId = {}, loginId = {}", bookId, member.loginId());
         try {
-            bookService.loanBook(bookId, member.getId());
+            bookService.loanBook(bookId, member.id());
             redirectAttributes.addFlashAttribute("successMessage", BookMessage.SUCCESS_LOAN_BOOK.getMessage());
         } catch (Exception e) {
             log.warn("loanBook error = {}", e.getMessage());
@@ -155,10 +174,10 @@ public class BookController {
 
     // 대출 도서 반납 요청을 처리합니다.
     @PutMapping("/return")
-    public String returnBook(@ModelAttribute("returnBookRequest") ReturnBookRequest request, @CurrentMember Member member, RedirectAttributes redirectAttributes) {
+    public String returnBook(@ModelAttribute("returnBookRequest") ReturnBookRequest request, @CurrentMember LoginMember member, RedirectAttributes redirectAttributes) {
         log.info("PUT returnBook historyId = {} book = {}", request.getHistoryId(), request.getBookInfoIsbn());
         try {
-            bookService.returnBook(request, member.getId());
+            bookService.returnBook(request, member.id());
             redirectAttributes.addFlashAttribute("successMessage", BookMessage.SUCCESS_RETURN_BOOK.getMessage());
         } catch (NoSuchElementException e) {
             log.warn("returnBook error = {}", e.getMessage());
@@ -189,19 +208,19 @@ public class BookController {
         return "redirect:/books/loan";
     }
 
-    // 네이버 검색 api를 사용하여 도서를 검색합니다.
+    // 네이버 검색 api를 사용하여 도서를 검색합니다. 응답을 기다리는 동안 요청 스레드를 반환합니다.
     @GetMapping("/api/book")
     @ResponseBody
-    public ResponseEntity<Object> searchBooksByApi(@RequestParam("keyword") String keyword) {
+    public CompletableFuture<ResponseEntity<Object>> searchBooksByApi(@RequestParam("keyword") String keyword, @CurrentMember LoginMember member) {
         log.info("GET searchBooksByApi keyword = {}", keyword);
-        try {
-            SearchBookResponse response = bookService.findBySearchApi(keyword);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            // 네이버 서버 에러가 발생한 경우
-            log.error("searchBooksByApi error = {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        }
+        return bookService.findBySearchApi(keyword, member.role())
+                .<ResponseEntity<Object>>thenApply(ResponseEntity::ok)
+                .exceptionally(e -> {
+                    // 네이버 서버 에러가 발생한 경우
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    log.error("searchBooksByApi error = {}", cause.getMessage());
+                    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(cause.getMessage());
+                });
     }
 
     // 신규 도서 요청 뷰를 반환합니다.
@@ -213,8 +232,8 @@ public class BookController {
 
     // 신규 도서 요청을 처리합니다.
     @PostMapping("/request")
-    public ResponseEntity<String> requestNewBook(@Valid @RequestBody AddBookRequest request, BindingResult bindingResult, @CurrentMember Member member) {
-        log.info("POST requestNewBook request member = {}", member.getId());
+    public ResponseEntity<String> requestNewBook(@Valid @RequestBody AddBookRequest request, BindingResult bindingResult, @CurrentMember LoginMember member) {
+        log.info("POST requestNewBook request member = {}", member.id());
         // 유효성 검증 실패 시 에러 메시지 반환
         if (bindingResult.hasErrors()) {
             log.warn("POST requestNewBook validation error");
@@ -223,7 +242,7 @@ public class BookController {
         }
 
         try {
-            bookService.addNewBookRequest(request, member.getId());
+            bookService.addNewBookRequest(request, member.id());
         } catch (Exception e) {
             log.warn("POST requestNewBook error = {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
@@ -233,9 +252,9 @@ public class BookController {
 
     // 도서 요청 기록 페이지를 반환합니다.
     @GetMapping("/request/history")
-    public String requestHistory(@PageableDefault(size = 5, sort = "createdAt", direction = DESC) Pageable pageable, @CurrentMember Member member, Model model) {
-        log.info("GET requestHistory member = {}", member.getLoginId());
-        Page<RequestHistoryResponse> response = bookService.findMemberRequestHistory(member.getId(), pageable);
+    public String requestHistory(@PageableDefault(size = 5, sort = "createdAt", direction = DESC) Pageable pageable, @CurrentMember LoginMember member, Model model) {
+        log.info("GET requestHistory member = {}", member.loginId());
+        Page<RequestHistoryResponse> response = bookService.findMemberRequestHistory(member.id(), pageable);
 
         model.addAttribute("requestHistory", response);
         model.addAttribute("selectedMenu", "member-request-history");
@@ -245,10 +264,10 @@ public class BookController {
     // 도서 찜 추가 요청을 처리합니다.
     @PostMapping("/like/{bookId}")
     public String addBookMark(@PathVariable Long bookId, @ModelAttribute BookmarkRequest request,
-                              @CurrentMember Member member, RedirectAttributes redirectAttributes) {
-        log.info("POST likeBook member = {}, bookId = {}", member.getLoginId(), bookId);
+                              @CurrentMember LoginMember member, RedirectAttributes redirectAttributes) {
+        log.info("POST likeBook member = {}, bookId = {}", member.loginId(), bookId);
         try {
-            bookService.addBookmark(member.getId(), bookId);
+            bookService.addBookmark(member.id(), bookId);
         } catch (Exception e) {
             log.warn("POST likeBook error = {}", e.getMessage());
             redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
@@ -274,10 +293,10 @@ public class BookController {
     // 도서 찜 해제 요청을 처리합니다.
     @DeleteMapping("/unlike/{bookId}")
     public String removeBookmark(@PathVariable Long bookId, @ModelAttribute BookmarkRequest request,
-                                 @CurrentMember Member member, RedirectAttributes redirectAttributes) {
-        log.info("DELETE unlikeBook member = {}, bookId = {}", member.getLoginId(), bookId);
+                                 @CurrentMember LoginMember member, RedirectAttributes redirectAttributes) {
+        log.info("DELETE unlikeBook member = {}, bookId = {}", member.loginId(), bookId);
         try {
-            bookService.removeBookmark(member.getId(), bookId);
+            bookService.removeBookmark(member.id(), bookId);
         } catch (Exception e) {
             log.warn("DELETE unlikeBook error = {}", e.getMessage());
             redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
@@ -313,9 +332,9 @@ public class BookController {
     // 도서 찜 목록 페이지를 반환합니다.
     @GetMapping("/like")
     public String bookmarkList(@PageableDefault(size = 5, sort = "createdAt", direction = DESC) Pageable pageable,
-                               @CurrentMember Member member, Model model) {
-        log.info("GET likeBookList member = {}", member.getLoginId());
-        Page<MarkedBooksResponse> response = bookService.findBookmarked(member.getId(), pageable);
+                               @CurrentMember LoginMember member, Model model) {
+        log.info("GET likeBookList member = {}", member.loginId());
+        Page<MarkedBooksResponse> response = bookService.findBookmarked(member.id(), pageable);
 
         model.addAttribute("likedBooks", response);
         model.addAttribute("selectedMenu", "liked-books");
@@ -2,11 +2,14 @@ package com.plee.library.controller.home;
 
 import com.plee.library.dto.book.response.BookInfoResponse;
 import com.plee.library.service.book.BookService;
+import com.plee.library.service.book.CatalogVersion;
+import com.plee.library.util.web.ConditionalGet;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -15,9 +18,14 @@ import java.util.List;
 public class HomeController {
 
     private final BookService bookService;
+    private final CatalogVersion catalogVersion;
 
     @GetMapping("/")
-    public String home(Model model) {
+    public String home(ServletWebRequest webRequest, Model model) {
+        // 최근 입고된 도서가 바뀌지 않은 경우 조회 없이 304 응답
+        if (ConditionalGet.checkNotModified(webRequest, catalogVersion.tag())) {
+            return null;
+        }
         List<BookInfoResponse> response = bookService.findNewBooks();
         model.addAttribute("newBooks", response);
         return "index";
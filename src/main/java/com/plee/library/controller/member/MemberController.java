@@ -1,7 +1,7 @@
 package com.plee.library.controller.member;
 
 import com.plee.library.annotation.CurrentMember;
-import com.plee.library.domain.member.Member;
+import com.plee.library.config.LoginMember;
 import com.plee.library.dto.member.request.SignUpMemberRequest;
 import com.plee.library.dto.admin.request.UpdateMemberRequest;
 import com.plee.library.dto.member.response.MemberInfoResponse;
@@ -75,9 +75,9 @@ public class MemberController {
 
     // 회원 정보 수정 페이지를 반환합니다.
     @GetMapping("/edit")
-    public String editInfoForm(@CurrentMember Member member, Model model) {
-        log.info("GET editInfoForm request memberId = {}", member.getLoginId());
-        MemberInfoResponse memberInfoResponse = memberService.findMember(member.getId());
+    public String editInfoForm(@CurrentMember LoginMember member, Model model) {
+        log.info("GET editInfoForm request memberId = {}", member.loginId());
+        MemberInfoResponse memberInfoResponse = memberService.findMember(member.id());
 
         model.addAttribute("member", memberInfoResponse);
         model.addAttribute("selectedMenu", "member-edit-info");
@@ -86,17 +86,17 @@ public class MemberController {
 
     // 현재 비밀번호와 입력받은 비밀번호의 일치 여부 확인 요청을 처리합니다.
     @GetMapping("/edit/current-password")
-    public ResponseEntity<Boolean> checkCurrentPassword(@RequestParam("currentPassword") String currentPassword, @CurrentMember Member member) {
-        log.info("GET checkCurrentPassword request member = {}", member.getLoginId());
-        boolean isPasswordMatched = memberService.checkCurrentPassword(currentPassword, member.getId());
+    public ResponseEntity<Boolean> checkCurrentPassword(@RequestParam("currentPassword") String currentPassword, @CurrentMember LoginMember member) {
+        log.info("GET checkCurrentPassword request member = {}", member.loginId());
+        boolean isPasswordMatched = memberService.checkCurrentPassword(currentPassword, member.id());
         return ResponseEntity.ok(isPasswordMatched);
     }
 
     // 회원 정보 변경 요청을 처리합니다.
     @PutMapping("/edit/{memberId}")
     public ResponseEntity<String> editInfo(@PathVariable Long memberId, @Valid @RequestBody UpdateMemberRequest request,
-                                           BindingResult bindingResult, @CurrentMember Member member) {
-        log.info("PUT editInfo request member = {}", member.getLoginId());
+                                           BindingResult bindingResult, @CurrentMember LoginMember member) {
+        log.info("PUT editInfo request member = {}", member.loginId());
 
         // 유효성 검증 실패 시 에러 메시지 반환
         if (bindingResult.hasErrors()) {
@@ -106,7 +106,7 @@ public class MemberController {
         }
 
         // 현재 접속된 회원과 수정하려는 회원이 같은지 확인
-        if (!member.getId().equals(memberId)) {
+        if (!member.id().equals(memberId)) {
             return ResponseEntity.badRequest().body(MemberMessage.INVALID_ACCESS.getMessage());
         }
 
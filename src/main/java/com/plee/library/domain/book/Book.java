@@ -7,11 +7,14 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+
+import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "book")
+@Table(name = "book", indexes = {@Index(name = "idx_book_created_at_seq", columnList = "created_at, book_seq")})
 public class Book extends BaseTimeEntity {
 
     @Id
@@ -33,6 +36,11 @@ public class Book extends BaseTimeEntity {
     @JoinColumn(name = "book_category_seq", nullable = false)
     private BookCategory bookCategory;
 
+    // 상세 화면의 ETag 에 사용, 대출 가능한 수량을 조건부 UPDATE 로 바꾸는 경우에도 함께 갱신
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @Builder
     public Book(Long id, BookInfo bookInfo, int quantity, BookCategory category) {
         this.id = id;
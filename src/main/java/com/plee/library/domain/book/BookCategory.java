@@ -6,6 +6,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -13,6 +15,9 @@ import java.util.Set;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Cacheable
+// 2차 캐시는 노드마다 따로 유지되므로, 다른 노드의 변경은 캐시 유지 시간(application.conf)이 지난 뒤 반영
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "book-category")
 @Table(name = "book_category", uniqueConstraints = {@UniqueConstraint(name = "category_name_unique", columnNames = {"category_name"})})
 public class BookCategory extends BaseTimeEntity {
     @Id
@@ -6,11 +6,20 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.domain.Persistable;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Cacheable
+// 2차 캐시는 노드마다 따로 유지되므로, 다른 노드의 변경은 캐시 유지 시간(application.conf)이 지난 뒤 반영
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "book-info")
 @Table(name = "book_info")
 public class BookInfo extends BaseTimeEntity implements Persistable<String> {
 
@@ -36,6 +45,11 @@ public class BookInfo extends BaseTimeEntity implements Persistable<String> {
     @Column(name = "pub_date")
     private String pubDate;
 
+    // 상세 화면의 ETag 에 사용
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @Builder
     public BookInfo(String isbn, String title, String author, String publisher, String image, String description, String pubDate) {
         this.isbn = isbn;
@@ -51,6 +65,21 @@ public class BookInfo extends BaseTimeEntity implements Persistable<String> {
         this.author = author;
     }
 
+    /**
+     * 네이버 도서 검색 결과로 표지, 소개, 출간일을 채웁니다. 검색 결과에 값이 없는 항목은 기존 값을 유지합니다.
+     */
+    public void enrich(String image, String description, String pubDate) {
+        if (StringUtils.hasText(image)) {
+            this.image = image;
+        }
+        if (StringUtils.hasText(description)) {
+            this.description = description;
+        }
+        if (StringUtils.hasText(pubDate)) {
+            this.pubDate = pubDate;
+        }
+    }
+
     @Override
     public String getId() {
         return isbn;
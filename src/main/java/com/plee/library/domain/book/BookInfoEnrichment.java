@@ -0,0 +1,59 @@
+package com.plee.library.domain.book;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 네이버 도서 검색 API 로 도서 정보를 보완할 ISBN 의 대기열입니다.
+ * 보완에 실패하면 실패 횟수에 따라 대기 시간을 늘려 다시 시도합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "book_info_enrichment", indexes = {@Index(name = "idx_enrichment_next_attempt", columnList = "next_attempt_at")})
+public class BookInfoEnrichment {
+
+    // 첫 재시도 대기 시간, 실패할 때마다 두 배로 증가
+    private static final Duration BASE_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    @Id
+    @Column(name = "book_info_isbn", length = 13)
+    private String isbn;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public BookInfoEnrichment(String isbn, LocalDateTime createdAt) {
+        this.isbn = isbn;
+        this.nextAttemptAt = createdAt;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 실패를 기록하고, 실패 횟수에 따라 다음 시도 시간을 늦춥니다.
+     *
+     * @param error    실패 사유
+     * @param failedAt 실패한 시간
+     */
+    public void retryLater(String error, LocalDateTime failedAt) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= 255 ? error : error.substring(0, 255);
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 10));
+        this.nextAttemptAt = failedAt.plus(backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff);
+    }
+}
@@ -0,0 +1,34 @@
+package com.plee.library.domain.book;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 도서 목록, 상세 화면에 표시되는 정보의 변경 번호입니다.
+ * 모든 노드가 같은 번호를 사용하도록 하나의 행으로 DB 에 저장합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "catalog_revision")
+public class CatalogRevision {
+
+    public static final Long ID = 1L;
+
+    @Id
+    @Column(name = "catalog_revision_seq")
+    private Long id;
+
+    // 조건부 UPDATE 로만 증가
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    public CatalogRevision(Long id) {
+        this.id = id;
+    }
+}
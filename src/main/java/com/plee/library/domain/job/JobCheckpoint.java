@@ -0,0 +1,62 @@
+package com.plee.library.domain.job;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "job_checkpoint")
+public class JobCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(name = "scheduled_at", nullable = false)
+    private LocalDateTime scheduledAt;
+
+    @Column(name = "last_processed_seq", nullable = false)
+    private Long lastProcessedId;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public JobCheckpoint(String jobName, LocalDateTime scheduledAt) {
+        this.jobName = jobName;
+        restart(scheduledAt);
+    }
+
+    /**
+     * 같은 실행 시간의 작업이 완료되지 않고 중단된 경우, 이어서 처리할 수 있습니다.
+     */
+    public boolean isResumable(LocalDateTime scheduledAt) {
+        return !completed && this.scheduledAt.equals(scheduledAt);
+    }
+
+    public void restart(LocalDateTime scheduledAt) {
+        this.scheduledAt = scheduledAt;
+        this.lastProcessedId = 0L;
+        this.completed = false;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advance(Long lastProcessedId) {
+        this.lastProcessedId = lastProcessedId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,38 @@
+package com.plee.library.domain.job;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "job_lock")
+public class JobLock {
+
+    @Id
+    @Column(name = "lock_name", length = 50)
+    private String lockName;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by")
+    private String lockedBy;
+
+    // 잠금을 획득할 때마다 1씩 증가하며, 잠금을 잃은 노드의 변경을 막는 데 사용
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+
+    public JobLock(String lockName) {
+        this.lockName = lockName;
+        this.lockedUntil = LocalDateTime.now();
+        this.fencingToken = 0L;
+    }
+}
@@ -40,6 +40,11 @@ public class Member extends BaseTimeEntity {
     @Column(name = "role", nullable = false)
     private Role role;
 
+    // 대출 한도 확인을 위한 대출중인 도서 수로, 조건부 UPDATE 로만 변경
+    @ColumnDefault("0")
+    @Column(name = "active_loan_count", nullable = false, insertable = false, updatable = false)
+    private int activeLoanCount;
+
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<MemberLoanHistory> memberLoanHistories = new ArrayList<>();
 
@@ -67,8 +72,10 @@ public class Member extends BaseTimeEntity {
         this.memberBookmarks.add(new MemberBookmark(this, book));
     }
 
-    public void loanBook(Book book) {
-        this.memberLoanHistories.add(new MemberLoanHistory(this, book.getBookInfo()));
+    public MemberLoanHistory loanBook(Book book) {
+        MemberLoanHistory history = new MemberLoanHistory(this, book.getBookInfo());
+        this.memberLoanHistories.add(history);
+        return history;
     }
 
     public void changeRole(Role role) {
@@ -12,11 +12,17 @@ import org.hibernate.annotations.DynamicInsert;
 
 import java.time.LocalDateTime;
 
+import static com.plee.library.util.constant.Constant.LOAN_PERIOD;
+import static com.plee.library.util.constant.Constant.RENEW_PERIOD;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @DynamicInsert
-@Table(name = "member_loan_history")
+@Table(name = "member_loan_history", indexes = {
+        @Index(name = "idx_loan_his_created_at_seq", columnList = "created_at, member_loan_his_seq"),
+        @Index(name = "idx_loan_his_member_isbn_returned", columnList = "member_seq, book_info_isbn, returned_at"),
+        @Index(name = "idx_loan_his_returned_due", columnList = "returned_at, due_at")})
 public class MemberLoanHistory extends BaseTimeEntity {
 
     @Id
@@ -39,15 +45,21 @@ public class MemberLoanHistory extends BaseTimeEntity {
     @Column(name = "returned_at")
     private LocalDateTime returnedAt;
 
+    // 반납 예정일로, 대출 시 정해지고 연장 시 연장 기간만큼 늦춰짐
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
     @Builder
     public MemberLoanHistory(Member member, BookInfo bookInfo) {
         this.member = member;
         this.bookInfo = bookInfo;
         this.createdAt = LocalDateTime.now();
+        this.dueAt = this.createdAt.plusDays(LOAN_PERIOD);
     }
 
     public void doRenew() {
         this.isRenew = true;
+        this.dueAt = this.dueAt.plusDays(RENEW_PERIOD);
     }
 
     public void doReturn() {
@@ -0,0 +1,51 @@
+package com.plee.library.domain.stats;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "loan_daily_stats")
+public class LoanDailyStats {
+
+    @Id
+    @Column(name = "stats_date")
+    private LocalDate statsDate;
+
+    @Column(name = "loan_count", nullable = false)
+    private long loanCount;
+
+    @Column(name = "return_count", nullable = false)
+    private long returnCount;
+
+    @Column(name = "renew_count", nullable = false)
+    private long renewCount;
+
+    @Column(name = "overdue_return_count", nullable = false)
+    private long overdueReturnCount;
+
+    // 아래 통계는 CirculationMetrics 에서 주기적으로 반영
+    @Column(name = "bookmark_count", nullable = false)
+    private long bookmarkCount;
+
+    @Column(name = "failed_cannot_loan_count", nullable = false)
+    private long failedCannotLoanCount;
+
+    @Column(name = "failed_max_loan_count", nullable = false)
+    private long failedMaxLoanCount;
+
+    @Column(name = "failed_already_loaned_count", nullable = false)
+    private long failedAlreadyLoanedCount;
+
+    public LoanDailyStats(LocalDate statsDate) {
+        this.statsDate = statsDate;
+    }
+}
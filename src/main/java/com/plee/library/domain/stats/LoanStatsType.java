@@ -0,0 +1,12 @@
+package com.plee.library.domain.stats;
+
+public enum LoanStatsType {
+    LOAN,
+    RETURN,
+    RENEW,
+    OVERDUE_RETURN,
+    BOOKMARK,
+    LOAN_FAILED_CANNOT_LOAN,
+    LOAN_FAILED_MAX_LOAN,
+    LOAN_FAILED_ALREADY_LOANED
+}
@@ -0,0 +1,16 @@
+package com.plee.library.dto.admin.request;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이력 내보내기, 도서 목록 가져오기 파일 형식입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("csv"),
+    JSONL("jsonl");
+
+    private final String extension;
+}
@@ -0,0 +1,32 @@
+package com.plee.library.dto.admin.request;
+
+import java.time.LocalDate;
+
+/**
+ * 대출 통계 조회 기간입니다.
+ */
+public enum LoanStatsPeriod {
+    WEEK {
+        @Override
+        public LocalDate startDate(LocalDate endDate) {
+            return endDate.minusWeeks(1).plusDays(1);
+        }
+    },
+    MONTH {
+        @Override
+        public LocalDate startDate(LocalDate endDate) {
+            return endDate.minusMonths(1).plusDays(1);
+        }
+    },
+    YEAR {
+        @Override
+        public LocalDate startDate(LocalDate endDate) {
+            return endDate.minusYears(1).plusDays(1);
+        }
+    };
+
+    /**
+     * 마지막 날짜를 포함하는 조회 기간의 시작 날짜를 반환합니다.
+     */
+    public abstract LocalDate startDate(LocalDate endDate);
+}
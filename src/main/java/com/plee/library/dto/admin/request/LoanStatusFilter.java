@@ -0,0 +1,15 @@
+package com.plee.library.dto.admin.request;
+
+/**
+ * 대출 현황 조회 시 대출 이력의 상태 조건입니다.
+ */
+public enum LoanStatusFilter {
+    // 반납하지 않은 대출
+    LOANED,
+    // 반납하지 않은 연장된 대출
+    RENEWED,
+    // 반납 예정일이 지난 대출
+    OVERDUE,
+    // 반납된 대출
+    RETURNED
+}
@@ -0,0 +1,28 @@
+package com.plee.library.dto.admin.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CatalogImportResult {
+    private final long total;
+    private final long imported;
+    private final long rejected;
+    private final long approvedRequests;
+    // 거절된 행 중 앞의 일부만 포함
+    private final List<Reject> rejects;
+
+    @Builder
+    public CatalogImportResult(long total, long imported, long rejected, long approvedRequests, List<Reject> rejects) {
+        this.total = total;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.approvedRequests = approvedRequests;
+        this.rejects = rejects;
+    }
+
+    public record Reject(long line, String isbn, String reason) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.plee.library.dto.admin.response;
+
+import com.plee.library.domain.stats.LoanDailyStats;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class LoanDailyStatsResponse {
+    private final LocalDate date;
+    private final long loanCount;
+    private final long returnCount;
+    private final long renewCount;
+    private final long overdueReturnCount;
+
+    @Builder
+    public LoanDailyStatsResponse(LocalDate date, long loanCount, long returnCount, long renewCount, long overdueReturnCount) {
+        this.date = date;
+        this.loanCount = loanCount;
+        this.returnCount = returnCount;
+        this.renewCount = renewCount;
+        this.overdueReturnCount = overdueReturnCount;
+    }
+
+    public static LoanDailyStatsResponse from(LoanDailyStats stats) {
+        return LoanDailyStatsResponse.builder()
+                .date(stats.getStatsDate())
+                .loanCount(stats.getLoanCount())
+                .returnCount(stats.getReturnCount())
+                .renewCount(stats.getRenewCount())
+                .overdueReturnCount(stats.getOverdueReturnCount())
+                .build();
+    }
+
+    public static LoanDailyStatsResponse empty(LocalDate date) {
+        return LoanDailyStatsResponse.builder()
+                .date(date)
+                .build();
+    }
+}
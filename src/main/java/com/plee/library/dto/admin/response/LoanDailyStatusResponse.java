@@ -10,4 +10,7 @@ import java.util.Map;
 @AllArgsConstructor
 public class LoanDailyStatusResponse {
     private final Map<LocalDate, Integer> dailyLoanData;
+    // 도서 유통 이벤트 이름별 수
+    private final Map<String, Long> todayCounts;
+    private final Map<String, Long> lastHourCounts;
 }
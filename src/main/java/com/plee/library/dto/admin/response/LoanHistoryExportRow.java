@@ -0,0 +1,19 @@
+package com.plee.library.dto.admin.response;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 대출 이력 내보내기의 한 행입니다.
+ */
+public record LoanHistoryExportRow(Long id, Long memberId, String loginId, String memberName, String isbn, String title,
+                                   boolean isRenew, LocalDateTime loanedAt, LocalDateTime dueAt, LocalDateTime returnedAt) {
+
+    public static final List<String> HEADER = List.of(
+            "id", "memberId", "loginId", "memberName", "isbn", "title", "isRenew", "loanedAt", "dueAt", "returnedAt");
+
+    public List<Object> values() {
+        return Arrays.asList(id, memberId, loginId, memberName, isbn, title, isRenew, loanedAt, dueAt, returnedAt);
+    }
+}
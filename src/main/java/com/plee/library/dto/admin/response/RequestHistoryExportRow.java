@@ -0,0 +1,19 @@
+package com.plee.library.dto.admin.response;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 신규 도서 요청 이력 내보내기의 한 행입니다.
+ */
+public record RequestHistoryExportRow(Long id, Long memberId, String loginId, String isbn, String title,
+                                      String requestReason, boolean isApproved, LocalDateTime requestedAt) {
+
+    public static final List<String> HEADER = List.of(
+            "id", "memberId", "loginId", "isbn", "title", "requestReason", "isApproved", "requestedAt");
+
+    public List<Object> values() {
+        return Arrays.asList(id, memberId, loginId, isbn, title, requestReason, isApproved, requestedAt);
+    }
+}
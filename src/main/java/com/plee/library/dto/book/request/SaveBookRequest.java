@@ -39,7 +39,7 @@ public class SaveBookRequest {
     private boolean request;
 
     public BookInfo toEntity() {
-        String modifiedAuthor = this.author.replace("^", ", ");
+        String modifiedAuthor = this.author == null ? null : this.author.replace("^", ", ");
         return BookInfo.builder()
                 .isbn(this.isbn)
                 .title(this.title)
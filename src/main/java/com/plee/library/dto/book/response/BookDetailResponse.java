@@ -1,24 +1,42 @@
 package com.plee.library.dto.book.response;
 
-import com.plee.library.domain.book.Book;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 public class BookDetailResponse {
-    private final Book book;
+    private final Long id;
+    private final String isbn;
+    private final String title;
+    private final String author;
+    private final String publisher;
+    private final String image;
+    private final String description;
+    private final String pubDate;
+    private final String categoryName;
+    private final int quantity;
+    private final int loanableCnt;
 
     private final boolean isLoaned;
 
     private final boolean isMarked;
 
-    public BookDetailResponse(Book book, boolean isLoaned, boolean isMarked) {
-        this.book = book;
+    @Builder
+    public BookDetailResponse(Long id, String isbn, String title, String author, String publisher, String image,
+                              String description, String pubDate, String categoryName, int quantity, int loanableCnt,
+                              boolean isLoaned, boolean isMarked) {
+        this.id = id;
+        this.isbn = isbn;
+        this.title = title;
+        this.author = author;
+        this.publisher = publisher;
+        this.image = image;
+        this.description = description;
+        this.pubDate = pubDate;
+        this.categoryName = categoryName;
+        this.quantity = quantity;
+        this.loanableCnt = loanableCnt;
         this.isLoaned = isLoaned;
         this.isMarked = isMarked;
     }
-
-    public static BookDetailResponse of(Book book, boolean isLoaned, boolean isMarked) {
-        return new BookDetailResponse(book, isLoaned, isMarked);
-    }
 }
@@ -0,0 +1,32 @@
+package com.plee.library.dto.book.response;
+
+import com.plee.library.domain.book.Book;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BookSearchDocument {
+    private final Long bookId;
+    private final String title;
+    private final String author;
+    private final Long categoryId;
+    private final LocalDateTime createdAt;
+
+    public BookSearchDocument(Long bookId, String title, String author, Long categoryId, LocalDateTime createdAt) {
+        this.bookId = bookId;
+        this.title = title;
+        this.author = author;
+        this.categoryId = categoryId;
+        this.createdAt = createdAt;
+    }
+
+    public static BookSearchDocument from(Book book) {
+        return new BookSearchDocument(
+                book.getId(),
+                book.getBookInfo().getTitle(),
+                book.getBookInfo().getAuthor(),
+                book.getBookCategory().getId(),
+                book.getCreatedAt());
+    }
+}
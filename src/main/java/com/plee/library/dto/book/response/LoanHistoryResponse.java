@@ -21,15 +21,17 @@ public class LoanHistoryResponse {
     private final boolean isRenew;
     private final LocalDate loanedAt;
     private final LocalDate returnedAt;
+    private final LocalDate dueAt;
 
 
     @Builder
-    public LoanHistoryResponse(Long id, BookInfo bookInfo, boolean isRenew, LocalDate loanedAt, LocalDate returnedAt) {
+    public LoanHistoryResponse(Long id, BookInfo bookInfo, boolean isRenew, LocalDate loanedAt, LocalDate returnedAt, LocalDate dueAt) {
         this.id = id;
         this.bookInfo = bookInfo;
         this.isRenew = isRenew;
         this.loanedAt = loanedAt;
         this.returnedAt = returnedAt;
+        this.dueAt = dueAt;
     }
 
     public static List<LoanHistoryResponse> from(List<MemberLoanHistory> histories) {
@@ -40,6 +42,7 @@ public class LoanHistoryResponse {
                         .isRenew(h.isRenew())
                         .loanedAt(h.getCreatedAt().toLocalDate())
                         .returnedAt(Optional.ofNullable(h.getReturnedAt()).map(LocalDateTime::toLocalDate).orElse(null))
+                        .dueAt(Optional.ofNullable(h.getDueAt()).map(LocalDateTime::toLocalDate).orElse(null))
                         .build())
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,45 @@
+package com.plee.library.dto.member.condition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대출 이력을 도서 ISBN 의 마지막 자리로 나눈 구간입니다.
+ * ISBN 의 마지막 자리는 체크 숫자로 고르게 분포하므로, 자리 값을 구간 수로 나눈 나머지로 구간을 정합니다.
+ *
+ * @param index 구간 번호
+ * @param count 전체 구간 수 (1 ~ 10)
+ */
+public record LoanHistoryPartition(int index, int count) {
+
+    private static final int DIGIT_COUNT = 10;
+
+    public LoanHistoryPartition {
+        if (count < 1 || count > DIGIT_COUNT || index < 0 || index >= count) {
+            throw new IllegalArgumentException("invalid partition index = " + index + ", count = " + count);
+        }
+    }
+
+    public static LoanHistoryPartition all() {
+        return new LoanHistoryPartition(0, 1);
+    }
+
+    public boolean isAll() {
+        return count == 1;
+    }
+
+    /**
+     * 구간에 속하는 ISBN 의 마지막 자리 목록을 반환합니다.
+     * ISBN-10 의 체크 문자 X 는 첫 번째 구간에 포함합니다.
+     */
+    public List<String> isbnSuffixes() {
+        List<String> suffixes = new ArrayList<>();
+        for (int digit = index; digit < DIGIT_COUNT; digit += count) {
+            suffixes.add(String.valueOf(digit));
+        }
+        if (index == 0) {
+            suffixes.add("X");
+        }
+        return suffixes;
+    }
+}
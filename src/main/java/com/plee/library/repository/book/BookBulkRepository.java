@@ -0,0 +1,70 @@
+package com.plee.library.repository.book;
+
+import com.plee.library.domain.book.BookInfo;
+import com.plee.library.dto.book.request.SaveBookRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 대량의 도서 정보와 도서를 JDBC 로 저장합니다.
+ * 여러 행을 하나의 INSERT 문으로 묶어 저장하므로, IDENTITY 키를 사용하여 JPA 로는 일괄 저장할 수 없는 도서도 적은 왕복으로 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookBulkRepository {
+
+    // 하나의 INSERT 문에 담을 최대 행 수
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 도서 정보를 저장합니다.
+     *
+     * @param bookInfos 저장할 도서 정보 목록
+     * @param createdAt 생성 시각
+     * @return 저장된 행의 수
+     */
+    public int insertBookInfos(List<BookInfo> bookInfos, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        return insert("INSERT INTO book_info (book_info_isbn, title, author, publisher, image, description, pub_date, created_at) VALUES ",
+                "(?, ?, ?, ?, ?, ?, ?, ?)", bookInfos,
+                bookInfo -> new Object[]{bookInfo.getIsbn(), bookInfo.getTitle(), bookInfo.getAuthor(), bookInfo.getPublisher(),
+                        bookInfo.getImage(), bookInfo.getDescription(), bookInfo.getPubDate(), timestamp});
+    }
+
+    /**
+     * 도서 정보가 이미 저장된 도서를 입고 수량만큼 대출 가능하도록 저장합니다.
+     *
+     * @param requests  저장할 도서의 ISBN, 수량, 카테고리 정보 목록
+     * @param createdAt 생성 시각
+     * @return 저장된 행의 수
+     */
+    public int insertBooks(List<SaveBookRequest> requests, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        return insert("INSERT INTO book (book_info_isbn, quantity, loanable_cnt, book_category_seq, created_at) VALUES ",
+                "(?, ?, ?, ?, ?)", requests,
+                request -> new Object[]{request.getIsbn(), request.getQuantity(), request.getQuantity(), request.getCategoryId(), timestamp});
+    }
+
+    private <T> int insert(String statement, String placeholder, List<T> rows, Function<T, Object[]> values) {
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<T> part = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            String sql = statement + String.join(", ", Collections.nCopies(part.size(), placeholder));
+            Object[] args = part.stream()
+                    .flatMap(row -> Arrays.stream(values.apply(row)))
+                    .toArray();
+            inserted += jdbcTemplate.update(sql, args);
+        }
+        return inserted;
+    }
+}
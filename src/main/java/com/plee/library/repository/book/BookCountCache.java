@@ -0,0 +1,122 @@
+package com.plee.library.repository.book;
+
+import com.plee.library.dto.book.condition.BookSearchCondition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 도서 검색 조건별 전체 도서 수를 캐싱합니다.
+ * 페이지마다 반복되는 count 쿼리를 줄이기 위해 사용하며, 이 노드에서 도서가 추가되거나 삭제되면 전체 캐시를 무효화합니다.
+ * 다른 노드의 변경은 검색 색인 갱신으로 확인되면 무효화하고, 확인되지 않더라도 유지 시간이 지나면 다시 조회합니다.
+ * 추정 모드를 사용하는 경우, 키워드 검색 결과는 기준 수까지만 세고 초과하면 기준 수 + 1 을 반환합니다.
+ */
+@Component
+public class BookCountCache {
+
+    private static final int MAX_ENTRIES = 1000;
+
+    private final Map<CountKey, CachedCount> counts = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlNanos;
+    private final int estimateLimit;
+
+    /**
+     * @param ttl           캐싱된 도서 수의 유지 시간
+     * @param estimateLimit 키워드 검색 결과를 셀 최대 수, 0 이하인 경우 정확한 수를 셈
+     */
+    public BookCountCache(@Value("${library.search.count.ttl:1m}") Duration ttl,
+                          @Value("${library.search.count.estimate-limit:0}") int estimateLimit) {
+        this.ttlNanos = ttl.toNanos();
+        this.estimateLimit = estimateLimit;
+    }
+
+    /**
+     * 검색 조건에 해당하는 도서 수를 반환합니다.
+     * 캐시에 없거나 유지 시간이 지난 경우 주어진 counter 로 조회한 뒤 캐싱합니다.
+     * 조회는 호출한 트랜잭션에서 처리하며, 조회 중 무효화된 경우에는 결과를 캐싱하지 않습니다.
+     * 트랜잭션의 스냅샷이 무효화 이전에 정해져 이전 결과가 캐싱되더라도 유지 시간이 지나면 다시 조회합니다.
+     *
+     * @param condition 검색 조건
+     * @param counter   도서 수를 조회하는 함수
+     * @return 검색 조건에 해당하는 도서 수
+     */
+    public long getOrCount(BookSearchCondition condition, LongSupplier counter) {
+        CountKey key = CountKey.from(condition);
+        long now = System.nanoTime();
+        CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return cached.count();
+        }
+
+        // 조회 중 무효화된 경우 이전 결과가 캐싱되지 않도록 세대를 확인
+        long current = generation.get();
+        long count = counter.getAsLong();
+        if (current == generation.get()) {
+            if (counts.size() >= MAX_ENTRIES) {
+                counts.clear();
+            }
+            counts.put(key, new CachedCount(count, now));
+        }
+        return count;
+    }
+
+    /**
+     * 키워드 검색 결과를 셀 최대 수를 반환합니다.
+     *
+     * @return 최대 수, 정확한 수를 세는 경우 0
+     */
+    public int getEstimateLimit() {
+        return Math.max(estimateLimit, 0);
+    }
+
+    /**
+     * 캐싱된 도서 수를 모두 무효화합니다.
+     * 트랜잭션 안에서 호출된 경우, 커밋 이후에 반영됩니다.
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                clear();
+            }
+        });
+    }
+
+    void clear() {
+        generation.incrementAndGet();
+        counts.clear();
+    }
+
+    private record CachedCount(long count, long loadedAt) {
+    }
+
+    /**
+     * 같은 결과를 가지는 검색 조건이 같은 키를 가지도록 정규화한 캐시 키입니다.
+     */
+    private record CountKey(String keyword, boolean title, boolean author, Long categoryId) {
+
+        static CountKey from(BookSearchCondition condition) {
+            if (!StringUtils.hasLength(condition.getKeyword()) || (!condition.isTitle() && !condition.isAuthor())) {
+                // 키워드 조건이 적용되지 않는 경우 카테고리 조건만 결과에 영향을 줌
+                return new CountKey(null, false, false, condition.getCategoryId());
+            }
+            // 제목, 저자 검색은 대소문자를 구분하지 않으므로 소문자로 통일
+            String keyword = condition.getKeyword().toLowerCase(Locale.ROOT);
+            return new CountKey(keyword, condition.isTitle(), condition.isAuthor(), condition.getCategoryId());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.plee.library.repository.book;
+
+import com.plee.library.domain.book.BookInfoEnrichment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookInfoEnrichmentRepository extends JpaRepository<BookInfoEnrichment, String> {
+
+    /**
+     * 다시 시도할 시간이 된 ISBN 을 오래 기다린 순서로 조회합니다.
+     *
+     * @param now         현재 시간
+     * @param maxAttempts 최대 시도 횟수, 이미 모두 실패한 ISBN 은 제외
+     * @param pageable    조회할 개수
+     * @return 도서 정보를 보완할 ISBN 목록
+     */
+    @Query("SELECT e.isbn FROM BookInfoEnrichment e WHERE e.nextAttemptAt <= :now AND e.attempts < :maxAttempts ORDER BY e.nextAttemptAt")
+    List<String> findDueIsbns(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts, Pageable pageable);
+}
@@ -2,7 +2,20 @@ package com.plee.library.repository.book;
 
 import com.plee.library.domain.book.BookInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Set;
 
 public interface BookInfoRepository extends JpaRepository<BookInfo, String> {
 
+    /**
+     * 주어진 ISBN 중 도서 정보가 이미 저장된 ISBN 을 반환합니다.
+     *
+     * @param isbns 확인할 ISBN 목록
+     * @return 도서 정보가 존재하는 ISBN
+     */
+    @Query("SELECT b.isbn FROM BookInfo b WHERE b.isbn IN :isbns")
+    Set<String> findIsbnsByIsbnIn(@Param("isbns") Collection<String> isbns);
 }
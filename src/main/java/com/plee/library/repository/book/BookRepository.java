@@ -4,8 +4,13 @@ import com.plee.library.domain.book.Book;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -17,5 +22,68 @@ public interface BookRepository extends JpaRepository<Book, Long>, QuerydslPredi
 
      List<Book> findTop4ByOrderByCreatedAtDesc();
 
+     /**
+      * 검색 색인과 비교하기 위해 모든 도서의 ID 를 조회합니다.
+      */
+     @Query("SELECT b.id FROM Book b")
+     List<Long> findAllIds();
+
      boolean existsByBookInfoIsbn(String isbn);
+
+     /**
+      * 도서의 대출 가능한 수량이 주어진 수량과 같은지 확인합니다.
+      * 대출, 반납으로 도서의 대출 가능 여부가 바뀌었는지 확인하기 위해 사용합니다.
+      */
+     boolean existsByIdAndLoanableCnt(Long id, int loanableCnt);
+
+     /**
+      * 도서와 도서 정보 중 마지막으로 수정된 시간을 조회합니다.
+      *
+      * @param bookId 도서 ID
+      * @return 마지막 수정 시간, 도서가 없는 경우 빈 Optional
+      */
+     @Query("SELECT GREATEST(b.updatedAt, i.updatedAt) FROM Book b JOIN b.bookInfo i WHERE b.id = :bookId")
+     Optional<LocalDateTime> findLastUpdatedAtById(@Param("bookId") Long bookId);
+
+     /**
+      * 주어진 ISBN 중 이미 도서로 등록된 ISBN 을 반환합니다.
+      *
+      * @param isbns 확인할 ISBN 목록
+      * @return 도서가 존재하는 ISBN
+      */
+     @Query("SELECT b.bookInfo.isbn FROM Book b WHERE b.bookInfo.isbn IN :isbns")
+     Set<String> findIsbnsByBookInfoIsbnIn(@Param("isbns") Collection<String> isbns);
+
+     /**
+      * 대출 가능한 수량이 남아있는 경우에만 대출 가능한 수량을 1 감소시킵니다.
+      * 조건부 UPDATE 한 번으로 확인과 감소를 처리하므로, 동시에 대출하더라도 재고를 초과하여 대출되지 않습니다.
+      *
+      * @param bookId 도서 ID
+      * @return 변경된 행의 수, 대출 가능한 수량이 없는 경우 0
+      */
+     @Modifying
+     @Query("UPDATE Book b SET b.loanableCnt = b.loanableCnt - 1, b.updatedAt = LOCAL_DATETIME WHERE b.id = :bookId AND b.loanableCnt > 0")
+     int decreaseLoanableCnt(@Param("bookId") Long bookId);
+
+     /**
+      * 대출 가능한 수량이 보유 수량을 넘지 않는 경우에만 대출 가능한 수량을 증가시킵니다.
+      *
+      * @param bookId 도서 ID
+      * @param count  증가시킬 수량
+      * @return 변경된 행의 수, 보유 수량을 초과하게 되는 경우 0
+      */
+     @Modifying
+     @Query("UPDATE Book b SET b.loanableCnt = b.loanableCnt + :count, b.updatedAt = LOCAL_DATETIME WHERE b.id = :bookId AND b.loanableCnt + :count <= b.quantity")
+     int increaseLoanableCnt(@Param("bookId") Long bookId, @Param("count") int count);
+
+     /**
+      * 대출 가능한 수량이 보유 수량을 넘지 않는 경우에만, ISBN 에 해당하는 도서의 대출 가능한 수량을 증가시킵니다.
+      *
+      * @param isbn  도서 ISBN
+      * @param count 증가시킬 수량
+      * @return 변경된 행의 수, 도서가 없거나 보유 수량을 초과하게 되는 경우 0
+      */
+     @Modifying
+     @Query("UPDATE Book b SET b.loanableCnt = b.loanableCnt + :count, b.updatedAt = LOCAL_DATETIME WHERE b.bookInfo.isbn = :isbn AND b.loanableCnt + :count <= b.quantity")
+     int increaseLoanableCntByIsbn(@Param("isbn") String isbn, @Param("count") int count);
 }
\ No newline at end of file
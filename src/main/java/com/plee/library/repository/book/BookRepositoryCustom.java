@@ -1,10 +1,41 @@
 package com.plee.library.repository.book;
 
 import com.plee.library.domain.book.Book;
+import com.plee.library.dto.admin.response.BooksResponse;
 import com.plee.library.dto.book.condition.BookSearchCondition;
+import com.plee.library.dto.book.response.BookDetailResponse;
+import com.plee.library.dto.book.response.BookInfoResponse;
+import com.plee.library.dto.book.response.BookSearchDocument;
+import com.plee.library.util.pagination.CursorPage;
+import com.plee.library.util.pagination.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface BookRepositoryCustom {
     Page<Book> search(BookSearchCondition condition, Pageable pageable);
+
+    Page<Long> searchIds(BookSearchCondition condition, Pageable pageable);
+
+    List<Book> findAllByIdInOrder(List<Long> bookIds);
+
+    List<BookSearchDocument> findAllSearchDocuments();
+
+    List<BookSearchDocument> findSearchDocumentsByIdIn(Collection<Long> bookIds);
+
+    List<BookSearchDocument> findSearchDocumentsAfter(LocalDateTime createdAt, Long bookId, int limit);
+
+    CursorPage<BooksResponse> findAllByCursor(Long categoryId, KeysetCursor cursor, Pageable pageable);
+
+    Page<BooksResponse> searchBooksResponse(BookSearchCondition condition, Pageable pageable);
+
+    List<BooksResponse> findBooksResponseByIdInOrder(List<Long> bookIds);
+
+    List<BookInfoResponse> findNewBooksInfo(int limit);
+
+    Optional<BookDetailResponse> findBookDetail(Long bookId, Long memberId);
 }
\ No newline at end of file
@@ -1,12 +1,24 @@
 package com.plee.library.repository.book;
 
 import com.plee.library.domain.book.Book;
+import com.plee.library.dto.admin.response.BooksResponse;
 import com.plee.library.dto.book.condition.BookSearchCondition;
+import com.plee.library.dto.book.response.BookDetailResponse;
+import com.plee.library.dto.book.response.BookInfoResponse;
+import com.plee.library.dto.book.response.BookSearchDocument;
 import com.plee.library.util.OrderByNull;
+import com.plee.library.util.pagination.CursorPage;
+import com.plee.library.util.pagination.KeysetCursor;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -15,18 +27,40 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.plee.library.domain.book.QBook.book;
+import static com.plee.library.domain.book.QBookCategory.bookCategory;
 import static com.plee.library.domain.book.QBookInfo.bookInfo;
+import static com.plee.library.domain.member.QMemberBookmark.memberBookmark;
+import static com.plee.library.domain.member.QMemberLoanHistory.memberLoanHistory;
 
 @RequiredArgsConstructor
 @Repository
 public class BookRepositoryCustomImpl implements BookRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final BookCountCache bookCountCache;
 
+    /**
+     * 검색 조건에 부합하는 도서를 페이지네이션하여 조회합니다.
+     * 전체 도서 수는 검색 조건별로 캐싱되며, 추정 모드를 사용하는 경우 키워드 검색은
+     * {@link BookCountCache#getEstimateLimit()} 건을 초과하면 정확한 수 대신 기준 수 + 1 을 반환합니다.
+     *
+     * @param condition 검색 조건
+     * @param pageable  페이지 정보
+     * @return 검색 결과를 담은 Page 객체
+     */
     @Override
     public Page<Book> search(BookSearchCondition condition, Pageable pageable) {
         List<Book> results = queryFactory
@@ -41,16 +75,358 @@ public class BookRepositoryCustomImpl implements BookRepositoryCustom {
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(book.count())
+        // results 와 pageable 를 확인하여 상황에 따라 count 쿼리 호출
+        return PageableExecutionUtils.getPage(results, pageable,
+                () -> bookCountCache.getOrCount(condition, () -> countBooks(condition)));
+    }
+
+    /**
+     * 검색 조건에 부합하는 도서의 ID 를 페이지네이션하여 조회합니다.
+     * 도서 정보와 카테고리는 {@link #findAllByIdInOrder(List)} 로 해당 페이지의 도서만 함께 조회합니다.
+     *
+     * @param condition 검색 조건
+     * @param pageable  페이지 정보
+     * @return 검색된 도서 ID 를 담은 Page 객체
+     */
+    @Override
+    public Page<Long> searchIds(BookSearchCondition condition, Pageable pageable) {
+        List<Long> results = queryFactory
+                .select(book.id)
                 .from(book)
                 .leftJoin(book.bookInfo, bookInfo)
                 .where(
                         searchExpression(condition)
-                );
+                )
+                .orderBy(sortBook(pageable), book.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
 
-        // results 와 pageable 를 확인하여 상황에 따라 count 쿼리 호출
-        return PageableExecutionUtils.getPage(results, pageable, countQuery::fetchOne);
+        return PageableExecutionUtils.getPage(results, pageable,
+                () -> bookCountCache.getOrCount(condition, () -> countBooks(condition)));
+    }
+
+    /**
+     * 도서 목록 화면에 필요한 정보를 (생성일, ID) 내림차순으로 keyset 페이지네이션하여 조회합니다.
+     * 커서가 있는 경우 offset 없이 커서 이후의 도서를 조회하므로, 페이지 깊이와 관계없이 일정한 비용으로 조회합니다.
+     * 커서가 없는 경우 페이지 번호로 조회하며, 이후 페이지를 위한 커서를 함께 반환합니다.
+     *
+     * @param categoryId 카테고리 ID (없는 경우 전체 도서)
+     * @param cursor     이전 페이지의 마지막 도서 위치
+     * @param pageable   페이지 정보
+     * @return 도서 목록과 다음 페이지 커서를 담은 CursorPage 객체
+     */
+    @Override
+    public CursorPage<BooksResponse> findAllByCursor(Long categoryId, KeysetCursor cursor, Pageable pageable) {
+        int pageSize = pageable.getPageSize();
+        JPAQuery<BooksResponse> query = queryFactory
+                .select(booksResponse())
+                .from(book)
+                .join(book.bookInfo, bookInfo)
+                .where(
+                        categoryEq(categoryId),
+                        afterCursor(cursor)
+                )
+                .orderBy(book.createdAt.desc(), book.id.desc())
+                .limit(pageSize + 1);
+
+        // 커서가 없는 경우에만 offset 으로 페이지 이동
+        if (cursor == null) {
+            query.offset(pageable.getOffset());
+        }
+        List<BooksResponse> results = query.fetch();
+
+        // 다음 페이지 존재 여부 확인을 위해 조회한 1건 제외
+        String nextCursor = null;
+        if (results.size() > pageSize) {
+            results = results.subList(0, pageSize);
+            BooksResponse last = results.get(pageSize - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        BookSearchCondition condition = BookSearchCondition.builder()
+                .categoryId(categoryId)
+                .build();
+        long total = bookCountCache.getOrCount(condition, () -> countBooks(condition));
+        return new CursorPage<>(results, pageable, total, nextCursor);
+    }
+
+    /**
+     * 검색 조건에 부합하는 도서의 목록 화면 정보를 페이지네이션하여 조회합니다.
+     * 도서 정보와 조인한 한 번의 쿼리로 목록에 필요한 컬럼만 조회합니다.
+     *
+     * @param condition 검색 조건
+     * @param pageable  페이지 정보
+     * @return 검색 결과를 담은 Page 객체
+     */
+    @Override
+    public Page<BooksResponse> searchBooksResponse(BookSearchCondition condition, Pageable pageable) {
+        List<BooksResponse> results = queryFactory
+                .select(booksResponse())
+                .from(book)
+                .join(book.bookInfo, bookInfo)
+                .where(
+                        searchExpression(condition)
+                )
+                .orderBy(sortBook(pageable))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(results, pageable,
+                () -> bookCountCache.getOrCount(condition, () -> countBooks(condition)));
+    }
+
+    /**
+     * 주어진 ID 의 도서 목록 화면 정보를 조회하며, 요청한 ID 순서를 유지하여 반환합니다.
+     *
+     * @param bookIds 조회할 도서 ID 목록
+     * @return 도서 ID 순서대로 정렬된 도서 목록 정보
+     */
+    @Override
+    public List<BooksResponse> findBooksResponseByIdInOrder(List<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, BooksResponse> books = queryFactory
+                .select(booksResponse())
+                .from(book)
+                .join(book.bookInfo, bookInfo)
+                .where(book.id.in(bookIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(BooksResponse::getId, Function.identity()));
+
+        return bookIds.stream()
+                .map(books::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 최근 입고된 도서의 제목과 표지 이미지를 조회합니다.
+     *
+     * @param limit 조회할 도서 수
+     * @return 최근 입고된 도서 정보 목록
+     */
+    @Override
+    public List<BookInfoResponse> findNewBooksInfo(int limit) {
+        return queryFactory
+                .select(Projections.constructor(BookInfoResponse.class,
+                        bookInfo.title,
+                        bookInfo.image))
+                .from(book)
+                .join(book.bookInfo, bookInfo)
+                .orderBy(book.createdAt.desc(), book.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 도서 상세 화면에 필요한 도서, 도서 정보, 카테고리와 회원의 대출 중 여부, 찜 등록 여부를 한 번의 쿼리로 조회합니다.
+     * 대출 중 여부와 찜 등록 여부는 상관 EXISTS 서브쿼리로 확인합니다.
+     *
+     * @param bookId   도서 ID
+     * @param memberId 회원 ID
+     * @return 도서 상세 정보, 도서가 없는 경우 빈 Optional
+     */
+    @Override
+    public Optional<BookDetailResponse> findBookDetail(Long bookId, Long memberId) {
+        Expression<Boolean> isLoaned = exists(JPAExpressions
+                .selectOne()
+                .from(memberLoanHistory)
+                .where(
+                        memberLoanHistory.member.id.eq(memberId),
+                        memberLoanHistory.bookInfo.isbn.eq(bookInfo.isbn),
+                        memberLoanHistory.returnedAt.isNull()
+                )
+                .exists());
+        Expression<Boolean> isMarked = exists(JPAExpressions
+                .selectOne()
+                .from(memberBookmark)
+                .where(
+                        memberBookmark.member.id.eq(memberId),
+                        memberBookmark.book.id.eq(book.id)
+                )
+                .exists());
+
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(BookDetailResponse.class,
+                        book.id,
+                        bookInfo.isbn,
+                        bookInfo.title,
+                        bookInfo.author,
+                        bookInfo.publisher,
+                        bookInfo.image,
+                        bookInfo.description,
+                        bookInfo.pubDate,
+                        bookCategory.categoryName,
+                        book.quantity,
+                        book.loanableCnt,
+                        isLoaned,
+                        isMarked))
+                .from(book)
+                .join(book.bookInfo, bookInfo)
+                .join(book.bookCategory, bookCategory)
+                .where(book.id.eq(bookId))
+                .fetchOne());
+    }
+
+    // 조회 결과에 사용할 수 있도록 EXISTS 조건을 true, false 값으로 변환
+    private Expression<Boolean> exists(BooleanExpression condition) {
+        return new CaseBuilder()
+                .when(condition).then(Expressions.booleanTemplate("true"))
+                .otherwise(Expressions.booleanTemplate("false"));
+    }
+
+    /**
+     * 주어진 ID 의 도서를 도서 정보와 함께 조회하며, 요청한 ID 순서를 유지하여 반환합니다.
+     *
+     * @param bookIds 조회할 도서 ID 목록
+     * @return 도서 ID 순서대로 정렬된 도서 목록
+     */
+    @Override
+    public List<Book> findAllByIdInOrder(List<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Book> books = queryFactory
+                .selectFrom(book)
+                .join(book.bookInfo, bookInfo).fetchJoin()
+                .join(book.bookCategory, bookCategory).fetchJoin()
+                .where(book.id.in(bookIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        return bookIds.stream()
+                .map(books::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 검색 색인 구성을 위해 모든 도서의 제목, 저자, 카테고리 정보를 조회합니다.
+     *
+     * @return 색인할 도서 정보 목록
+     */
+    @Override
+    public List<BookSearchDocument> findAllSearchDocuments() {
+        return queryFactory
+                .select(searchDocument())
+                .from(book)
+                .join(book.bookInfo, bookInfo)
+                .fetch();
+    }
+
+    /**
+     * 검색 색인에 추가할 도서의 제목, 저자, 카테고리 정보를 조회합니다.
+     *
+     * @param bookIds 도서 ID 목록
+     * @return 색인할 도서 정보 목록, 삭제된 도서는 제외
+     */
+    @Override
+    public List<BookSearchDocument> findSearchDocumentsByIdIn(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return queryFactory
+                .select(searchDocument())
+                .from(book)
+                .join(book.bookInfo, bookInfo)
+                .where(book.id.in(bookIds))
+                .fetch();
+    }
+
+    /**
+     * 검색 색인에 추가할 도서를 (생성일, ID) 오름차순으로 keyset 페이지네이션하여 조회합니다.
+     *
+     * @param createdAt 이전 페이지의 마지막 도서의 생성일, 처음부터 조회하는 경우 null
+     * @param bookId    이전 페이지의 마지막 도서의 ID
+     * @param limit     조회할 최대 도서 수
+     * @return 색인할 도서 정보 목록
+     */
+    @Override
+    public List<BookSearchDocument> findSearchDocumentsAfter(LocalDateTime createdAt, Long bookId, int limit) {
+        BooleanExpression after = createdAt == null ? null : book.createdAt.gt(createdAt)
+                .or(book.createdAt.eq(createdAt).and(book.id.gt(bookId)));
+        return queryFactory
+                .select(searchDocument())
+                .from(book)
+                .join(book.bookInfo, bookInfo)
+                .where(after)
+                .orderBy(book.createdAt.asc(), book.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private ConstructorExpression<BookSearchDocument> searchDocument() {
+        return Projections.constructor(BookSearchDocument.class,
+                book.id,
+                bookInfo.title,
+                bookInfo.author,
+                book.bookCategory.id,
+                book.createdAt);
+    }
+
+    /**
+     * 목록 화면에 필요한 도서 컬럼만 BooksResponse 로 조회하기 위한 projection 입니다.
+     * 목록에서 사용하지 않는 도서 설명(TEXT) 컬럼은 조회하지 않습니다.
+     */
+    private ConstructorExpression<BooksResponse> booksResponse() {
+        return Projections.constructor(BooksResponse.class,
+                book.id,
+                book.quantity,
+                book.loanableCnt,
+                bookInfo.title,
+                bookInfo.author,
+                bookInfo.publisher,
+                book.createdAt);
+    }
+
+    /**
+     * 검색 조건에 부합하는 도서 수를 조회합니다.
+     * 키워드 조건이 없는 경우 도서 정보를 조인하지 않고 도서 테이블만으로 조회합니다.
+     * 추정 모드를 사용하는 경우, LIKE 조건이 포함된 키워드 검색은 전체를 세지 않고 기준 수 + 1 건까지만 확인합니다.
+     *
+     * @param condition 검색 조건
+     * @return 도서 수, 추정 모드에서 키워드 검색 결과가 기준 수를 초과하는 경우 기준 수 + 1
+     */
+    private long countBooks(BookSearchCondition condition) {
+        if (!StringUtils.hasLength(condition.getKeyword()) || (!condition.isTitle() && !condition.isAuthor())) {
+            Long total = queryFactory
+                    .select(book.count())
+                    .from(book)
+                    .where(categoryEq(condition.getCategoryId()))
+                    .fetchOne();
+            return total == null ? 0 : total;
+        }
+
+        int estimateLimit = bookCountCache.getEstimateLimit();
+        if (estimateLimit > 0) {
+            return queryFactory
+                    .select(book.id)
+                    .from(book)
+                    .leftJoin(book.bookInfo, bookInfo)
+                    .where(
+                            searchExpression(condition)
+                    )
+                    .limit(estimateLimit + 1)
+                    .fetch()
+                    .size();
+        }
+
+        Long total = queryFactory
+                .select(book.count())
+                .from(book)
+                .leftJoin(book.bookInfo, bookInfo)
+                .where(
+                        searchExpression(condition)
+                )
+                .fetchOne();
+        return total == null ? 0 : total;
     }
 
     /**
@@ -104,4 +480,12 @@ public class BookRepositoryCustomImpl implements BookRepositoryCustom {
     private BooleanExpression categoryEq(Long categoryId) {
         return categoryId != null ? book.bookCategory.id.eq(categoryId) : null;
     }
+
+    private BooleanExpression afterCursor(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return book.createdAt.lt(cursor.getCreatedAt())
+                .or(book.createdAt.eq(cursor.getCreatedAt()).and(book.id.lt(cursor.getId())));
+    }
 }
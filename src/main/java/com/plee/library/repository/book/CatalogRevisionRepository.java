@@ -0,0 +1,26 @@
+package com.plee.library.repository.book;
+
+import com.plee.library.domain.book.CatalogRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface CatalogRevisionRepository extends JpaRepository<CatalogRevision, Long> {
+
+    /**
+     * 변경 번호를 1 증가시킵니다.
+     *
+     * @return 변경된 행의 수, 변경 번호 행이 아직 없는 경우 0
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CatalogRevision c SET c.revision = c.revision + 1 WHERE c.id = :id")
+    int increase(@Param("id") Long id);
+
+    @Query("SELECT c.revision FROM CatalogRevision c WHERE c.id = :id")
+    Optional<Long> findRevision(@Param("id") Long id);
+}
@@ -0,0 +1,7 @@
+package com.plee.library.repository.job;
+
+import com.plee.library.domain.job.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
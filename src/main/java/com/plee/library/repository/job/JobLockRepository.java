@@ -0,0 +1,48 @@
+package com.plee.library.repository.job;
+
+import com.plee.library.domain.job.JobLock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    /**
+     * 잠금이 만료된 경우에만 잠금을 획득하고 fencing token 을 1 증가시킵니다.
+     *
+     * @param lockName    잠금 이름
+     * @param owner       잠금을 획득하는 노드
+     * @param now         현재 시간
+     * @param lockedUntil 잠금 만료 시간
+     * @return 변경된 행의 수, 다른 노드가 잠금을 가지고 있는 경우 0
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedBy = :owner, l.lockedAt = :now, l.lockedUntil = :lockedUntil, l.fencingToken = l.fencingToken + 1 " +
+            "WHERE l.lockName = :lockName AND l.lockedUntil <= :now")
+    int acquire(@Param("lockName") String lockName, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * 잠금을 가진 경우에만 잠금 만료 시간을 변경합니다.
+     *
+     * @param lockName     잠금 이름
+     * @param fencingToken 잠금을 획득할 때 발급된 fencing token
+     * @param lockedUntil  잠금 만료 시간
+     * @return 변경된 행의 수, 다른 노드가 잠금을 다시 획득한 경우 0
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :lockedUntil WHERE l.lockName = :lockName AND l.fencingToken = :fencingToken")
+    int release(@Param("lockName") String lockName, @Param("fencingToken") long fencingToken, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<JobLock> findByLockNameAndFencingToken(String lockName, long fencingToken);
+}
@@ -4,6 +4,8 @@ import com.plee.library.domain.member.MemberBookmark;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -14,5 +16,8 @@ public interface MemberBookmarkRepository extends JpaRepository<MemberBookmark,
 
     boolean existsByMemberIdAndBookId(Long memberId, Long bookId);
 
+    @Query("SELECT b.book.id FROM MemberBookmark b WHERE b.member.id = :memberId AND b.book.id IN :bookIds")
+    List<Long> findBookIdsByMemberIdAndBookIdIn(@Param("memberId") Long memberId, @Param("bookIds") List<Long> bookIds);
+
     void deleteByMemberIdAndBookId(Long memberId, Long bookId);
 }
@@ -1,11 +1,20 @@
 package com.plee.library.repository.member;
 
 import com.plee.library.domain.member.MemberLoanHistory;
+import com.plee.library.dto.admin.request.LoanStatusFilter;
+import com.plee.library.dto.admin.response.LoanStatusResponse;
+import com.plee.library.dto.member.condition.LoanHistoryPartition;
 import com.plee.library.dto.member.condition.LoanHistorySearchCondition;
+import com.plee.library.util.pagination.CursorPage;
+import com.plee.library.util.pagination.KeysetCursor;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MemberLoanHistoryCustom {
     List<MemberLoanHistory> searchHistory(LoanHistorySearchCondition condition);
     List<MemberLoanHistory> searchOverdueHistory(LoanHistorySearchCondition condition);
+    List<Long> findOverdueIds(LocalDateTime time, LoanHistoryPartition partition, Long lastId, int size);
+    CursorPage<LoanStatusResponse> findLoanStatusByCursor(LoanStatusFilter status, LocalDateTime now, KeysetCursor cursor, Pageable pageable);
 }
@@ -1,18 +1,26 @@
 package com.plee.library.repository.member;
 
 import com.plee.library.domain.member.MemberLoanHistory;
+import com.plee.library.dto.admin.request.LoanStatusFilter;
+import com.plee.library.dto.admin.response.LoanStatusResponse;
+import com.plee.library.dto.member.condition.LoanHistoryPartition;
 import com.plee.library.dto.member.condition.LoanHistorySearchCondition;
+import com.plee.library.util.pagination.CursorPage;
+import com.plee.library.util.pagination.KeysetCursor;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.plee.library.domain.book.QBookInfo.bookInfo;
+import static com.plee.library.domain.member.QMember.member;
 import static com.plee.library.domain.member.QMemberLoanHistory.memberLoanHistory;
-import static com.plee.library.util.constant.Constant.LOAN_PERIOD;
-import static com.plee.library.util.constant.Constant.RENEW_PERIOD;
 
 @RequiredArgsConstructor
 public class MemberLoanHistoryCustomImpl implements MemberLoanHistoryCustom{
@@ -31,6 +39,92 @@ public class MemberLoanHistoryCustomImpl implements MemberLoanHistoryCustom{
                 .fetch();
     }
 
+    /**
+     * 기준 시간에 연체된 대출 이력의 ID 를 마지막으로 처리한 ID 이후부터 오름차순으로 size 개 조회합니다.
+     * 전체 이력을 한 번에 불러오지 않고 일정 크기씩 나누어 반납 처리하기 위해 사용합니다.
+     *
+     * @param time      기준 시간
+     * @param partition 조회할 ISBN 구간
+     * @param lastId    마지막으로 처리한 대출 이력 ID
+     * @param size      조회할 최대 개수
+     * @return 연체된 대출 이력 ID 목록
+     */
+    @Override
+    public List<Long> findOverdueIds(LocalDateTime time, LoanHistoryPartition partition, Long lastId, int size) {
+        return queryFactory
+                .select(memberLoanHistory.id)
+                .from(memberLoanHistory)
+                .where(
+                        memberLoanHistory.id.gt(lastId),
+                        overdue(time),
+                        isbnInPartition(partition)
+                )
+                .orderBy(memberLoanHistory.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 관리자 대출 현황 화면에 필요한 정보를 (생성일, ID) 내림차순으로 keyset 페이지네이션하여 조회합니다.
+     * 회원, 도서 정보와 조인한 한 번의 쿼리로 화면에 필요한 컬럼만 조회하므로, 페이지 크기와 관계없이 목록과 개수 2번의 쿼리로 조회합니다.
+     * 커서가 있는 경우 offset 없이 커서 이후의 이력을 조회하고, 없는 경우 페이지 번호로 조회합니다.
+     *
+     * @param status   대출 상태 조건 (없는 경우 전체 이력)
+     * @param now      연체 여부를 판단할 기준 시간
+     * @param cursor   이전 페이지의 마지막 이력 위치
+     * @param pageable 페이지 정보
+     * @return 대출 현황과 다음 페이지 커서를 담은 CursorPage 객체
+     */
+    @Override
+    public CursorPage<LoanStatusResponse> findLoanStatusByCursor(LoanStatusFilter status, LocalDateTime now, KeysetCursor cursor, Pageable pageable) {
+        int pageSize = pageable.getPageSize();
+        JPAQuery<LoanStatusResponse> query = queryFactory
+                .select(loanStatusResponse())
+                .from(memberLoanHistory)
+                .join(memberLoanHistory.member, member)
+                .join(memberLoanHistory.bookInfo, bookInfo)
+                .where(
+                        statusEq(status, now),
+                        afterCursor(cursor)
+                )
+                .orderBy(memberLoanHistory.createdAt.desc(), memberLoanHistory.id.desc())
+                .limit(pageSize + 1);
+
+        // 커서가 없는 경우에만 offset 으로 페이지 이동
+        if (cursor == null) {
+            query.offset(pageable.getOffset());
+        }
+        List<LoanStatusResponse> results = query.fetch();
+
+        // 다음 페이지 존재 여부 확인을 위해 조회한 1건 제외
+        String nextCursor = null;
+        if (results.size() > pageSize) {
+            results = results.subList(0, pageSize);
+            LoanStatusResponse last = results.get(pageSize - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        // 상태 조건은 대출 이력의 컬럼만 사용하므로 조인 없이 개수 조회
+        Long total = queryFactory
+                .select(memberLoanHistory.count())
+                .from(memberLoanHistory)
+                .where(statusEq(status, now))
+                .fetchOne();
+        return new CursorPage<>(results, pageable, total == null ? 0 : total, nextCursor);
+    }
+
+    private ConstructorExpression<LoanStatusResponse> loanStatusResponse() {
+        return Projections.constructor(LoanStatusResponse.class,
+                memberLoanHistory.id,
+                member.name,
+                bookInfo.title,
+                bookInfo.author,
+                memberLoanHistory.isRenew,
+                memberLoanHistory.createdAt,
+                memberLoanHistory.returnedAt,
+                memberLoanHistory.dueAt);
+    }
+
     private JPAQuery<MemberLoanHistory> buildLoanHistoryQuery(LoanHistorySearchCondition condition) {
         return queryFactory
                 .selectFrom(memberLoanHistory)
@@ -43,15 +137,26 @@ public class MemberLoanHistoryCustomImpl implements MemberLoanHistoryCustom{
     }
 
     private JPAQuery<MemberLoanHistory> buildOverdueLoanHistoryQuery(LoanHistorySearchCondition condition) {
-        LocalDateTime overdue = condition.getTime().minusDays(LOAN_PERIOD);
-        LocalDateTime renewOverdue = condition.getTime().minusDays(LOAN_PERIOD + RENEW_PERIOD);
-
         return queryFactory
                 .selectFrom(memberLoanHistory)
-                .where(
-                        notReturned(true).and(time(overdue)).and(isRenewFalse())
-                        .or(notReturned(true).and(time(renewOverdue)).and(isRenewTrue()))
-                );
+                .where(overdue(condition.getTime()));
+    }
+
+    private BooleanExpression overdue(LocalDateTime time) {
+        // (returned_at, due_at) 인덱스의 범위 조회로 처리되도록 반납 예정일로만 비교
+        return notReturned(true).and(memberLoanHistory.dueAt.before(time));
+    }
+
+    private BooleanExpression statusEq(LoanStatusFilter status, LocalDateTime now) {
+        if (status == null) {
+            return null;
+        }
+        return switch (status) {
+            case LOANED -> notReturned(true);
+            case RENEWED -> notReturned(true).and(memberLoanHistory.isRenew.isTrue());
+            case OVERDUE -> overdue(now);
+            case RETURNED -> memberLoanHistory.returnedAt.isNotNull();
+        };
     }
 
     private BooleanExpression memberIdEq(Long memberId) {
@@ -70,11 +175,21 @@ public class MemberLoanHistoryCustomImpl implements MemberLoanHistoryCustom{
         return time != null ? memberLoanHistory.createdAt.before(time) : null;
     }
 
-    private BooleanExpression isRenewTrue() {
-        return memberLoanHistory.isRenew.eq(true);
+    private BooleanExpression isbnInPartition(LoanHistoryPartition partition) {
+        if (partition.isAll()) {
+            return null;
+        }
+        return partition.isbnSuffixes().stream()
+                .map(memberLoanHistory.bookInfo.isbn::endsWith)
+                .reduce(BooleanExpression::or)
+                .orElse(null);
     }
 
-    private BooleanExpression isRenewFalse() {
-        return memberLoanHistory.isRenew.eq(false);
+    private BooleanExpression afterCursor(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return memberLoanHistory.createdAt.lt(cursor.getCreatedAt())
+                .or(memberLoanHistory.createdAt.eq(cursor.getCreatedAt()).and(memberLoanHistory.id.lt(cursor.getId())));
     }
 }
@@ -1,16 +1,25 @@
 package com.plee.library.repository.member;
 
 import com.plee.library.domain.member.MemberLoanHistory;
+import com.plee.library.dto.admin.response.LoanHistoryExportRow;
+import com.plee.library.util.constant.Constant;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MemberLoanHistoryRepository extends JpaRepository<MemberLoanHistory, Long>, QuerydslPredicateExecutor<MemberLoanHistoryRepository>, MemberLoanHistoryCustom {
     boolean existsByBookInfoIsbnAndReturnedAtIsNull(String bookInfoId);
@@ -19,8 +28,60 @@ public interface MemberLoanHistoryRepository extends JpaRepository<MemberLoanHis
 
     long countByMemberIdAndReturnedAtIsNull(Long memberId);
 
-    @Query("SELECT Date(h.createdAt), COUNT(h) FROM MemberLoanHistory h WHERE Date(h.createdAt) >= :startDate AND Date(h.createdAt) <= :endDate GROUP BY Date(h.createdAt)")
-    List<Object[]> countGroupByCreatedAtRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    /**
+     * 반납 예정일이 지났지만 아직 반납되지 않은 대출 이력을 한 번에 반납 처리합니다.
+     *
+     * @param ids        대출 이력 ID 목록
+     * @param returnedAt 반납 시간
+     * @return 반납 처리된 대출 이력의 수
+     */
+    @Modifying
+    @Query("UPDATE MemberLoanHistory h SET h.returnedAt = :returnedAt WHERE h.id IN :ids AND h.returnedAt IS NULL AND h.dueAt < :returnedAt")
+    int updateReturnedAtByIdIn(@Param("ids") List<Long> ids, @Param("returnedAt") LocalDateTime returnedAt);
+
+    /**
+     * 반납 예정일이 지났지만 아직 반납되지 않은 대출 이력을 잠그고 조회합니다.
+     * 반납 처리가 끝날 때까지 회원이 직접 반납하거나 연장할 수 없으므로, 조회한 대출 이력이 그대로 반납 처리됩니다.
+     *
+     * @param ids        대출 이력 ID 목록
+     * @param returnedAt 반납 시간
+     * @return 반납 처리할 대출 이력 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM MemberLoanHistory h WHERE h.id IN :ids AND h.returnedAt IS NULL AND h.dueAt < :returnedAt")
+    List<MemberLoanHistory> findOverdueByIdInForUpdate(@Param("ids") List<Long> ids, @Param("returnedAt") LocalDateTime returnedAt);
+
+    /**
+     * 주어진 시간까지 반납 예정일이 돌아오는, 반납되지 않은 대출 이력의 ID 와 반납 예정일을 반납 예정일 순으로 조회합니다.
+     *
+     * @param dueBefore 반납 예정일 기준 시간
+     * @param pageable  조회할 최대 개수
+     * @return 대출 이력 ID 와 반납 예정일 목록
+     */
+    @Query("SELECT h.id, h.dueAt FROM MemberLoanHistory h WHERE h.returnedAt IS NULL AND h.dueAt <= :dueBefore ORDER BY h.dueAt")
+    List<Object[]> findDueAtOfNotReturned(@Param("dueBefore") LocalDateTime dueBefore, Pageable pageable);
+
+    /**
+     * 기간 동안 생성된 대출 이력의 수를 조회합니다.
+     */
+    @Query("SELECT COUNT(h) FROM MemberLoanHistory h WHERE h.createdAt >= :start AND h.createdAt < :end")
+    long countLoanedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 기간 동안 반납된 대출 이력의 수를 조회합니다. 연체 자동 반납된 대출 이력도 포함합니다.
+     */
+    @Query("SELECT COUNT(h) FROM MemberLoanHistory h WHERE h.returnedAt >= :start AND h.returnedAt < :end")
+    long countReturnedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 내보내기를 위해 전체 대출 이력을 ID 순으로 스트림으로 조회합니다.
+     * 엔티티가 아닌 행으로 조회하므로 영속성 컨텍스트에 쌓이지 않고, fetch size 만큼씩 DB 에서 읽어옵니다.
+     * 스트림을 소비하는 동안 트랜잭션이 유지되어야 하며, 사용 후 반드시 닫아야 합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constant.EXPORT_FETCH_SIZE))
+    @Query("SELECT new com.plee.library.dto.admin.response.LoanHistoryExportRow(h.id, m.id, m.loginId, m.name, b.isbn, b.title, " +
+            "h.isRenew, h.createdAt, h.dueAt, h.returnedAt) FROM MemberLoanHistory h JOIN h.member m JOIN h.bookInfo b ORDER BY h.id")
+    Stream<LoanHistoryExportRow> streamAllForExport();
 
     Page<MemberLoanHistory> findAllByMemberId(Long memberId, Pageable pageable);
     Optional<MemberLoanHistory> findByMemberIdAndBookInfoIsbnAndReturnedAtIsNull(Long memberId, String bookInfoId);
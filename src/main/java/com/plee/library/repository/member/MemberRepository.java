@@ -2,11 +2,58 @@ package com.plee.library.repository.member;
 
 import com.plee.library.domain.member.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByLoginId(String loginId);
 
     boolean existsByLoginId(String loginId);
+
+    /**
+     * 대출 한도를 넘지 않는 경우에만 회원의 대출중인 도서 수를 1 증가시킵니다.
+     *
+     * @param memberId 회원 ID
+     * @param limit    대출 가능한 최대 도서 수
+     * @return 변경된 행의 수, 대출 한도에 도달한 경우 0
+     */
+    @Modifying
+    @Query("UPDATE Member m SET m.activeLoanCount = m.activeLoanCount + 1 WHERE m.id = :memberId AND m.activeLoanCount < :limit")
+    int increaseActiveLoanCount(@Param("memberId") Long memberId, @Param("limit") int limit);
+
+    /**
+     * 회원의 대출중인 도서 수를 감소시킵니다.
+     *
+     * @param memberId 회원 ID
+     * @param count    감소시킬 수
+     * @return 변경된 행의 수, 대출중인 도서 수가 부족한 경우 0
+     */
+    @Modifying
+    @Query("UPDATE Member m SET m.activeLoanCount = m.activeLoanCount - :count WHERE m.id = :memberId AND m.activeLoanCount >= :count")
+    int decreaseActiveLoanCount(@Param("memberId") Long memberId, @Param("count") int count);
+
+    /**
+     * 대출중인 도서 수가 실제 반납되지 않은 대출 이력 수와 다른 회원을 조회합니다.
+     *
+     * @return [회원 ID, 저장된 대출중인 도서 수, 실제 대출중인 도서 수] 목록
+     */
+    @Query("SELECT m.id, m.activeLoanCount, COUNT(h) FROM Member m LEFT JOIN MemberLoanHistory h ON h.member = m AND h.returnedAt IS NULL " +
+            "GROUP BY m.id, m.activeLoanCount HAVING m.activeLoanCount <> COUNT(h)")
+    List<Object[]> findActiveLoanCountDrift();
+
+    /**
+     * 회원의 대출중인 도서 수가 조회 시점과 같은 경우에만 주어진 값으로 보정합니다.
+     *
+     * @param memberId 회원 ID
+     * @param expected 조회 시점의 대출중인 도서 수
+     * @param count    보정할 대출중인 도서 수
+     * @return 변경된 행의 수, 조회 이후 대출 또는 반납이 발생한 경우 0
+     */
+    @Modifying
+    @Query("UPDATE Member m SET m.activeLoanCount = :count WHERE m.id = :memberId AND m.activeLoanCount = :expected")
+    int updateActiveLoanCount(@Param("memberId") Long memberId, @Param("expected") int expected, @Param("count") int count);
 }
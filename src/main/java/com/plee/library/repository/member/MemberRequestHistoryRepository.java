@@ -2,14 +2,22 @@ package com.plee.library.repository.member;
 
 import com.plee.library.domain.book.BookInfo;
 import com.plee.library.domain.member.MemberRequestHistory;
+import com.plee.library.dto.admin.response.RequestHistoryExportRow;
+import com.plee.library.util.constant.Constant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MemberRequestHistoryRepository extends JpaRepository<MemberRequestHistory, Long> {
 
@@ -25,8 +33,28 @@ public interface MemberRequestHistoryRepository extends JpaRepository<MemberRequ
 
     long countByBookInfo(BookInfo bookInfo);
 
+    /**
+     * 내보내기를 위해 전체 신규 도서 요청 이력을 ID 순으로 스트림으로 조회합니다.
+     * 스트림을 소비하는 동안 트랜잭션이 유지되어야 하며, 사용 후 반드시 닫아야 합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constant.EXPORT_FETCH_SIZE))
+    @Query("SELECT new com.plee.library.dto.admin.response.RequestHistoryExportRow(r.id, m.id, m.loginId, b.isbn, b.title, " +
+            "r.requestReason, r.isApproved, r.createdAt) FROM MemberRequestHistory r JOIN r.member m JOIN r.bookInfo b ORDER BY r.id")
+    Stream<RequestHistoryExportRow> streamAllForExport();
+
     @Transactional
     @Modifying(clearAutomatically = true)
     @Query("UPDATE MemberRequestHistory m SET m.isApproved = true WHERE m.bookInfo.isbn = :isbn AND m.isApproved = false")
     void approveByBookInfoIsbn(String isbn);
+
+    /**
+     * 주어진 ISBN 에 대한 승인되지 않은 요청을 한 번에 승인 처리합니다.
+     *
+     * @param isbns 승인 처리할 도서의 ISBN 목록
+     * @return 승인 처리된 요청 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MemberRequestHistory m SET m.isApproved = true WHERE m.bookInfo.isbn IN :isbns AND m.isApproved = false")
+    int approveByBookInfoIsbnIn(@Param("isbns") Collection<String> isbns);
 }
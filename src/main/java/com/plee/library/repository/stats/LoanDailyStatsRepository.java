@@ -0,0 +1,59 @@
+package com.plee.library.repository.stats;
+
+import com.plee.library.domain.stats.LoanDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface LoanDailyStatsRepository extends JpaRepository<LoanDailyStats, LocalDate> {
+
+    List<LoanDailyStats> findAllByStatsDateBetweenOrderByStatsDate(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 날짜의 대출 통계를 주어진 수만큼 증가시킵니다.
+     *
+     * @return 변경된 행의 수, 날짜의 통계가 아직 없는 경우 0
+     */
+    @Modifying
+    @Query("UPDATE LoanDailyStats s SET s.loanCount = s.loanCount + :loan, s.returnCount = s.returnCount + :returned, " +
+            "s.renewCount = s.renewCount + :renew, s.overdueReturnCount = s.overdueReturnCount + :overdueReturn " +
+            "WHERE s.statsDate = :date")
+    int increase(@Param("date") LocalDate date, @Param("loan") long loan, @Param("returned") long returned,
+                 @Param("renew") long renew, @Param("overdueReturn") long overdueReturn);
+
+    /**
+     * 날짜의 찜, 대출 실패 통계를 주어진 수만큼 증가시킵니다.
+     *
+     * @return 변경된 행의 수, 날짜의 통계가 아직 없는 경우 0
+     */
+    @Modifying
+    @Query("UPDATE LoanDailyStats s SET s.bookmarkCount = s.bookmarkCount + :bookmark, " +
+            "s.failedCannotLoanCount = s.failedCannotLoanCount + :cannotLoan, s.failedMaxLoanCount = s.failedMaxLoanCount + :maxLoan, " +
+            "s.failedAlreadyLoanedCount = s.failedAlreadyLoanedCount + :alreadyLoaned WHERE s.statsDate = :date")
+    int increaseActivity(@Param("date") LocalDate date, @Param("bookmark") long bookmark, @Param("cannotLoan") long cannotLoan,
+                         @Param("maxLoan") long maxLoan, @Param("alreadyLoaned") long alreadyLoaned);
+
+    /**
+     * 날짜의 대출 수가 대출 이력으로 계산한 수보다 적은 경우에만 보정합니다.
+     * 반영되지 못하고 유실된 대출 수를 채우며, 회원과 함께 삭제된 대출 이력이 있을 수 있으므로 줄이지는 않습니다.
+     *
+     * @return 변경된 행의 수
+     */
+    @Modifying
+    @Query("UPDATE LoanDailyStats s SET s.loanCount = :loan WHERE s.statsDate = :date AND s.loanCount < :loan")
+    int raiseLoanCount(@Param("date") LocalDate date, @Param("loan") long loan);
+
+    /**
+     * 날짜의 반납 수와 연체 자동 반납 수의 합이 대출 이력으로 계산한 반납 수보다 적은 경우에만 반납 수를 보정합니다.
+     *
+     * @return 변경된 행의 수
+     */
+    @Modifying
+    @Query("UPDATE LoanDailyStats s SET s.returnCount = :returned - s.overdueReturnCount " +
+            "WHERE s.statsDate = :date AND s.returnCount + s.overdueReturnCount < :returned")
+    int raiseReturnCount(@Param("date") LocalDate date, @Param("returned") long returned);
+}
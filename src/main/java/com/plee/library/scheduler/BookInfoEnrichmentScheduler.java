@@ -0,0 +1,45 @@
+package com.plee.library.scheduler;
+
+import com.plee.library.service.book.BookService;
+import com.plee.library.service.job.JobLease;
+import com.plee.library.service.job.JobLockManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BookInfoEnrichmentScheduler {
+
+    private static final String JOB_NAME = "book-info-enrichment";
+    // 작업 중 노드가 종료되더라도 5분 뒤에는 다른 노드가 이어서 처리
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(5);
+    private static final Duration LOCK_AT_LEAST = Duration.ZERO;
+
+    private final BookService bookService;
+    private final JobLockManager jobLockManager;
+
+    @Scheduled(fixedDelay = 30000) // 이전 실행이 끝나고 30초 뒤에 실행
+    public void enrichRequestedBookInfos() {
+        Optional<JobLease> lease = jobLockManager.tryAcquire(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST);
+        if (lease.isEmpty()) {
+            return;
+        }
+
+        try {
+            int enrichedSize = bookService.enrichRequestedBookInfos();
+            if (enrichedSize > 0) {
+                log.info("SUCCESS enrichRequestedBookInfos: {} book infos processed", enrichedSize);
+            }
+        } catch (Exception e) {
+            log.error("ERROR enrichRequestedBookInfos error: {}", e.getMessage());
+        } finally {
+            jobLockManager.release(lease.get());
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.plee.library.scheduler;
 
+import com.plee.library.dto.member.condition.LoanHistoryPartition;
 import com.plee.library.service.book.BookService;
+import com.plee.library.service.job.JobLease;
+import com.plee.library.service.job.JobLockManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.*;
+import java.util.Optional;
 
 @Slf4j
 @EnableScheduling
@@ -15,18 +20,75 @@ import java.time.*;
 @Component
 public class BookReturnScheduler {
 
+    private static final String JOB_NAME = "overdue-return";
+    // 작업 중 노드가 종료되더라도 1시간 뒤에는 잠금이 만료되어, 중단된 작업을 다른 노드가 이어서 처리
+    private static final Duration LOCK_AT_MOST = Duration.ofHours(1);
+    // 노드 간 시간 차이로 같은 작업이 다시 실행되지 않도록 최소 5분간 잠금 유지
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(5);
+
     private final BookService bookService;
+    private final JobLockManager jobLockManager;
+
+    @Value("${library.return.partitions:1}")
+    private int partitions;
 
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정(0시 0분 0초)에 실행
     public void processBookReturnAtMidnight() {
         LocalDateTime scheduledAt = LocalDate.now().atTime(LocalTime.MIDNIGHT);
         log.info("processBookReturn scheduled at {}", scheduledAt);
 
+        // 구간마다 잠금을 획득한 하나의 노드만 처리하므로, 여러 노드가 구간을 나누어 처리
+        for (int index = 0; index < partitions; index++) {
+            LoanHistoryPartition partition = new LoanHistoryPartition(index, partitions);
+            String lockName = lockName(partition);
+
+            Optional<JobLease> lease = jobLockManager.tryAcquire(lockName, LOCK_AT_MOST, LOCK_AT_LEAST);
+            if (lease.isEmpty()) {
+                log.info("processBookReturn skipped, {} locked by another node", lockName);
+                continue;
+            }
+            process(lease.get(), scheduledAt, partition);
+        }
+    }
+
+    @Scheduled(fixedDelay = 600000, initialDelay = 60000) // 시작 1분 뒤부터, 이전 실행이 끝나고 10분마다 실행
+    public void resumeInterruptedBookReturn() {
+        // 작업 중 노드가 종료되거나 실패하여 완료되지 않은 구간을, 일정 시간과 관계없이 체크포인트부터 이어서 처리
+        for (int index = 0; index < partitions; index++) {
+            LoanHistoryPartition partition = new LoanHistoryPartition(index, partitions);
+            String lockName = lockName(partition);
+            if (bookService.findInterruptedBookReturn(lockName).isEmpty()) {
+                continue;
+            }
+
+            // 처리 중인 노드가 잠금을 가지고 있는 경우 건너뜀, 이어서 처리한 뒤에는 자정 작업을 막지 않도록 바로 잠금 반납
+            Optional<JobLease> lease = jobLockManager.tryAcquire(lockName, LOCK_AT_MOST, Duration.ZERO);
+            if (lease.isEmpty()) {
+                continue;
+            }
+            // 잠금을 획득하기 전 다른 노드가 완료한 경우를 위해 다시 확인
+            Optional<LocalDateTime> scheduledAt = bookService.findInterruptedBookReturn(lockName);
+            if (scheduledAt.isEmpty()) {
+                jobLockManager.release(lease.get());
+                continue;
+            }
+            log.info("resume interrupted processBookReturn {} scheduled at {}", lockName, scheduledAt.get());
+            process(lease.get(), scheduledAt.get(), partition);
+        }
+    }
+
+    private void process(JobLease lease, LocalDateTime scheduledAt, LoanHistoryPartition partition) {
         try {
-            int returnedSize = bookService.processDailyBookReturn(scheduledAt);
-            log.info("SUCCESS processBookReturnAtMidnight: {} books returned", returnedSize);
+            int returnedSize = bookService.processDailyBookReturn(scheduledAt, lease, partition);
+            log.info("SUCCESS processBookReturn {}: {} books returned", lease.name(), returnedSize);
         } catch (Exception e) {
-            log.error("ERROR processBookReturnAtMidnight error: {}", e.getMessage());
+            log.error("ERROR processBookReturn {} error: {}", lease.name(), e.getMessage());
+        } finally {
+            jobLockManager.release(lease);
         }
     }
+
+    private String lockName(LoanHistoryPartition partition) {
+        return partition.isAll() ? JOB_NAME : JOB_NAME + "-" + partition.index();
+    }
 }
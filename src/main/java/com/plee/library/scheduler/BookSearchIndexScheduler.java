@@ -0,0 +1,32 @@
+package com.plee.library.scheduler;
+
+import com.plee.library.repository.book.BookCountCache;
+import com.plee.library.service.book.BookSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BookSearchIndexScheduler {
+
+    private final BookSearchIndex bookSearchIndex;
+    private final BookCountCache bookCountCache;
+
+    // 색인은 노드마다 유지하므로 잠금 없이 모든 노드에서 실행
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000) // 이전 갱신이 끝난 뒤 1분마다 실행
+    public void refreshBookSearchIndex() {
+        try {
+            int changed = bookSearchIndex.refresh();
+            if (changed > 0) {
+                // 다른 노드에서 입고되거나 삭제된 도서가 있으면 이 노드에 캐싱된 도서 수도 무효화
+                bookCountCache.invalidate();
+                log.info("SUCCESS refreshBookSearchIndex: {} books changed", changed);
+            }
+        } catch (Exception e) {
+            log.error("ERROR refreshBookSearchIndex error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.plee.library.scheduler;
+
+import com.plee.library.service.book.CatalogVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CatalogVersionScheduler {
+
+    private final CatalogVersion catalogVersion;
+
+    // 변경 번호는 노드마다 메모리에 유지하므로 잠금 없이 모든 노드에서 실행
+    @Scheduled(fixedDelay = 2000, initialDelay = 2000) // 이전 반영이 끝난 뒤 2초마다 실행
+    public void flushCatalogVersion() {
+        try {
+            catalogVersion.flush();
+        } catch (Exception e) {
+            log.error("ERROR flushCatalogVersion error: {}", e.getMessage());
+        }
+    }
+}
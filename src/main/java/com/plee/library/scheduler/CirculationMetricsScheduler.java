@@ -0,0 +1,44 @@
+package com.plee.library.scheduler;
+
+import com.plee.library.domain.stats.LoanStatsType;
+import com.plee.library.service.stats.CirculationMetrics;
+import com.plee.library.service.stats.LoanStatsRecorder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CirculationMetricsScheduler {
+
+    private final CirculationMetrics circulationMetrics;
+    private final LoanStatsRecorder loanStatsRecorder;
+
+    @Scheduled(fixedDelay = 60000) // 이전 반영이 끝난 뒤 1분마다 실행
+    public void flushCirculationMetrics() {
+        Map<LocalDate, Map<LoanStatsType, Long>> drained = circulationMetrics.drainPending();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            loanStatsRecorder.recordAll(drained);
+            log.info("SUCCESS flushCirculationMetrics {}", drained);
+        } catch (Exception e) {
+            // 다음 실행 때 다시 반영되도록 되돌림
+            circulationMetrics.restorePending(drained);
+            log.error("ERROR flushCirculationMetrics error: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushCirculationMetrics();
+    }
+}
@@ -0,0 +1,134 @@
+package com.plee.library.scheduler;
+
+import com.plee.library.repository.member.MemberLoanHistoryRepository;
+import com.plee.library.service.book.BookService;
+import com.plee.library.service.book.LoanDueChangedEvent;
+import com.plee.library.service.job.JobLease;
+import com.plee.library.service.job.JobLockManager;
+import com.plee.library.util.constant.Constant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자정에 한 번에 반납하는 대신, 반납 예정일이 지난 대출을 짧은 주기로 나누어 반납합니다.
+ * 잠금을 획득한 하나의 노드만 반납하며, 다른 노드에서 대출된 도서도 반납할 수 있도록
+ * 곧 반납 예정일이 돌아오는 대출 이력을 DB 에서 미리 조회하여 반납 예정일 순으로 큐에 보관합니다.
+ * 반납에 실패한 대출은 점점 늦춰 다시 시도하며, 자정 일괄 반납은 누락된 대출을 처리하기 위해 그대로 동작합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "library.return.mode", havingValue = "continuous")
+public class ContinuousReturnScheduler {
+
+    private static final String JOB_NAME = "continuous-book-return";
+    // 작업 중 노드가 종료되더라도 1분 뒤에는 잠금이 만료
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(1);
+    // 같은 주기에 다른 노드가 다시 실행하지 않도록 최소 4초간 잠금 유지
+    private static final Duration LOCK_AT_LEAST = Duration.ofSeconds(4);
+    // 잠금이 만료되기 전에 반납을 멈추고 남은 대출은 다음 주기에 처리
+    private static final Duration PROCESS_LIMIT = Duration.ofSeconds(30);
+    // 30초마다 앞으로 1분 안에 반납 예정일이 돌아오는 대출 이력을 미리 조회
+    private static final Duration PREFETCH_WINDOW = Duration.ofMinutes(1);
+    private static final Duration PREFETCH_INTERVAL = Duration.ofSeconds(30);
+    private static final int PREFETCH_SIZE = Constant.RETURN_CHUNK_SIZE * 10;
+    // 실패한 대출은 5초부터 두 배씩, 최대 1시간까지 늦춰 다시 시도
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofHours(1);
+
+    private final BookService bookService;
+    private final MemberLoanHistoryRepository memberLoanHisRepository;
+    private final JobLockManager jobLockManager;
+    private final LoanDueQueue loanDueQueue = new LoanDueQueue();
+    private final Map<Long, Integer> failures = new ConcurrentHashMap<>();
+    // 다음에 미리 조회할 시간, 잠금을 새로 획득한 경우 null
+    private LocalDateTime nextPrefetchAt;
+
+    /**
+     * 이 노드에서 반납되거나 연장된 대출 이력은 큐에서 제거합니다.
+     * 연장된 대출 이력은 새로운 반납 예정일이 가까워지면 다시 조회됩니다.
+     */
+    @TransactionalEventListener
+    public void onLoanDueChanged(LoanDueChangedEvent event) {
+        loanDueQueue.cancel(event.history().getId());
+        failures.remove(event.history().getId());
+    }
+
+    @Scheduled(fixedDelay = 5000) // 5초마다 반납 예정일이 지난 대출 반납
+    public void processDueBookReturn() {
+        // 잠금을 획득한 하나의 노드만 처리하며, 다른 노드가 처리하는 동안 미리 조회한 대출 이력은 비움
+        Optional<JobLease> lease = jobLockManager.tryAcquire(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST);
+        if (lease.isEmpty()) {
+            if (nextPrefetchAt != null) {
+                loanDueQueue.clear();
+                failures.clear();
+                nextPrefetchAt = null;
+            }
+            return;
+        }
+
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            prefetch(startedAt);
+
+            List<Long> historyIds = loanDueQueue.pollExpired(Constant.RETURN_CHUNK_SIZE);
+            while (!historyIds.isEmpty()) {
+                returnChunk(historyIds);
+                if (LocalDateTime.now().isAfter(startedAt.plus(PROCESS_LIMIT))) {
+                    break;
+                }
+                historyIds = loanDueQueue.pollExpired(Constant.RETURN_CHUNK_SIZE);
+            }
+        } catch (Exception e) {
+            log.error("ERROR processDueBookReturn error: {}", e.getMessage());
+        } finally {
+            jobLockManager.release(lease.get());
+        }
+    }
+
+    private void prefetch(LocalDateTime now) {
+        if (nextPrefetchAt != null && now.isBefore(nextPrefetchAt)) {
+            return;
+        }
+        List<Object[]> dueSchedules = memberLoanHisRepository.findDueAtOfNotReturned(now.plus(PREFETCH_WINDOW), PageRequest.of(0, PREFETCH_SIZE));
+        for (Object[] row : dueSchedules) {
+            loanDueQueue.scheduleIfAbsent((Long) row[0], (LocalDateTime) row[1]);
+        }
+        nextPrefetchAt = now.plus(PREFETCH_INTERVAL);
+    }
+
+    private void returnChunk(List<Long> historyIds) {
+        try {
+            int returnedSize = bookService.processDueBookReturn(historyIds, LocalDateTime.now());
+            historyIds.forEach(failures::remove);
+            log.info("SUCCESS processDueBookReturn: {} books returned", returnedSize);
+        } catch (Exception e) {
+            log.error("ERROR processDueBookReturn error: {}, {} loans retried later", e.getMessage(), historyIds.size());
+            retryLater(historyIds);
+        }
+    }
+
+    /**
+     * 반납에 실패한 대출 이력을 실패 횟수에 따라 늦춘 시간으로 다시 등록합니다.
+     */
+    private void retryLater(List<Long> historyIds) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long historyId : historyIds) {
+            int attempts = failures.merge(historyId, 1, Integer::sum);
+            Duration backoff = RETRY_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+            loanDueQueue.schedule(historyId, now.plus(backoff.compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : backoff));
+        }
+    }
+}
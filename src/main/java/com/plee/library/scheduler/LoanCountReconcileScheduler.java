@@ -0,0 +1,48 @@
+package com.plee.library.scheduler;
+
+import com.plee.library.service.book.BookService;
+import com.plee.library.service.job.JobLease;
+import com.plee.library.service.job.JobLockManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LoanCountReconcileScheduler {
+
+    private static final String JOB_NAME = "active-loan-count-reconcile";
+    // 작업 중 노드가 종료되더라도 10분 뒤에는 잠금이 만료
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(10);
+    // 노드 간 시간 차이로 같은 작업이 다시 실행되지 않도록 최소 5분간 잠금 유지
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(5);
+
+    private final BookService bookService;
+    private final JobLockManager jobLockManager;
+
+    @Scheduled(cron = "0 30 0 * * *") // 자정 반납 처리 이후, 매일 0시 30분에 실행
+    public void reconcileActiveLoanCount() {
+        log.info("reconcileActiveLoanCount scheduled");
+
+        // 잠금을 획득한 하나의 노드만 처리
+        Optional<JobLease> lease = jobLockManager.tryAcquire(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST);
+        if (lease.isEmpty()) {
+            log.info("reconcileActiveLoanCount skipped, {} locked by another node", JOB_NAME);
+            return;
+        }
+
+        try {
+            int reconciledSize = bookService.reconcileActiveLoanCount();
+            log.info("SUCCESS reconcileActiveLoanCount: {} members reconciled", reconciledSize);
+        } catch (Exception e) {
+            log.error("ERROR reconcileActiveLoanCount error: {}", e.getMessage());
+        } finally {
+            jobLockManager.release(lease.get());
+        }
+    }
+}
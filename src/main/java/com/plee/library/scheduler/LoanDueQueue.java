@@ -0,0 +1,102 @@
+package com.plee.library.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 대출 이력을 반납 예정일 순으로 보관하는 큐입니다.
+ * 대출 이력마다 가장 최근의 반납 예정일 하나만 유효하며, 반납 예정일이 지난 대출 이력만 꺼낼 수 있습니다.
+ * 연장, 반납 시 큐를 탐색하여 제거하지 않도록, 대출 이력별 최신 항목만 기록한 뒤 꺼낼 때 최신이 아닌 항목을 건너뜁니다.
+ */
+public class LoanDueQueue {
+
+    private static final Comparator<DueEntry> DUE_ORDER = Comparator
+            .comparing(DueEntry::dueAt)
+            .thenComparing(DueEntry::historyId);
+    // 건너뛸 항목이 유효한 항목보다 이만큼 많아지면 큐를 다시 만듦
+    private static final int COMPACT_RATIO = 2;
+
+    private final PriorityQueue<DueEntry> queue = new PriorityQueue<>(DUE_ORDER);
+    // 대출 이력별 최신 항목, 큐에 있더라도 여기에 없는 항목은 건너뜀
+    private final Map<Long, DueEntry> entries = new HashMap<>();
+
+    /**
+     * 대출 이력의 반납 예정일을 등록합니다. 이미 등록된 경우 새로운 반납 예정일로 변경합니다.
+     *
+     * @param historyId 대출 이력 ID
+     * @param dueAt     반납 예정일
+     */
+    public synchronized void schedule(Long historyId, LocalDateTime dueAt) {
+        DueEntry entry = new DueEntry(historyId, dueAt);
+        entries.put(historyId, entry);
+        queue.offer(entry);
+        compactIfNeeded();
+    }
+
+    /**
+     * 등록되지 않은 대출 이력인 경우에만 반납 예정일을 등록합니다.
+     * 다시 시도하기 위해 늦춰 둔 반납 예정일을 덮어쓰지 않을 때 사용합니다.
+     *
+     * @param historyId 대출 이력 ID
+     * @param dueAt     반납 예정일
+     */
+    public synchronized void scheduleIfAbsent(Long historyId, LocalDateTime dueAt) {
+        if (!entries.containsKey(historyId)) {
+            schedule(historyId, dueAt);
+        }
+    }
+
+    /**
+     * 반납된 대출 이력을 큐에서 제거합니다.
+     *
+     * @param historyId 대출 이력 ID
+     */
+    public synchronized void cancel(Long historyId) {
+        entries.remove(historyId);
+        compactIfNeeded();
+    }
+
+    /**
+     * 반납 예정일이 지난 대출 이력을 반납 예정일 순으로 최대 maxSize 개 꺼냅니다.
+     *
+     * @param maxSize 꺼낼 최대 개수
+     * @return 반납 예정일이 지난 대출 이력 ID 목록
+     */
+    public synchronized List<Long> pollExpired(int maxSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> historyIds = new ArrayList<>();
+        while (historyIds.size() < maxSize && !queue.isEmpty() && !queue.peek().dueAt().isAfter(now)) {
+            DueEntry entry = queue.poll();
+            // 연장되거나 반납되어 최신이 아닌 항목은 건너뜀
+            if (entries.get(entry.historyId()) == entry) {
+                entries.remove(entry.historyId());
+                historyIds.add(entry.historyId());
+            }
+        }
+        return historyIds;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        queue.clear();
+    }
+
+    private void compactIfNeeded() {
+        if (queue.size() > (entries.size() + 1) * COMPACT_RATIO) {
+            queue.clear();
+            queue.addAll(entries.values());
+        }
+    }
+
+    private record DueEntry(Long historyId, LocalDateTime dueAt) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.plee.library.scheduler;
+
+import com.plee.library.service.job.JobLease;
+import com.plee.library.service.job.JobLockManager;
+import com.plee.library.service.stats.LoanStatsRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LoanStatsReconcileScheduler {
+
+    private static final String JOB_NAME = "loan-daily-stats-reconcile";
+    // 작업 중 노드가 종료되더라도 10분 뒤에는 잠금이 만료
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(10);
+    // 노드 간 시간 차이로 같은 작업이 다시 실행되지 않도록 최소 5분간 잠금 유지
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(5);
+    // 최근 7일의 통계를 보정
+    private static final int RECONCILE_DAYS = 7;
+
+    private final LoanStatsRecorder loanStatsRecorder;
+    private final JobLockManager jobLockManager;
+
+    @Scheduled(cron = "0 40 0 * * *") // 전날 통계가 모두 반영된 이후, 매일 0시 40분에 실행
+    public void reconcileLoanDailyStats() {
+        log.info("reconcileLoanDailyStats scheduled");
+
+        // 잠금을 획득한 하나의 노드만 처리
+        Optional<JobLease> lease = jobLockManager.tryAcquire(JOB_NAME, LOCK_AT_MOST, LOCK_AT_LEAST);
+        if (lease.isEmpty()) {
+            log.info("reconcileLoanDailyStats skipped, {} locked by another node", JOB_NAME);
+            return;
+        }
+
+        try {
+            // 오늘 통계는 아직 메모리에 모아두고 있으므로 어제까지만 보정
+            LocalDate yesterday = LocalDate.now().minusDays(1);
+            int reconciledSize = loanStatsRecorder.reconcile(yesterday.minusDays(RECONCILE_DAYS - 1), yesterday);
+            log.info("SUCCESS reconcileLoanDailyStats: {} days reconciled", reconciledSize);
+        } catch (Exception e) {
+            log.error("ERROR reconcileLoanDailyStats error: {}", e.getMessage());
+        } finally {
+            jobLockManager.release(lease.get());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.plee.library.service.book;
+
+import com.plee.library.domain.book.BookInfoEnrichment;
+import com.plee.library.dto.book.response.SearchBookResponse;
+import com.plee.library.repository.book.BookInfoEnrichmentRepository;
+import com.plee.library.repository.book.BookInfoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도서 정보 보완 대기열의 ISBN 마다 별도의 트랜잭션으로 검색 결과를 반영합니다.
+ * 외부 API 호출은 트랜잭션 밖에서 처리하고, 결과 반영과 대기열 삭제만 짧은 트랜잭션으로 묶습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookInfoEnrichmentProcessor {
+
+    private final BookInfoRepository bookInfoRepository;
+    private final BookInfoEnrichmentRepository bookInfoEnrichmentRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final CatalogVersion catalogVersion;
+
+    /**
+     * 검색 결과로 도서 정보를 보완하고 대기열에서 제거합니다.
+     * 검색 결과가 없거나 그 사이 도서 정보가 삭제된 경우 보완하지 않고 대기열에서만 제거합니다.
+     *
+     * @param isbn 도서 ISBN
+     * @param item ISBN 이 일치하는 검색 결과, 없는 경우 null
+     */
+    @Transactional
+    public void complete(String isbn, SearchBookResponse.SearchBookItem item) {
+        if (item != null) {
+            bookInfoRepository.findById(isbn)
+                    .ifPresent(bookInfo -> bookInfo.enrich(item.getImage(), item.getDescription(), item.getPubdate()));
+            // 보완 전에 입고된 도서라면 최근 입고된 도서 목록의 표지가 바뀜
+            referenceDataCache.invalidateNewBooks();
+            catalogVersion.markChanged();
+        }
+        bookInfoEnrichmentRepository.deleteById(isbn);
+        log.info("SUCCESS enrichBookInfo isbn = {}, found = {}", isbn, item != null);
+    }
+
+    /**
+     * 보완에 실패한 ISBN 의 실패 횟수를 늘리고 다음 시도 시간을 늦춥니다.
+     *
+     * @param isbn     도서 ISBN
+     * @param error    실패 사유
+     * @param failedAt 실패한 시간
+     */
+    @Transactional
+    public void retryLater(String isbn, String error, LocalDateTime failedAt) {
+        bookInfoEnrichmentRepository.findById(isbn).ifPresent(enrichment -> {
+            enrichment.retryLater(error, failedAt);
+            log.warn("enrichBookInfo failed isbn = {}, attempts = {}, next = {}, error = {}",
+                    isbn, enrichment.getAttempts(), enrichment.getNextAttemptAt(), error);
+        });
+    }
+}
@@ -0,0 +1,486 @@
+package com.plee.library.service.book;
+
+import com.plee.library.dto.book.condition.BookSearchCondition;
+import com.plee.library.dto.book.response.BookSearchDocument;
+import com.plee.library.repository.book.BookCountCache;
+import com.plee.library.repository.book.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 도서 제목과 저자에 대한 n-gram 역색인입니다.
+ * 한글 음절 단위로 1-gram, 2-gram 을 색인하여 LIKE '%keyword%' 검색을 DB 전체 스캔 없이 처리합니다.
+ * 모든 posting 은 (생성일, ID) 순으로 정렬해 두어, 검색 시 일치하는 도서를 복사하거나 정렬하지 않고 필요한 페이지까지만 순회합니다.
+ * 색인은 노드마다 유지하므로, 다른 노드에서 변경된 도서는 주기적인 갱신으로 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndex {
+
+    private static final int MAX_GRAM = 2;
+    // 색인에 없는 도서 정보를 나누어 조회할 도서 수
+    private static final int REFRESH_CHUNK_SIZE = 1000;
+    // 다른 노드에서 늦게 커밋된 도서를 놓치지 않도록, 색인의 가장 최근 도서의 생성일보다 5분 앞서부터 조회
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(5);
+    // 도서 수가 같아 삭제를 발견하지 못한 경우를 위해 60번 갱신마다 한 번은 전체 ID 를 비교
+    private static final int FULL_REFRESH_INTERVAL = 60;
+    private static final Comparator<IndexedBook> CREATED_ORDER = Comparator
+            .comparing(IndexedBook::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(IndexedBook::bookId);
+
+    private final BookRepository bookRepository;
+    private final BookCountCache bookCountCache;
+
+    private final Map<Long, IndexedBook> books = new HashMap<>();
+    private final NavigableSet<IndexedBook> ordered = new TreeSet<>(CREATED_ORDER);
+    private final Map<Long, NavigableSet<IndexedBook>> categoryIndex = new HashMap<>();
+    private final Map<String, NavigableSet<IndexedBook>> titleIndex = new HashMap<>();
+    private final Map<String, NavigableSet<IndexedBook>> authorIndex = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int refreshCount;
+
+    /**
+     * 애플리케이션 시작 시 DB 의 도서 정보로 색인을 재구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<BookSearchDocument> documents = bookRepository.findAllSearchDocuments();
+
+        lock.writeLock().lock();
+        try {
+            books.clear();
+            ordered.clear();
+            categoryIndex.clear();
+            titleIndex.clear();
+            authorIndex.clear();
+            documents.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("SUCCESS rebuild BookSearchIndex size = {}", documents.size());
+    }
+
+    /**
+     * 다른 노드에서 입고되거나 삭제된 도서를 색인에 반영합니다.
+     * 색인의 가장 최근 도서의 (생성일, ID) 이후에 생성된 도서만 조회하여 추가하며,
+     * 추가 이후에도 DB 와 색인의 도서 수가 다른 경우, 또는 주기적으로 한 번은 전체 ID 를 비교하여 삭제된 도서를 제거합니다.
+     *
+     * @return 추가되거나 제거된 도서의 수
+     */
+    public int refresh() {
+        IndexedBook latest;
+        lock.readLock().lock();
+        try {
+            latest = ordered.isEmpty() ? null : ordered.last();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        LocalDateTime createdAt = latest == null || latest.createdAt() == null ? null : latest.createdAt().minus(REFRESH_OVERLAP);
+        Long bookId = 0L;
+        int changed = 0;
+        List<BookSearchDocument> documents;
+        do {
+            documents = bookRepository.findSearchDocumentsAfter(createdAt, bookId, REFRESH_CHUNK_SIZE);
+            changed += putAbsent(documents);
+            if (documents.isEmpty()) {
+                break;
+            }
+            BookSearchDocument last = documents.get(documents.size() - 1);
+            createdAt = last.getCreatedAt();
+            bookId = last.getBookId();
+        } while (documents.size() == REFRESH_CHUNK_SIZE && createdAt != null);
+
+        if (++refreshCount >= FULL_REFRESH_INTERVAL || bookRepository.count() != size()) {
+            refreshCount = 0;
+            changed += refreshAll();
+        }
+        return changed;
+    }
+
+    /**
+     * DB 의 도서 ID 목록과 색인을 비교하여, 색인에 없는 도서는 추가하고 DB 에 없는 도서는 제거합니다.
+     * 비교 도중 이 노드에서 추가된 도서는 제거하지 않도록, DB 조회 이전의 색인에 있던 도서만 제거합니다.
+     */
+    private int refreshAll() {
+        Set<Long> indexedIds;
+        lock.readLock().lock();
+        try {
+            indexedIds = new HashSet<>(books.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Set<Long> storedIds = new HashSet<>(bookRepository.findAllIds());
+        List<Long> missingIds = storedIds.stream()
+                .filter(id -> !indexedIds.contains(id))
+                .toList();
+        int changed = 0;
+        for (int from = 0; from < missingIds.size(); from += REFRESH_CHUNK_SIZE) {
+            changed += putAbsent(bookRepository.findSearchDocumentsByIdIn(
+                    missingIds.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, missingIds.size()))));
+        }
+        indexedIds.removeAll(storedIds);
+
+        lock.writeLock().lock();
+        try {
+            for (Long deletedId : indexedIds) {
+                if (books.containsKey(deletedId)) {
+                    remove(deletedId, false);
+                    changed++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return changed;
+    }
+
+    private int putAbsent(List<BookSearchDocument> documents) {
+        if (documents.isEmpty()) {
+            return 0;
+        }
+        int added = 0;
+        lock.writeLock().lock();
+        try {
+            for (BookSearchDocument document : documents) {
+                if (!books.containsKey(document.getBookId())) {
+                    put(document);
+                    added++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return added;
+    }
+
+    /**
+     * 도서를 색인에 추가합니다.
+     * 트랜잭션 안에서 호출된 경우, 커밋 이후에 반영됩니다.
+     *
+     * @param document 색인할 도서 정보
+     */
+    public void add(BookSearchDocument document) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(document.getBookId(), false);
+                put(document);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 도서를 색인에서 제거합니다.
+     * 트랜잭션 안에서 호출된 경우, 커밋 이후에 반영됩니다.
+     *
+     * @param bookId 도서 ID
+     */
+    public void remove(Long bookId) {
+        afterCommit(() -> remove(bookId, true));
+    }
+
+    /**
+     * 검색 조건에 부합하는 도서 ID 를 정렬 및 페이지네이션하여 반환합니다.
+     * 제목, 저자 검색은 대소문자를 구분하지 않는 부분 일치이며, 카테고리 조건은 AND 로 적용됩니다.
+     * 생성일 순으로 정렬하는 경우 posting 을 정렬된 순서대로 순회하며, 키워드 조건이 없으면 요청한 페이지까지만 순회합니다.
+     * 추정 모드를 사용하는 경우 전체 검색 결과 수는 {@link BookCountCache#getEstimateLimit()} + 1 을 넘지 않으며, 그 수에 도달하면 순회를 멈춥니다.
+     *
+     * @param condition 검색 조건
+     * @param pageable  페이지 정보
+     * @return 해당 페이지의 도서 ID 와 전체 검색 결과 수를 담은 Page 객체
+     */
+    public Page<Long> search(BookSearchCondition condition, Pageable pageable) {
+        String keyword = normalize(condition.getKeyword());
+        boolean byTitle = condition.isTitle();
+        boolean byAuthor = condition.isAuthor();
+        Long categoryId = condition.getCategoryId();
+        Predicate<IndexedBook> matches = book -> book.matches(keyword, byTitle, byAuthor, categoryId);
+        int estimateLimit = bookCountCache.getEstimateLimit();
+        long maxTotal = estimateLimit > 0 ? estimateLimit + 1L : Long.MAX_VALUE;
+        Sort.Order order = pageable.getSort().getOrderFor("createdAt");
+
+        lock.readLock().lock();
+        try {
+            List<NavigableSet<IndexedBook>> postings = findCandidates(keyword, byTitle, byAuthor, categoryId);
+            if (order == null) {
+                return pageById(postings, matches, pageable, maxTotal);
+            }
+            // 키워드 조건이 없으면 후보가 모두 일치하므로 순회하지 않고 결과 수를 구함
+            long knownTotal = keyword.isEmpty() || (!byTitle && !byAuthor) ? postings.get(0).size() : -1;
+            return pageInOrder(iterate(postings, order.isAscending()), matches, knownTotal, pageable, maxTotal);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return books.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 조건의 후보 도서를 담은 posting 목록을 반환합니다.
+     * 키워드 조건이 없는 경우 카테고리 또는 전체 도서를, 있는 경우 제목, 저자 posting 과 카테고리 posting 중 더 작은 쪽을 반환합니다.
+     */
+    private List<NavigableSet<IndexedBook>> findCandidates(String keyword, boolean byTitle, boolean byAuthor, Long categoryId) {
+        NavigableSet<IndexedBook> category = categoryId == null
+                ? ordered
+                : categoryIndex.getOrDefault(categoryId, Collections.emptyNavigableSet());
+        if (keyword.isEmpty() || (!byTitle && !byAuthor)) {
+            return List.of(category);
+        }
+
+        List<NavigableSet<IndexedBook>> postings = new ArrayList<>(2);
+        if (byTitle) {
+            postings.add(lookup(titleIndex, keyword));
+        }
+        if (byAuthor) {
+            postings.add(lookup(authorIndex, keyword));
+        }
+        int size = postings.stream().mapToInt(Set::size).sum();
+        return category.size() < size ? List.of(category) : postings;
+    }
+
+    /**
+     * 정렬된 순서대로 일치하는 도서를 순회하며 요청한 페이지의 도서 ID 만 담습니다.
+     * 페이지를 채운 뒤에는 결과 수를 이미 알거나 최대 결과 수에 도달하면 순회를 멈춥니다.
+     */
+    private Page<Long> pageInOrder(Iterator<IndexedBook> iterator, Predicate<IndexedBook> matches, long knownTotal,
+                                   Pageable pageable, long maxTotal) {
+        long offset = pageable.getOffset();
+        int pageSize = pageable.getPageSize();
+        List<Long> content = new ArrayList<>(pageSize);
+        long total = 0;
+        while (iterator.hasNext()) {
+            if (content.size() == pageSize && (knownTotal >= 0 || total >= maxTotal)) {
+                break;
+            }
+            IndexedBook book = iterator.next();
+            if (!matches.test(book)) {
+                continue;
+            }
+            if (total >= offset && content.size() < pageSize) {
+                content.add(book.bookId());
+            }
+            total++;
+        }
+        return new PageImpl<>(content, pageable, Math.min(knownTotal >= 0 ? knownTotal : total, maxTotal));
+    }
+
+    /**
+     * 정렬 조건이 없는 경우 저장 순서(ID) 로 정렬합니다.
+     * 요청한 페이지까지의 도서 ID 만 힙에 유지하므로, 일치하는 도서 전체를 복사하거나 정렬하지 않습니다.
+     */
+    private Page<Long> pageById(List<NavigableSet<IndexedBook>> postings, Predicate<IndexedBook> matches,
+                                Pageable pageable, long maxTotal) {
+        long keep = pageable.getOffset() + pageable.getPageSize();
+        PriorityQueue<Long> largestFirst = new PriorityQueue<>(Comparator.reverseOrder());
+        long total = 0;
+        Iterator<IndexedBook> iterator = iterate(postings, true);
+        while (iterator.hasNext()) {
+            IndexedBook book = iterator.next();
+            if (!matches.test(book)) {
+                continue;
+            }
+            total++;
+            largestFirst.offer(book.bookId());
+            if (largestFirst.size() > keep) {
+                largestFirst.poll();
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(largestFirst);
+        Collections.sort(ids);
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        return new PageImpl<>(new ArrayList<>(ids.subList(from, ids.size())), pageable, Math.min(total, maxTotal));
+    }
+
+    private static Iterator<IndexedBook> iterate(List<NavigableSet<IndexedBook>> postings, boolean ascending) {
+        if (postings.size() == 1) {
+            return ascending ? postings.get(0).iterator() : postings.get(0).descendingIterator();
+        }
+        return new UnionIterator(postings.get(0), postings.get(1), ascending);
+    }
+
+    /**
+     * 키워드의 n-gram 중 가장 적은 도서를 가진 posting 을 후보로 반환합니다.
+     * 실제 일치 여부는 후보 검증 단계에서 확인합니다.
+     */
+    private NavigableSet<IndexedBook> lookup(Map<String, NavigableSet<IndexedBook>> index, String keyword) {
+        NavigableSet<IndexedBook> smallest = null;
+        for (String gram : grams(keyword)) {
+            NavigableSet<IndexedBook> posting = index.getOrDefault(gram, Collections.emptyNavigableSet());
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+            if (smallest.isEmpty()) {
+                break;
+            }
+        }
+        return smallest == null ? Collections.emptyNavigableSet() : smallest;
+    }
+
+    private void put(BookSearchDocument document) {
+        IndexedBook book = new IndexedBook(
+                document.getBookId(),
+                normalize(document.getTitle()),
+                normalize(document.getAuthor()),
+                document.getCategoryId(),
+                document.getCreatedAt());
+        books.put(book.bookId(), book);
+        ordered.add(book);
+        categoryIndex.computeIfAbsent(book.categoryId(), k -> new TreeSet<>(CREATED_ORDER)).add(book);
+        grams(book.title()).forEach(gram -> titleIndex.computeIfAbsent(gram, k -> new TreeSet<>(CREATED_ORDER)).add(book));
+        grams(book.author()).forEach(gram -> authorIndex.computeIfAbsent(gram, k -> new TreeSet<>(CREATED_ORDER)).add(book));
+    }
+
+    private void remove(Long bookId, boolean acquireLock) {
+        if (acquireLock) {
+            lock.writeLock().lock();
+        }
+        try {
+            IndexedBook book = books.remove(bookId);
+            if (book == null) {
+                return;
+            }
+            ordered.remove(book);
+            unlink(categoryIndex, book.categoryId(), book);
+            grams(book.title()).forEach(gram -> unlink(titleIndex, gram, book));
+            grams(book.author()).forEach(gram -> unlink(authorIndex, gram, book));
+        } finally {
+            if (acquireLock) {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private <K> void unlink(Map<K, NavigableSet<IndexedBook>> index, K key, IndexedBook book) {
+        NavigableSet<IndexedBook> posting = index.get(key);
+        if (posting != null) {
+            posting.remove(book);
+            if (posting.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 한글 자모가 분리되어 입력된 경우에도 일치하도록 NFKC 정규화 후 소문자로 변환합니다.
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value.trim(), Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 문자열의 1-gram, 2-gram 집합을 반환합니다.
+     * 한 글자 검색어는 1-gram 으로, 두 글자 이상의 검색어는 대부분 더 작은 2-gram posting 으로 후보를 좁힙니다.
+     */
+    static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        int[] codePoints = value.codePoints().toArray();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= codePoints.length; i++) {
+                grams.add(new String(codePoints, i, n));
+            }
+        }
+        return grams;
+    }
+
+    private record IndexedBook(Long bookId, String title, String author, Long categoryId, LocalDateTime createdAt) {
+
+        boolean matches(String keyword, boolean byTitle, boolean byAuthor, Long categoryId) {
+            if (categoryId != null && !categoryId.equals(this.categoryId)) {
+                return false;
+            }
+            if (keyword.isEmpty() || (!byTitle && !byAuthor)) {
+                return true;
+            }
+            return (byTitle && title.contains(keyword)) || (byAuthor && author.contains(keyword));
+        }
+    }
+
+    /**
+     * 같은 순서로 정렬된 두 posting 을 합쳐 중복 없이 순서대로 순회합니다.
+     */
+    private static class UnionIterator implements Iterator<IndexedBook> {
+        private final Iterator<IndexedBook> first;
+        private final Iterator<IndexedBook> second;
+        private final Comparator<IndexedBook> order;
+        private IndexedBook nextFirst;
+        private IndexedBook nextSecond;
+
+        UnionIterator(NavigableSet<IndexedBook> first, NavigableSet<IndexedBook> second, boolean ascending) {
+            this.first = ascending ? first.iterator() : first.descendingIterator();
+            this.second = ascending ? second.iterator() : second.descendingIterator();
+            this.order = ascending ? CREATED_ORDER : CREATED_ORDER.reversed();
+            this.nextFirst = advance(this.first);
+            this.nextSecond = advance(this.second);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextFirst != null || nextSecond != null;
+        }
+
+        @Override
+        public IndexedBook next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int compared = nextFirst == null ? 1 : nextSecond == null ? -1 : order.compare(nextFirst, nextSecond);
+            IndexedBook next = compared <= 0 ? nextFirst : nextSecond;
+            if (compared <= 0) {
+                nextFirst = advance(first);
+            }
+            if (compared >= 0) {
+                nextSecond = advance(second);
+            }
+            return next;
+        }
+
+        private static IndexedBook advance(Iterator<IndexedBook> iterator) {
+            return iterator.hasNext() ? iterator.next() : null;
+        }
+    }
+}
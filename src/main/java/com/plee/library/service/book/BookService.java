@@ -1,31 +1,50 @@
 package com.plee.library.service.book;
 
 import com.plee.library.dto.admin.request.SearchBookRequest;
+import com.plee.library.dto.admin.request.LoanStatsPeriod;
+import com.plee.library.dto.admin.request.LoanStatusFilter;
 import com.plee.library.dto.admin.request.UpdateBookRequest;
 import com.plee.library.dto.admin.response.BooksResponse;
 import com.plee.library.dto.admin.response.LoanStatusResponse;
 import com.plee.library.dto.admin.response.RequestStatusResponse;
 import com.plee.library.dto.admin.response.LoanDailyStatusResponse;
+import com.plee.library.dto.admin.response.LoanDailyStatsResponse;
 import com.plee.library.dto.book.request.*;
 import com.plee.library.dto.book.response.*;
+import com.plee.library.domain.member.Role;
+import com.plee.library.dto.member.condition.LoanHistoryPartition;
+import com.plee.library.service.job.JobLease;
+import com.plee.library.util.pagination.CursorPage;
+import com.plee.library.util.resilience.TokenBucketRateLimiter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface BookService {
     void saveBook(SaveBookRequest request);
 
     void addNewBookRequest(AddBookRequest request, Long memberId);
 
+    int enrichRequestedBookInfos();
+
     void loanBook(Long bookId, Long memberId);
 
     void renewBook(Long historyId);
 
     void returnBook(ReturnBookRequest request, Long memberId);
 
-    int processDailyBookReturn(LocalDateTime scheduledDateTime);
+    int processDailyBookReturn(LocalDateTime scheduledDateTime, JobLease lease, LoanHistoryPartition partition);
+
+    int processDueBookReturn(List<Long> historyIds, LocalDateTime returnedAt);
+
+    Optional<LocalDateTime> findInterruptedBookReturn(String jobName);
+
+    int reconcileActiveLoanCount();
 
     void updateBookQuantity(Long bookId, UpdateBookRequest request);
 
@@ -37,15 +56,21 @@ public interface BookService {
 
     LoanDailyStatusResponse calculateDailyLoanCounts();
 
+    List<LoanDailyStatsResponse> findLoanStats(LoanStatsPeriod period, LocalDate endDate);
+
     Page<BooksMarkResponse> findBySearchKeyword(SearchKeywordBookRequest request, Long memberId, Pageable pageable);
 
+    int getSearchCountLimit();
+
     List<BookInfoResponse> findNewBooks();
 
     BookDetailResponse getBookDetails(Long memberId, Long bookId);
 
     List<CategoryResponse> findCategories();
 
-    Page<BooksResponse> findBooks(Pageable pageable);
+    ReferenceDataCache.Stats getReferenceDataCacheStats();
+
+    CursorPage<BooksResponse> findBooks(String cursor, Pageable pageable);
 
     Page<BooksResponse> searchBooks(SearchBookRequest request, Pageable pageable);
 
@@ -59,11 +84,15 @@ public interface BookService {
 
     Page<LoanHistoryResponse> findOnLoanHistory(Long memberId);
 
-    Page<LoanStatusResponse> findAllLoanHistory(Pageable pageable);
+    CursorPage<LoanStatusResponse> findAllLoanHistory(LoanStatusFilter status, String cursor, Pageable pageable);
 
     Page<RequestHistoryResponse> findMemberRequestHistory(Long memberId, Pageable pageable);
 
-    SearchBookResponse findBySearchApi(String keyword);
+    CompletableFuture<SearchBookResponse> findBySearchApi(String keyword, Role role);
+
+    NaverBookSearchCache.Stats getSearchApiCacheStats();
+
+    TokenBucketRateLimiter.Stats getSearchApiQuotaStats();
 
     Page<RequestStatusResponse> findAllNewBookReqHistory(Pageable pageable);
 
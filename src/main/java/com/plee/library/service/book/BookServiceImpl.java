@@ -1,43 +1,62 @@
 package com.plee.library.service.book;
 
-import com.plee.library.config.NaverBookSearchConfig;
 import com.plee.library.domain.book.Book;
 import com.plee.library.domain.book.BookCategory;
 import com.plee.library.domain.book.BookInfo;
+import com.plee.library.domain.book.BookInfoEnrichment;
 import com.plee.library.domain.member.Member;
 import com.plee.library.domain.member.MemberBookmark;
 import com.plee.library.domain.member.MemberLoanHistory;
 import com.plee.library.domain.member.MemberRequestHistory;
+import com.plee.library.domain.member.Role;
+import com.plee.library.domain.stats.LoanDailyStats;
+import com.plee.library.dto.admin.request.LoanStatsPeriod;
+import com.plee.library.dto.admin.request.LoanStatusFilter;
 import com.plee.library.dto.admin.request.SearchBookRequest;
 import com.plee.library.dto.admin.request.UpdateBookRequest;
 import com.plee.library.dto.admin.response.BooksResponse;
 import com.plee.library.dto.admin.response.LoanStatusResponse;
+import com.plee.library.dto.admin.response.LoanDailyStatsResponse;
 import com.plee.library.dto.admin.response.LoanDailyStatusResponse;
 import com.plee.library.dto.admin.response.RequestStatusResponse;
 import com.plee.library.dto.book.condition.BookSearchCondition;
 import com.plee.library.dto.book.request.*;
 import com.plee.library.dto.book.response.*;
 import com.plee.library.repository.book.BookCategoryRepository;
+import com.plee.library.repository.book.BookCountCache;
+import com.plee.library.repository.book.BookInfoEnrichmentRepository;
 import com.plee.library.util.constant.Constant;
 import com.plee.library.util.message.BookMessage;
 import com.plee.library.util.message.MemberMessage;
+import com.plee.library.util.pagination.CursorPage;
+import com.plee.library.util.pagination.KeysetCursor;
+import com.plee.library.util.resilience.TokenBucketRateLimiter;
+import com.plee.library.config.NaverBookSearchConfig;
 import com.plee.library.repository.book.BookInfoRepository;
 import com.plee.library.repository.book.BookRepository;
 import com.plee.library.repository.member.MemberBookmarkRepository;
 import com.plee.library.repository.member.MemberLoanHistoryRepository;
 import com.plee.library.repository.member.MemberRepository;
 import com.plee.library.repository.member.MemberRequestHistoryRepository;
+import com.plee.library.dto.member.condition.LoanHistoryPartition;
 import com.plee.library.dto.member.condition.LoanHistorySearchCondition;
+import com.plee.library.repository.stats.LoanDailyStatsRepository;
+import com.plee.library.service.job.JobLease;
+import com.plee.library.service.stats.CirculationEvent;
+import com.plee.library.service.stats.CirculationMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Service
@@ -51,7 +70,18 @@ public class BookServiceImpl implements BookService {
     private final MemberBookmarkRepository memberBookmarkRepository;
     private final MemberLoanHistoryRepository memberLoanHisRepository;
     private final MemberRepository memberRepository;
+    private final NaverBookSearchCache naverBookSearchCache;
     private final NaverBookSearchConfig naverBookSearchConfig;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookCountCache bookCountCache;
+    private final ReferenceDataCache referenceDataCache;
+    private final CatalogVersion catalogVersion;
+    private final OverdueReturnProcessor overdueReturnProcessor;
+    private final BookInfoEnrichmentRepository bookInfoEnrichmentRepository;
+    private final BookInfoEnrichmentProcessor bookInfoEnrichmentProcessor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LoanDailyStatsRepository loanDailyStatsRepository;
+    private final CirculationMetrics circulationMetrics;
 
     /**
      * 도서 입고처리를 위해 저장합니다.
@@ -77,6 +107,10 @@ public class BookServiceImpl implements BookService {
                 .category(category)
                 .build();
         bookRepository.save(book);
+        bookSearchIndex.add(BookSearchDocument.from(book));
+        bookCountCache.invalidate();
+        referenceDataCache.invalidateNewBooks();
+        catalogVersion.markChanged();
         log.info("SUCCESS saveBook bookId = {}", book.getId());
     }
 
@@ -113,13 +147,12 @@ public class BookServiceImpl implements BookService {
      *
      * @param request  추가 요청 정보
      * @param memberId 회원 ID
-     * @throws IllegalStateException  이미 보유한 도서거나, 회원이 추가 요청을 한 도서인 경우
      * @throws NoSuchElementException 회원 정보를 찾을 수 없는 경우
+     * @throws IllegalStateException  이미 보유한 도서거나, 회원이 추가 요청을 한 도서인 경우
      */
     @Override
     @Transactional
     public void addNewBookRequest(AddBookRequest request, Long memberId) {
-        Member member = findMemberById(memberId);
         String requestIsbn = request.getIsbn();
 
         // 이미 보유한 도서인 경우
@@ -128,14 +161,72 @@ public class BookServiceImpl implements BookService {
         }
 
         // 이미 추가 요청한 도서인 경우
-        if (memberReqHisRepository.existsByMemberIdAndBookInfoIsbn(member.getId(), requestIsbn)) {
+        if (memberReqHisRepository.existsByMemberIdAndBookInfoIsbn(memberId, requestIsbn)) {
             throw new IllegalStateException(BookMessage.ALREADY_BOOK_REQUEST.getMessage());
         }
 
         // 다른 회원의 요청 등의 이유로 도서 정보가 존재한다면 해당 정보를 사용, 존재하지 않는다면 도서 정보 생성
         BookInfo bookInfo = bookInfoRepository.findById(requestIsbn)
-                .orElseGet(() -> bookInfoRepository.save(request.toEntity()));
-        member.addBookRequest(bookInfo, request.getReqReason());
+                .orElseGet(() -> createRequestedBookInfo(request));
+        // 로그인한 회원이므로 회원을 다시 조회하지 않고 참조만 사용
+        memberReqHisRepository.save(new MemberRequestHistory(getMemberReference(memberId), bookInfo, request.getReqReason()));
+    }
+
+    /**
+     * 요청된 도서 정보를 생성하고, 같은 트랜잭션에서 도서 정보 보완 대기열에 추가합니다.
+     * 대기열은 데이터베이스에 저장되므로, 서버가 재시작되더라도 보완 작업이 유실되지 않습니다.
+     */
+    private BookInfo createRequestedBookInfo(AddBookRequest request) {
+        BookInfo bookInfo = bookInfoRepository.save(request.toEntity());
+        bookInfoEnrichmentRepository.save(new BookInfoEnrichment(bookInfo.getIsbn(), LocalDateTime.now()));
+        return bookInfo;
+    }
+
+    /**
+     * 도서 정보 보완 대기열에서 시도할 시간이 된 ISBN 을 꺼내 네이버 도서 검색 API 로 표지, 소개, 출간일을 보완합니다.
+     * 낮은 우선순위로 정해진 수만큼만 동시에 호출하므로 회원의 검색 요청을 방해하지 않으며, 실패한 ISBN 은 대기 시간을 늘려 다시 시도합니다.
+     *
+     * @return 처리한 ISBN 의 수
+     */
+    @Override
+    public int enrichRequestedBookInfos() {
+        List<String> isbns = bookInfoEnrichmentRepository.findDueIsbns(LocalDateTime.now(), Constant.ENRICH_MAX_ATTEMPTS,
+                PageRequest.of(0, Constant.ENRICH_BATCH_SIZE));
+
+        for (int from = 0; from < isbns.size(); from += Constant.ENRICH_CONCURRENCY) {
+            List<String> window = isbns.subList(from, Math.min(from + Constant.ENRICH_CONCURRENCY, isbns.size()));
+            CompletableFuture<?>[] lookups = window.stream()
+                    .map(this::enrichBookInfo)
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(lookups).join();
+        }
+        return isbns.size();
+    }
+
+    private CompletableFuture<Void> enrichBookInfo(String isbn) {
+        SearchApiBookRequest searchReq = new SearchApiBookRequest(isbn);
+        searchReq.setDisplay(10);
+        return naverBookSearchConfig.searchBook(searchReq, TokenBucketRateLimiter.Priority.LOW)
+                .handle((response, e) -> {
+                    if (e != null) {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        bookInfoEnrichmentProcessor.retryLater(isbn, cause.getMessage(), LocalDateTime.now());
+                        return null;
+                    }
+                    bookInfoEnrichmentProcessor.complete(isbn, findSearchItem(response, isbn));
+                    return null;
+                });
+    }
+
+    private SearchBookResponse.SearchBookItem findSearchItem(SearchBookResponse response, String isbn) {
+        if (response == null || response.getItems() == null) {
+            return null;
+        }
+        // 검색 결과의 ISBN 은 "ISBN10 ISBN13" 형식
+        return response.getItems().stream()
+                .filter(item -> item.getIsbn() != null && item.getIsbn().contains(isbn))
+                .findFirst()
+                .orElse(null);
     }
 
     /**
@@ -143,42 +234,68 @@ public class BookServiceImpl implements BookService {
      *
      * @param bookId   도서 ID
      * @param memberId 회원 ID
-     * @throws NoSuchElementException 해당 회원 또는 도서를 찾을 수 없는 경우
+     * @throws NoSuchElementException 해당 도서 또는 회원 정보를 찾을 수 없는 경우
      * @throws IllegalStateException  대출 가능한 도서가 없는 경우, 이미 대출 중인 도서인 경우, 대출 가능한 도서의 수를 초과한 경우
      */
     @Override
     @Transactional
     public void loanBook(Long bookId, Long memberId) {
-        // 회원 및 도서 조회
-        Member member = findMemberById(memberId);
         Book book = findBookById(bookId);
 
         // 대출 가능한 도서 수량이 없는 경우
         if (book.getLoanableCnt() <= 0) {
-            throw new IllegalStateException(BookMessage.CANNOT_LOAN_BOOK.getMessage());
+            throw loanFailure(CirculationEvent.LOAN_FAILED_CANNOT_LOAN, BookMessage.CANNOT_LOAN_BOOK);
         }
 
         // 이미 대출한 도서인 경우
-        if (memberLoanHisRepository.findByMemberIdAndBookInfoIsbnAndReturnedAtIsNull(member.getId(), book.getBookInfo().getIsbn()).isPresent()) {
-            throw new IllegalStateException(BookMessage.ALREADY_LOAN_BOOK.getMessage());
+        if (memberLoanHisRepository.findByMemberIdAndBookInfoIsbnAndReturnedAtIsNull(memberId, book.getBookInfo().getIsbn()).isPresent()) {
+            throw loanFailure(CirculationEvent.LOAN_FAILED_ALREADY_LOANED, BookMessage.ALREADY_LOAN_BOOK);
         }
 
-        // 대출 가능한 도서의 수를 초과한 경우
-        if (memberLoanHisRepository.countByMemberIdAndReturnedAtIsNull(member.getId()) >= Constant.LOANABLE_BOOK_LIMIT) {
-            throw new IllegalStateException(BookMessage.MAX_LOAN_BOOK.getMessage());
+        // 대출 가능한 도서의 수를 초과하지 않는 경우에만 대출중인 도서 수 증가
+        if (memberRepository.increaseActiveLoanCount(memberId, Constant.LOANABLE_BOOK_LIMIT) == 0) {
+            // 로그인 이후 회원이 삭제되어 변경된 행이 없는 경우
+            if (!memberRepository.existsById(memberId)) {
+                throw new NoSuchElementException(MemberMessage.NOT_FOUND_MEMBER.getMessage());
+            }
+            throw loanFailure(CirculationEvent.LOAN_FAILED_MAX_LOAN, BookMessage.MAX_LOAN_BOOK);
+        }
+
+        // 대출 가능한 수량이 남아있는 경우에만 감소 (동시 대출 시 재고 초과 대출 방지)
+        if (bookRepository.decreaseLoanableCnt(bookId) == 0) {
+            throw loanFailure(CirculationEvent.LOAN_FAILED_CANNOT_LOAN, BookMessage.CANNOT_LOAN_BOOK);
         }
 
-        // 대출 처리 및 대출 가능한 수량 감소
-        member.loanBook(book);
-        book.decreaseLoanableCnt();
+        // 대출 처리
+        MemberLoanHistory history = new MemberLoanHistory(memberRepository.getReferenceById(memberId), book.getBookInfo());
+        memberLoanHisRepository.save(history);
+        circulationMetrics.recordAfterCommit(CirculationEvent.LOAN);
+        eventPublisher.publishEvent(new LoanDueChangedEvent(history));
+        // 마지막 남은 도서를 대출하여 목록의 대출 가능 여부가 바뀐 경우
+        if (bookRepository.existsByIdAndLoanableCnt(bookId, 0)) {
+            catalogVersion.markChanged();
+        }
         log.info("SUCCESS loanBook bookId = {}, loginId = {}", bookId, memberId);
     }
 
+    /**
+     * 대출 실패를 사유별로 기록하고 예외를 반환합니다.
+     * 실패한 대출은 트랜잭션이 롤백되므로 통계 테이블이 아닌 메모리에 기록합니다.
+     *
+     * @param event   대출 실패 사유
+     * @param message 예외 메시지
+     */
+    private IllegalStateException loanFailure(CirculationEvent event, BookMessage message) {
+        circulationMetrics.record(event);
+        return new IllegalStateException(message.getMessage());
+    }
+
     /**
      * 회원의 도서 반납 요청을 처리합니다.
      *
      * @param request 반납할 도서에 대한 요청 정보
      * @throws NoSuchElementException 회원 정보를 찾을 수 없는 경우, 해당 도서 또는 대출 내역을 찾을 수 없는 경우
+     * @throws IllegalStateException  대출 가능한 수량이 보유 수량을 초과하게 되는 경우
      */
     @Override
     @Transactional
@@ -193,105 +310,135 @@ public class BookServiceImpl implements BookService {
 
         // 반납 처리 및 대출 가능한 도서 수량 증가
         history.doReturn();
-        book.increaseLoanableCnt();
+        increaseLoanableCnt(book, 1);
+        decreaseActiveLoanCount(Map.of(memberId, 1));
+        circulationMetrics.recordAfterCommit(CirculationEvent.RETURN);
+        eventPublisher.publishEvent(new LoanDueChangedEvent(history));
+        // 대출 가능한 도서가 없던 도서가 반납되어 목록의 대출 가능 여부가 바뀐 경우
+        if (bookRepository.existsByIdAndLoanableCnt(book.getId(), 1)) {
+            catalogVersion.markChanged();
+        }
         log.info("SUCCESS returnBook historyId = {}", history.getId());
     }
 
     /**
      * 스케줄러를 통해 매일 자정 대출 기간이 끝난 도서 반납을 처리합니다.
+     * 연체된 대출 이력을 ID 순으로 일정 크기씩 나누어, 묶음마다 별도의 트랜잭션으로 반납 처리합니다.
+     * 이전 작업이 중단된 경우 마지막으로 처리한 묶음 이후부터 이어서 처리합니다.
      *
      * @param scheduledAt 일정 시간
+     * @param lease       획득한 작업 잠금
+     * @param partition   처리할 ISBN 구간
      * @return 처리된 연체된 대출 기록의 수
-     * @throws NoSuchElementException 대출 기록에 해당하는 도서가 없는 경우
-     * @throws IllegalStateException  도서의 대출 가능한 수가 올바르지 않은 경우
+     * @throws IllegalStateException 작업 잠금을 잃은 경우, 도서가 없거나 도서의 대출 가능한 수가 올바르지 않은 경우
      */
     @Override
-    @Transactional
-    public int processDailyBookReturn(LocalDateTime scheduledAt) {
-        // 요청된 시간 기준으로 연체된 대출 기록 조회
-        List<MemberLoanHistory> overdueHistory = memberLoanHisRepository.searchOverdueHistory(
-                LoanHistorySearchCondition
-                .builder()
-                .time(scheduledAt)
-                .build());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int processDailyBookReturn(LocalDateTime scheduledAt, JobLease lease, LoanHistoryPartition partition) {
+        Long lastId = overdueReturnProcessor.start(lease, scheduledAt);
 
-        // 연체된 기록이 있는 경우
-        if (!overdueHistory.isEmpty()) {
-            log.info("overdueHistory exist");
+        int returnedSize = 0;
+        List<Long> overdueIds = memberLoanHisRepository.findOverdueIds(scheduledAt, partition, lastId, Constant.RETURN_CHUNK_SIZE);
+        while (!overdueIds.isEmpty()) {
+            returnedSize += overdueReturnProcessor.returnChunk(lease, overdueIds, scheduledAt);
 
-            // 중복된 도서를 그룹화하여 수량 계산 및 해당 기록 반납 처리
-            Map<String, Integer> bookInfoCount = processLoanHistory(overdueHistory, scheduledAt);
+            lastId = overdueIds.get(overdueIds.size() - 1);
+            overdueIds = memberLoanHisRepository.findOverdueIds(scheduledAt, partition, lastId, Constant.RETURN_CHUNK_SIZE);
+        }
 
-            // 도서 정보를 통해 반납 처리한 도서 조회
-            List<Book> booksToUpdate = bookRepository.findByBookInfoIsbnIn(bookInfoCount.keySet());
+        overdueReturnProcessor.complete(lease);
+        return returnedSize;
+    }
 
-            // 반납 처리한 대출 기록에 보유하지 않는 도서가 있는 경우 예외 처리
-            validateBookInfoCount(booksToUpdate, bookInfoCount);
+    /**
+     * 반납 예정일이 지난 대출 이력을 바로 반납 처리합니다.
+     * 반납 예정일마다 반납하는 스케줄러에서 사용하며, 그 사이 반납되거나 연장된 대출 이력은 건너뜁니다.
+     *
+     * @param historyIds 반납 예정일이 지난 대출 이력 ID 목록
+     * @param returnedAt 반납 시간
+     * @return 반납 처리된 대출 이력의 수
+     * @throws IllegalStateException 도서가 없거나 도서의 대출 가능한 수가 올바르지 않은 경우
+     */
+    @Override
+    public int processDueBookReturn(List<Long> historyIds, LocalDateTime returnedAt) {
+        if (historyIds.isEmpty()) {
+            return 0;
+        }
+        return overdueReturnProcessor.returnHistories(historyIds, returnedAt);
+    }
 
-            // 반납 처리한 도서의 대출 가능한 수량 증가
-            increaseLoanableCnt(booksToUpdate, bookInfoCount);
+    /**
+     * 완료되지 않고 중단된 연체 도서 반납 작업의 일정 시간을 조회합니다.
+     *
+     * @param jobName 작업 잠금 이름
+     * @return 중단된 작업의 일정 시간, 중단된 작업이 없는 경우 빈 Optional
+     */
+    @Override
+    public Optional<LocalDateTime> findInterruptedBookReturn(String jobName) {
+        return overdueReturnProcessor.findInterrupted(jobName);
+    }
 
-            memberLoanHisRepository.saveAll(overdueHistory);
-            bookRepository.saveAll(booksToUpdate);
+    /**
+     * 회원의 대출중인 도서 수를 반납되지 않은 대출 이력 수로 다시 계산하여, 차이가 있는 경우 보정합니다.
+     * 보정 중 대출 또는 반납이 발생한 회원은 건너뛰고 다음 보정 작업에서 처리합니다.
+     *
+     * @return 보정된 회원의 수
+     */
+    @Override
+    @Transactional
+    public int reconcileActiveLoanCount() {
+        int reconciled = 0;
+        for (Object[] drift : memberRepository.findActiveLoanCountDrift()) {
+            Long memberId = (Long) drift[0];
+            int stored = (Integer) drift[1];
+            int actual = ((Long) drift[2]).intValue();
+            log.warn("activeLoanCount drift memberId = {}, stored = {}, actual = {}", memberId, stored, actual);
+
+            reconciled += memberRepository.updateActiveLoanCount(memberId, stored, actual);
         }
-        return overdueHistory.size();
+        return reconciled;
     }
 
     /**
-     * 반납 처리된 도서의 대출 가능한 수량을 증가시킵니다.
+     * 조건부 UPDATE 로 도서의 대출 가능한 수량을 증가시킵니다.
+     * 영속성 컨텍스트의 도서 엔티티를 수정하지 않으므로, 동시에 처리된 대출의 수량 감소를 덮어쓰지 않습니다.
      *
-     * @param booksToUpdate 반납 처리된 도서 목록
-     * @param bookInfoCount 각 도서별 증가시킬 수량
+     * @param book  도서
+     * @param count 증가시킬 수량
+     * @throws IllegalStateException 대출 가능한 수량이 보유 수량을 초과하게 되는 경우
      */
-    private void increaseLoanableCnt(List<Book> booksToUpdate, Map<String, Integer> bookInfoCount) {
-        for (Book book : booksToUpdate) {
-            int loanableCountIncrease = bookInfoCount.getOrDefault(book.getBookInfo().getIsbn(), 0);
-            book.increaseLoanableCnt(loanableCountIncrease);
-            log.info("SUCCESS increaseLoanableCnt book = {}, count = {}", book.getBookInfo().getTitle(), loanableCountIncrease);
+    private void increaseLoanableCnt(Book book, int count) {
+        if (bookRepository.increaseLoanableCnt(book.getId(), count) == 0) {
+            throw new IllegalStateException(BookMessage.INVALID_LOANABLE_CNT.getMessage());
         }
     }
 
     /**
-     * 대출 기록에서의 도서 수와 반납 처리된 도서의 수가 일치하는지 유효성을 검사합니다.
+     * 대출 이력을 회원 별로 그룹화하여 회원 별 대출 이력 수를 계산합니다.
      *
-     * @param booksToUpdate 반납 처리된 도서 목록
-     * @param bookInfoCount 각 도서별 증가시킬 수량
-     * @throws NoSuchElementException 반납 처리된 도서 중 보유하지 않은 도서가 있는 경우
+     * @param histories 대출 이력 목록
+     * @return 회원 ID 별 대출 이력 수
      */
-    private void validateBookInfoCount(List<Book> booksToUpdate, Map<String, Integer> bookInfoCount) {
-        // 대출 기록에서 가져온 도서 정보와 반납 처리한 도서 정보의 수가 일치하지 않는 경우
-        if (bookInfoCount.size() != booksToUpdate.size()) {
-            Set<String> foundBooks = booksToUpdate.stream()
-                    .map(book -> book.getBookInfo().getIsbn())
-                    .collect(Collectors.toSet());
-
-            // book이 존재하지 않는 isbn값만을 추출
-            Set<String> notFoundBooks = bookInfoCount.keySet().stream()
-                    .filter(isbn -> !foundBooks.contains(isbn))
-                    .collect(Collectors.toSet());
-
-            throw new NoSuchElementException(notFoundBooks + BookMessage.NOT_FOUND_BOOK.getMessage());
+    private Map<Long, Integer> countByMember(List<MemberLoanHistory> histories) {
+        Map<Long, Integer> memberCount = new HashMap<>();
+        for (MemberLoanHistory history : histories) {
+            memberCount.merge(history.getMember().getId(), 1, Integer::sum);
         }
+        return memberCount;
     }
 
     /**
-     * 도서 별 그룹화 및 대출 반납을 처리합니다.
+     * 반납 처리된 회원의 대출중인 도서 수를 감소시킵니다.
+     * 저장된 도서 수가 실제보다 적어 감소할 수 없는 경우, 반납은 그대로 처리하고 대출 수 보정 작업에서 바로잡습니다.
      *
-     * @param overdueHistory  연체된 대출 기록
-     * @param scheduledAt 일정 시간
-     * @return 그룹화 한 반납 도서 별 수량
+     * @param memberCount 회원 ID 별 감소시킬 수
      */
-    private Map<String, Integer> processLoanHistory(List<MemberLoanHistory> overdueHistory, LocalDateTime scheduledAt) {
-        Map<String, Integer> bookInfoCount = new HashMap<>();
-
-        for (MemberLoanHistory history : overdueHistory) {
-            String bookIsbn = history.getBookInfo().getIsbn();
-            bookInfoCount.put(bookIsbn, bookInfoCount.getOrDefault(bookIsbn, 0) + 1);
-
-            // 대출 기록 반납 처리
-            history.setReturnedAt(scheduledAt);
-        }
-        return bookInfoCount;
+    private void decreaseActiveLoanCount(Map<Long, Integer> memberCount) {
+        memberCount.forEach((memberId, count) -> {
+            if (memberRepository.decreaseActiveLoanCount(memberId, count) == 0) {
+                log.warn("activeLoanCount drift detected memberId = {}, count = {}", memberId, count);
+            }
+        });
     }
 
     /**
@@ -320,6 +467,8 @@ public class BookServiceImpl implements BookService {
 
         // 반납 처리
         targetLoanHistory.doRenew();
+        circulationMetrics.recordAfterCommit(CirculationEvent.RENEW);
+        eventPublisher.publishEvent(new LoanDueChangedEvent(targetLoanHistory));
         log.info("SUCCESS renewBook historyId = {}", historyId);
     }
 
@@ -349,6 +498,7 @@ public class BookServiceImpl implements BookService {
         }
 
         book.setQuantity(newQuantity);
+        catalogVersion.markChanged();
         log.info("SUCCESS updateBookQuantity Book ID = {}, New quantity = {}", bookId, newQuantity);
     }
 
@@ -369,8 +519,10 @@ public class BookServiceImpl implements BookService {
         if (book.getLoanableCnt() != book.getQuantity()) {
             List<MemberLoanHistory> notReturnedHistory = memberLoanHisRepository.searchHistory(LoanHistorySearchCondition.builder()
                     .bookInfoId(isbn)
+                    .notReturned(true)
                     .build());
             notReturnedHistory.forEach(MemberLoanHistory::doReturn);
+            decreaseActiveLoanCount(countByMember(notReturnedHistory));
             log.info("SUCCESS return book = {}", notReturnedHistory.size());
         }
 
@@ -383,6 +535,10 @@ public class BookServiceImpl implements BookService {
 
         // 도서 및 도서 정보 삭제
         bookRepository.deleteById(bookId);
+        bookSearchIndex.remove(bookId);
+        bookCountCache.invalidate();
+        referenceDataCache.invalidateNewBooks();
+        catalogVersion.markChanged();
         deleteBookInfo(isbn);
         log.info("SUCCESS deleteBook Book ID = {}", bookId);
     }
@@ -409,13 +565,12 @@ public class BookServiceImpl implements BookService {
      *
      * @param memberId 회원 ID
      * @param bookId   도서 ID
-     * @throws NoSuchElementException 회원 정보 또는 도서를 찾을 수 없는 경우
+     * @throws NoSuchElementException 도서 또는 회원 정보를 찾을 수 없는 경우
      * @throws IllegalStateException  이미 찜한 경우
      */
     @Override
     @Transactional
     public void addBookmark(Long memberId, Long bookId) {
-        Member member = findMemberById(memberId);
         Book book = findBookById(bookId);
 
         // 이미 찜한 경우
@@ -423,8 +578,9 @@ public class BookServiceImpl implements BookService {
             throw new IllegalStateException(BookMessage.ALREADY_BOOKMARK.getMessage());
         }
 
-        member.addBookmark(book);
-        log.info("SUCCESS addBookmark member = {}, bookId = {}", member.getLoginId(), bookId);
+        memberBookmarkRepository.save(new MemberBookmark(getMemberReference(memberId), book));
+        circulationMetrics.recordAfterCommit(CirculationEvent.BOOKMARK);
+        log.info("SUCCESS addBookmark memberId = {}, bookId = {}", memberId, bookId);
     }
 
     /**
@@ -462,8 +618,9 @@ public class BookServiceImpl implements BookService {
     }
 
     /**
-     * 최근 5일간의 대출 수를 계산하여 리스트로 반환합니다.
+     * 최근 5일간의 대출 수를 날짜별 대출 통계에서 조회하여 반환합니다.
      * 날짜에 대출 수가 없는 경우 0으로 처리됩니다.
+     * 오늘, 최근 1시간 동안의 도서 유통 이벤트 수를 함께 반환합니다.
      *
      * @return 최근 5일간의 대출 수를 담은 LoanStatusResponse 객체
      */
@@ -471,27 +628,49 @@ public class BookServiceImpl implements BookService {
     @Transactional(readOnly = true)
     public LoanDailyStatusResponse calculateDailyLoanCounts() {
         LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(4);
         Map<LocalDate, Integer> dailyLoanCounts = new LinkedHashMap<>();
+        for (LoanDailyStatsResponse stats : findLoanDailyStats(endDate.minusDays(4), endDate)) {
+            dailyLoanCounts.put(stats.getDate(), (int) stats.getLoanCount());
+        }
 
-        // 대출 수를 날짜별로 계산
-        List<Object[]> data = memberLoanHisRepository.countGroupByCreatedAtRange(startDate, endDate);
+        log.info("SUCCESS calculateDailyLoanCounts");
+        return new LoanDailyStatusResponse(dailyLoanCounts, toNameKeyMap(circulationMetrics.getTodayCounts()),
+                toNameKeyMap(circulationMetrics.getLastHourCounts()));
+    }
 
-        //시작 날짜부터 마지막까지의 날짜 범위를 순회하며, 날짜와 해당 날짜에 대출된 도서의 수를 Map에 추가
-        startDate.datesUntil(endDate.plusDays(1)).forEach(date -> {
-            Optional<Object[]> matchingRow = data.stream()
-                    .filter(row -> ((java.sql.Date) row[0]).toLocalDate().isEqual(date))
-                    .findFirst();
+    private Map<String, Long> toNameKeyMap(Map<CirculationEvent, Long> counts) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        counts.forEach((event, count) -> result.put(event.name(), count));
+        return result;
+    }
 
-            if (matchingRow.isPresent()) {
-                dailyLoanCounts.put(date, ((Long) matchingRow.get()[1]).intValue());
-            } else { // 대출 수가 없는 경우 0으로 처리
-                dailyLoanCounts.put(date, 0);
-            }
-        });
+    /**
+     * 주어진 기간의 날짜별 대출, 반납, 연장, 연체 자동 반납 수를 조회합니다.
+     * 통계가 없는 날짜는 0으로 처리됩니다.
+     *
+     * @param period  조회 기간
+     * @param endDate 조회 기간의 마지막 날짜
+     * @return 날짜 순으로 정렬된 날짜별 대출 통계 목록
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<LoanDailyStatsResponse> findLoanStats(LoanStatsPeriod period, LocalDate endDate) {
+        return findLoanDailyStats(period.startDate(endDate), endDate);
+    }
 
-        log.info("SUCCESS calculateDailyLoanCounts");
-        return new LoanDailyStatusResponse(dailyLoanCounts);
+    /**
+     * 날짜별 대출 통계를 조회하여, 기간의 모든 날짜를 채운 목록으로 반환합니다.
+     */
+    private List<LoanDailyStatsResponse> findLoanDailyStats(LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, LoanDailyStatsResponse> statsByDate = new HashMap<>();
+        for (LoanDailyStats stats : loanDailyStatsRepository.findAllByStatsDateBetweenOrderByStatsDate(startDate, endDate)) {
+            statsByDate.put(stats.getStatsDate(), LoanDailyStatsResponse.from(stats));
+        }
+
+        // 시작 날짜부터 마지막 날짜까지 순회하며, 통계가 없는 날짜는 0으로 처리
+        return startDate.datesUntil(endDate.plusDays(1))
+                .map(date -> statsByDate.getOrDefault(date, LoanDailyStatsResponse.empty(date)))
+                .toList();
     }
 
     /**
@@ -508,8 +687,8 @@ public class BookServiceImpl implements BookService {
         // 키워드 앞뒤의 공백 제거
         String keyword = request.getKeyword().trim();
 
-        // 부합하는 도서를 검색하고, 페이지네이션하여 조회
-        Page<Book> books = bookRepository.search(
+        // 검색 색인에서 부합하는 도서를 찾고, 해당 페이지의 도서만 조회
+        Page<Book> books = searchByIndex(
                 BookSearchCondition.builder()
                         .keyword(keyword)
                         .title(request.isTitle())
@@ -517,26 +696,80 @@ public class BookServiceImpl implements BookService {
                         .build(), pageable);
 
         // 조회된 책들을 BooksMarkResponse 객체의 리스트로 변환
-        List<BooksMarkResponse> response = books.map(book -> mapToAllBooksMarkResponse(book, memberId)).toList();
+        List<BooksMarkResponse> response = mapToAllBooksMarkResponse(books, memberId);
         return new PageImpl<>(response, pageable, books.getTotalElements());
     }
 
     /**
-     * 도서 별 회원의 찜 등록 여부 정보를 포함한 BooksMarkResponse 객체로 변환합니다.
+     * 검색 결과 수를 셀 최대 수를 반환합니다.
+     * 검색 결과 수가 이 수를 초과하는 경우 화면에 정확한 수 대신 "1000+" 처럼 표시합니다.
      *
-     * @param book     도서 객체
+     * @return 최대 수, 정확한 수를 세는 경우 0
+     */
+    @Override
+    public int getSearchCountLimit() {
+        return bookCountCache.getEstimateLimit();
+    }
+
+    /**
+     * 검색 색인을 통해 조건에 부합하는 도서 ID 를 찾은 뒤, 요청된 페이지의 도서만 DB 에서 조회합니다.
+     *
+     * @param condition 검색 조건
+     * @param pageable  페이지 정보
+     * @return 검색된 도서를 담은 Page 객체
+     */
+    private Page<Book> searchByIndex(BookSearchCondition condition, Pageable pageable) {
+        Page<Long> bookIds = bookSearchIndex.search(condition, pageable);
+        List<Book> books = bookRepository.findAllByIdInOrder(bookIds.getContent());
+        return new PageImpl<>(books, pageable, bookIds.getTotalElements());
+    }
+
+    /**
+     * 조건에 부합하는 도서 ID 를 DB 에서 페이지네이션하여 조회한 뒤, 해당 페이지의 도서를 도서 정보, 카테고리와 함께 조회합니다.
+     *
+     * @param condition 검색 조건
+     * @param pageable  페이지 정보
+     * @return 검색된 도서를 담은 Page 객체
+     */
+    private Page<Book> findBooksByIdPage(BookSearchCondition condition, Pageable pageable) {
+        Page<Long> bookIds = bookRepository.searchIds(condition, pageable);
+        List<Book> books = bookRepository.findAllByIdInOrder(bookIds.getContent());
+        return new PageImpl<>(books, pageable, bookIds.getTotalElements());
+    }
+
+    /**
+     * 도서 별 회원의 찜 등록 여부 정보를 포함한 BooksMarkResponse 객체 리스트로 변환합니다.
+     * 도서 정보와 카테고리를 함께 조회한 도서를 전달받으며, 페이지의 도서 중 회원이 찜한 도서는 한 번의 쿼리로 조회합니다.
+     *
+     * @param books    도서 Page 객체
      * @param memberId 회원 ID
-     * @return BooksMarkResponse 객체
-     */
-    private BooksMarkResponse mapToAllBooksMarkResponse(Book book, Long memberId) {
-        return BooksMarkResponse.builder()
-                .id(book.getId())
-                .quantity(book.getQuantity())
-                .loanableCnt(book.getLoanableCnt())
-                .bookCategory(book.getBookCategory())
-                .bookInfo(book.getBookInfo())
-                .isMarked(isBookMarked(memberId, book.getId()))
-                .build();
+     * @return BooksMarkResponse 객체 리스트
+     */
+    private List<BooksMarkResponse> mapToAllBooksMarkResponse(Page<Book> books, Long memberId) {
+        Set<Long> markedBookIds = findMarkedBookIds(memberId, books.map(Book::getId).toList());
+        return books.map(book -> BooksMarkResponse.builder()
+                        .id(book.getId())
+                        .quantity(book.getQuantity())
+                        .loanableCnt(book.getLoanableCnt())
+                        .bookCategory(book.getBookCategory())
+                        .bookInfo(book.getBookInfo())
+                        .isMarked(markedBookIds.contains(book.getId()))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 주어진 도서 중 회원이 찜한 도서의 ID 를 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @param bookIds  도서 ID 목록
+     * @return 회원이 찜한 도서 ID 집합
+     */
+    private Set<Long> findMarkedBookIds(Long memberId, List<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(memberBookmarkRepository.findBookIdsByMemberIdAndBookIdIn(memberId, bookIds));
     }
 
     /**
@@ -560,48 +793,46 @@ public class BookServiceImpl implements BookService {
         // 키워드 앞뒤의 공백 제거
         String keyword = request.getKeyword().trim();
 
-        // 부합하는 도서를 검색하고, 페이지네이션하여 조회
-        Page<Book> books = bookRepository.search(
+        // 검색 색인에서 부합하는 도서를 찾고, 해당 페이지의 도서 목록 정보만 조회
+        Page<Long> bookIds = bookSearchIndex.search(
                 BookSearchCondition.builder()
                         .keyword(keyword)
                         .title(request.isTitle())
                         .author(request.isAuthor())
                         .categoryId(request.getCategoryId())
                         .build(), pageable);
-
-        // 조회된 책들을 BooksResponse 객체의 리스트로 변환
-        List<BooksResponse> response = BooksResponse.from(books);
-        return new PageImpl<>(response, pageable, books.getTotalElements());
+        List<BooksResponse> response = bookRepository.findBooksResponseByIdInOrder(bookIds.getContent());
+        return new PageImpl<>(response, pageable, bookIds.getTotalElements());
     }
 
     /**
      * 보유중인 도서를 생성일 기준 내림차순으로 정렬하여 상위 4권을 조회합니다.
+     * 도서가 입고되거나 삭제되기 전까지는 캐싱된 목록을 반환합니다.
      *
      * @return 최근 입고된 도서의 정보를 담은 BookInfoResponse 리스트
      */
     @Override
     @Transactional(readOnly = true)
     public List<BookInfoResponse> findNewBooks() {
-        // 최근 입고된 도서 4권 조회
-        List<Book> books = bookRepository.findTop4ByOrderByCreatedAtDesc();
-        return BookInfoResponse.from(books);
+        // 최근 입고된 도서 4권의 제목과 이미지만 조회
+        // 다른 노드에서 입고, 삭제된 도서도 반영되도록 목록 변경 번호가 바뀌면 다시 조회
+        return referenceDataCache.getNewBooks(catalogVersion.tag(), () -> bookRepository.findNewBooksInfo(4));
     }
 
     /**
      * 전체 도서를 페이지네이션하여 신규 도서순으로 조회합니다.
+     * 커서가 주어진 경우 offset 없이 커서 이후의 도서를 조회합니다.
      *
+     * @param cursor   이전 페이지에서 전달받은 커서 토큰
      * @param pageable 페이지 정보
-     * @return 전체 도서 정보를 담은 Page 객체
+     * @return 전체 도서 정보와 다음 페이지 커서를 담은 CursorPage 객체
+     * @throws IllegalArgumentException 올바르지 않은 커서인 경우
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<BooksResponse> findBooks(Pageable pageable) {
-        // 책들을 최신순으로 페이지네이션하여 조회
-        Page<Book> books = bookRepository.findAll(pageable);
-
-        // 조회된 책들을 BooksResponse 객체의 리스트로 변환
-        List<BooksResponse> response = BooksResponse.from(books);
-        return new PageImpl<>(response, pageable, books.getTotalElements());
+    public CursorPage<BooksResponse> findBooks(String cursor, Pageable pageable) {
+        // 책들의 목록 정보를 최신순으로 페이지네이션하여 조회
+        return bookRepository.findAllByCursor(null, KeysetCursor.decode(cursor), pageable);
     }
 
     /**
@@ -617,14 +848,11 @@ public class BookServiceImpl implements BookService {
         if (!bookCategoryRepository.existsById(categoryId)) {
             throw new NoSuchElementException(BookMessage.NOT_FOUND_CATEGORY.getMessage());
         }
-        Page<Book> books = bookRepository.search(
+        // 해당 카테고리 도서의 목록 정보를 페이지네이션하여 조회
+        return bookRepository.searchBooksResponse(
                 BookSearchCondition.builder()
                         .categoryId(categoryId)
                         .build(), pageable);
-
-        // 조회된 책들을 BooksResponse 객체의 리스트로 변환
-        List<BooksResponse> response = BooksResponse.from(books);
-        return new PageImpl<>(response, pageable, books.getTotalElements());
     }
 
     /**
@@ -637,10 +865,10 @@ public class BookServiceImpl implements BookService {
     @Override
     @Transactional(readOnly = true)
     public Page<BooksMarkResponse> findBooksWithMark(Long memberId, Pageable pageable) {
-        Page<Book> books = bookRepository.findAll(pageable);
+        Page<Book> books = findBooksByIdPage(BookSearchCondition.builder().build(), pageable);
 
         // 조회된 책들을 찜 여부 정보를 포함한 BooksMarkResponse 객체의 리스트로 변환
-        List<BooksMarkResponse> response = books.map(book -> mapToAllBooksMarkResponse(book, memberId)).toList();
+        List<BooksMarkResponse> response = mapToAllBooksMarkResponse(books, memberId);
         return new PageImpl<>(response, pageable, books.getTotalElements());
     }
 
@@ -661,29 +889,29 @@ public class BookServiceImpl implements BookService {
             throw new NoSuchElementException(BookMessage.NOT_FOUND_CATEGORY.getMessage());
         }
         // 부합하는 도서를 검색하고, 페이지네이션하여 조회
-        Page<Book> books = bookRepository.search(BookSearchCondition.builder()
+        Page<Book> books = findBooksByIdPage(BookSearchCondition.builder()
                         .categoryId(categoryId)
                         .build(), pageable);
 
         // 조회된 책들을 찜 여부 정보를 포함한 BooksMarkResponse 객체의 리스트로 변환
-        List<BooksMarkResponse> response = books.map(book -> mapToAllBooksMarkResponse(book, memberId)).toList();
+        List<BooksMarkResponse> response = mapToAllBooksMarkResponse(books, memberId);
         return new PageImpl<>(response, pageable, books.getTotalElements());
     }
 
     /**
      * 모든 대출 이력을 최신순으로 페이지네이션하여 조회합니다.
+     * 커서가 주어진 경우 offset 없이 커서 이후의 이력을 조회합니다.
      *
+     * @param status   대출 상태 조건 (없는 경우 전체 이력)
+     * @param cursor   이전 페이지에서 전달받은 커서 토큰
      * @param pageable 페이지 정보
-     * @return 대출 이력 정보 담은 Page 객체
+     * @return 대출 이력 정보와 다음 페이지 커서를 담은 CursorPage 객체
+     * @throws IllegalArgumentException 올바르지 않은 커서인 경우
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<LoanStatusResponse> findAllLoanHistory(Pageable pageable) {
-        Page<MemberLoanHistory> histories = memberLoanHisRepository.findAll(pageable);
-
-        // 조회된 대출 이력을 AllLoanHistoryResponse 객체의 리스트로 변환
-        List<LoanStatusResponse> loanHistories = LoanStatusResponse.from(histories);
-        return new PageImpl<>(loanHistories, pageable, histories.getTotalElements());
+    public CursorPage<LoanStatusResponse> findAllLoanHistory(LoanStatusFilter status, String cursor, Pageable pageable) {
+        return memberLoanHisRepository.findLoanStatusByCursor(status, LocalDateTime.now(), KeysetCursor.decode(cursor), pageable);
     }
 
     /**
@@ -763,15 +991,39 @@ public class BookServiceImpl implements BookService {
 
     /**
      * 네이버 도서 검색 API를 통해 주어진 키워드로 책을 검색하고, 검색 결과를 반환합니다.
+     * 같은 검색은 캐시된 결과를 반환하며, 동시에 요청된 같은 검색은 한 번만 API를 호출합니다.
+     * API 호출 한도를 넘은 경우 관리자의 검색을 회원의 검색보다 먼저 호출합니다.
      *
      * @param keyword 검색할 키워드
-     * @return 검색 결과를 담은 SearchBookResponse 객체
+     * @param role 검색한 회원의 권한
+     * @return 검색 결과를 담은 SearchBookResponse 의 CompletableFuture
      */
     @Override
-    public SearchBookResponse findBySearchApi(String keyword) {
+    public CompletableFuture<SearchBookResponse> findBySearchApi(String keyword, Role role) {
         // 네이버 api를 사용하여 키워드로 도서 검색
         SearchApiBookRequest searchReq = new SearchApiBookRequest(keyword);
-        return naverBookSearchConfig.searchBook(searchReq);
+        TokenBucketRateLimiter.Priority priority = role == Role.ADMIN ? TokenBucketRateLimiter.Priority.HIGH : TokenBucketRateLimiter.Priority.NORMAL;
+        return naverBookSearchCache.search(searchReq, priority);
+    }
+
+    /**
+     * 네이버 도서 검색 API 캐시의 적중, 미적중, 동시 요청 합류 횟수를 반환합니다.
+     *
+     * @return 캐시 통계
+     */
+    @Override
+    public NaverBookSearchCache.Stats getSearchApiCacheStats() {
+        return naverBookSearchCache.getStats();
+    }
+
+    /**
+     * 네이버 도서 검색 API 의 호출 허용, 대기, 거절 횟수와 오늘 사용한 호출 수를 반환합니다.
+     *
+     * @return 호출 한도 사용 통계
+     */
+    @Override
+    public TokenBucketRateLimiter.Stats getSearchApiQuotaStats() {
+        return naverBookSearchConfig.getRateLimitStats();
     }
 
     /**
@@ -794,7 +1046,7 @@ public class BookServiceImpl implements BookService {
     }
 
     /**
-     * 도서 상세 정보와 해당 회원의 대출 중 여부, 찜 등록 여부를 조회합니다.
+     * 도서 상세 정보와 해당 회원의 대출 중 여부, 찜 등록 여부를 한 번의 쿼리로 조회합니다.
      *
      * @param memberId 회원 ID
      * @param bookId   도서 ID
@@ -804,49 +1056,46 @@ public class BookServiceImpl implements BookService {
     @Override
     @Transactional(readOnly = true)
     public BookDetailResponse getBookDetails(Long memberId, Long bookId) {
-        Book book = findBookById(bookId);
-        boolean isMarked = isBookMarked(memberId, bookId);
-        boolean isLoaned = isLoaned(memberId, bookId);
-
-        // 도서 상세 정보와 회원의 대출 중 여부, 찜 등록 여부를 BookDetailResponse 객체로 변환
-        return BookDetailResponse.of(book, isLoaned, isMarked);
+        return bookRepository.findBookDetail(bookId, memberId)
+                .orElseThrow(() -> new NoSuchElementException(BookMessage.NOT_FOUND_BOOK.getMessage()));
     }
 
     /**
-     * 특정 회원이 주어진 도서를 찜 등록 했는지 여부를 확인합니다.
+     * 모든 카테고리 정보를 조회합니다.
      *
-     * @param memberId 회원 ID
-     * @param bookId   도서 ID
-     * @return 찜 등록 여부
+     * @return CategoryResponse 리스트
      */
-    private boolean isBookMarked(Long memberId, Long bookId) {
-        return memberBookmarkRepository.existsByMemberIdAndBookId(memberId, bookId);
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryResponse> findCategories() {
+        return referenceDataCache.getCategories(() -> bookCategoryRepository.findAll().stream()
+                .map(CategoryResponse::from)
+                .toList());
     }
 
     /**
-     * 특정 회원이 주어진 도서를 대출 중인지 여부를 확인합니다.
+     * 카테고리 목록과 최근 입고된 도서 목록 캐시의 적중률과 다시 조회한 시간을 반환합니다.
      *
-     * @param memberId 회원 ID
-     * @param bookId   도서 ID
-     * @return 대출 중 여부
+     * @return 캐시 통계
      */
-    private boolean isLoaned(Long memberId, Long bookId) {
-        Book book = findBookById(bookId);
-        return memberLoanHisRepository.findByMemberIdAndBookInfoIsbnAndReturnedAtIsNull(memberId, book.getBookInfo().getIsbn())
-                .isPresent();
+    @Override
+    public ReferenceDataCache.Stats getReferenceDataCacheStats() {
+        return referenceDataCache.getStats();
     }
 
     /**
-     * 모든 카테고리 정보를 조회합니다.
+     * 로그인한 회원의 참조를 반환합니다.
+     * 세션이 유지되는 동안 회원이 삭제된 경우, 외래 키 제약 위반 대신 회원을 찾을 수 없다는 예외를 발생시킵니다.
      *
-     * @return CategoryResponse 리스트
+     * @param memberId 회원 ID
+     * @return 회원을 조회하지 않는 참조 객체
+     * @throws NoSuchElementException 회원 정보를 찾을 수 없는 경우
      */
-    @Override
-    @Transactional(readOnly = true)
-    public List<CategoryResponse> findCategories() {
-        return bookCategoryRepository.findAll().stream()
-                .map(CategoryResponse::from)
-                .collect(Collectors.toList());
+    private Member getMemberReference(Long memberId) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new NoSuchElementException(MemberMessage.NOT_FOUND_MEMBER.getMessage());
+        }
+        return memberRepository.getReferenceById(memberId);
     }
 
     /**
@@ -872,16 +1121,4 @@ public class BookServiceImpl implements BookService {
         return bookCategoryRepository.findById(categoryId)
                 .orElseThrow(() -> new NoSuchElementException(BookMessage.NOT_FOUND_CATEGORY.getMessage()));
     }
-
-    /**
-     * 회원 ID를 통해 회원을 조회합니다.
-     *
-     * @param memberId 회원 ID
-     * @return 조회된 Member 객체
-     * @throws NoSuchElementException 회원을 찾을 수 없을 경우
-     */
-    private Member findMemberById(Long memberId) {
-        return memberRepository.findById(memberId)
-                .orElseThrow(() -> new NoSuchElementException(MemberMessage.NOT_FOUND_MEMBER.getMessage()));
-    }
 }
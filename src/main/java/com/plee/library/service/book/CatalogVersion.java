@@ -0,0 +1,147 @@
+package com.plee.library.service.book;
+
+import com.plee.library.domain.book.CatalogRevision;
+import com.plee.library.repository.book.BookRepository;
+import com.plee.library.repository.book.CatalogRevisionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 도서 목록, 상세 화면의 ETag 에 사용하는 변경 번호를 관리합니다.
+ * 도서 입고, 수량 수정, 삭제와 도서의 대출 가능 여부가 바뀌는 등 목록에 표시되는 정보가 바뀌면 변경 번호를 증가시키고,
+ * 도서 상세 화면은 도서와 도서 정보의 수정 시간으로 태그를 만듭니다.
+ * 화면 요청마다 DB 를 조회하지 않도록 변경 번호와 도서의 수정 시간은 메모리에 유지하며,
+ * 변경 번호는 커밋된 변경을 모아 스케줄러에서 한 번에 DB 에 반영하고 다른 노드의 변경을 읽어옵니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogVersion {
+
+    private static final int MAX_BOOK_STAMPS = 10000;
+    // 다른 노드에서 변경된 도서의 상세 화면을 이전 태그로 응답하는 최대 시간
+    private static final long BOOK_STAMP_TTL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final CatalogRevisionRepository catalogRevisionRepository;
+    private final BookRepository bookRepository;
+
+    // DB 에서 마지막으로 읽은 변경 번호, 읽기 전에는 -1
+    private volatile long revision = -1;
+    // 이 노드에서 커밋되었지만 아직 DB 에 반영하지 않은 변경 수
+    private final AtomicLong pendingChanges = new AtomicLong();
+    private final Map<Long, BookStamp> bookStamps = new ConcurrentHashMap<>();
+
+    /**
+     * 서버가 시작되면 변경 번호를 증가시켜, 배포로 화면이 바뀐 경우 이전에 발급한 ETag 를 사용하지 않도록 합니다.
+     * 변경 번호 행이 없는 경우 생성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (catalogRevisionRepository.increase(CatalogRevision.ID) == 0) {
+            try {
+                catalogRevisionRepository.saveAndFlush(new CatalogRevision(CatalogRevision.ID));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 생성한 경우
+                log.info("catalogRevision already created");
+            }
+        }
+        loadRevision();
+    }
+
+    /**
+     * 목록에 표시되는 정보가 바뀌었음을 기록합니다.
+     * 대출, 반납 등의 트랜잭션이 변경 번호 행을 잠그지 않도록 DB 에는 바로 반영하지 않으며,
+     * 이 노드의 태그는 커밋 직후부터 바뀌도록 반영되지 않은 변경 수를 태그에 함께 사용합니다.
+     * 트랜잭션 안에서 호출된 경우 커밋 이후에 기록합니다.
+     */
+    public void markChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingChanges.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pendingChanges.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * 반영되지 않은 변경이 있는 경우 변경 번호를 한 번 증가시키고, 다른 노드의 변경을 포함한 현재 변경 번호를 읽어옵니다.
+     * 스케줄러에서 주기적으로 호출합니다.
+     */
+    public void flush() {
+        long pending = pendingChanges.get();
+        if (pending > 0 && catalogRevisionRepository.increase(CatalogRevision.ID) == 0) {
+            log.warn("catalogRevision not found");
+        }
+        loadRevision();
+        pendingChanges.addAndGet(-pending);
+    }
+
+    private void loadRevision() {
+        catalogRevisionRepository.findRevision(CatalogRevision.ID)
+                .ifPresent(value -> revision = value);
+    }
+
+    /**
+     * 메모리에 유지하는 변경 번호로 목록 화면의 태그를 만듭니다.
+     *
+     * @return 목록 화면의 태그, 변경 번호를 아직 읽지 않은 경우 null
+     */
+    public String tag() {
+        long current = revision;
+        if (current < 0) {
+            return null;
+        }
+        long pending = pendingChanges.get();
+        return pending > 0 ? current + "." + pending : String.valueOf(current);
+    }
+
+    /**
+     * 도서와 도서 정보의 수정 시간으로 도서 상세 화면의 태그를 만듭니다.
+     * 서버가 시작되어 화면이 바뀐 경우에도 태그가 바뀌도록 변경 번호를 함께 사용합니다.
+     * 수정 시간은 도서마다 짧은 시간 동안 메모리에 유지하므로, 같은 도서의 상세 화면을 반복해서 요청하더라도 DB 를 조회하지 않습니다.
+     *
+     * @param bookId 도서 ID
+     * @return 도서 상세 화면의 태그, 도서가 없는 경우 null
+     */
+    public String bookTag(Long bookId) {
+        long now = System.nanoTime();
+        BookStamp stamp = bookStamps.get(bookId);
+        if (stamp == null || now - stamp.loadedAt() > BOOK_STAMP_TTL_NANOS) {
+            if (bookStamps.size() >= MAX_BOOK_STAMPS) {
+                bookStamps.clear();
+            }
+            stamp = new BookStamp(loadBookStamp(bookId), now);
+            bookStamps.put(bookId, stamp);
+        }
+        String catalogTag = tag();
+        if (catalogTag == null || stamp.value() == null) {
+            return null;
+        }
+        return catalogTag + "-" + bookId + "." + stamp.value();
+    }
+
+    private String loadBookStamp(Long bookId) {
+        return bookRepository.findLastUpdatedAtById(bookId)
+                .map(updatedAt -> Long.toHexString(updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1000))
+                .orElse(null);
+    }
+
+    private record BookStamp(String value, long loadedAt) {
+    }
+}
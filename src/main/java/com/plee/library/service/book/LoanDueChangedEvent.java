@@ -0,0 +1,12 @@
+package com.plee.library.service.book;
+
+import com.plee.library.domain.member.MemberLoanHistory;
+
+/**
+ * 대출, 연장, 반납으로 대출 이력의 반납 예정일이 바뀌었음을 알리는 이벤트입니다.
+ * 대출 이력 ID 는 커밋 시점에 정해지므로, 커밋 이후에 대출 이력에서 조회합니다.
+ *
+ * @param history 변경된 대출 이력
+ */
+public record LoanDueChangedEvent(MemberLoanHistory history) {
+}
@@ -0,0 +1,168 @@
+package com.plee.library.service.book;
+
+import com.plee.library.config.NaverBookSearchConfig;
+import com.plee.library.dto.book.request.SearchApiBookRequest;
+import com.plee.library.dto.book.response.SearchBookResponse;
+import com.plee.library.util.resilience.TokenBucketRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 네이버 도서 검색 API 결과를 캐싱합니다.
+ * 정규화한 키워드와 페이지 정보가 같은 검색은 만료 전까지 캐시된 결과를 반환하며, 최대 개수를 넘으면 가장 오래 사용되지 않은 결과부터 제거합니다.
+ * 캐시에 없는 같은 검색이 동시에 요청된 경우 한 번만 API 를 호출하고 결과를 함께 사용합니다.
+ * API 호출에 실패한 경우 만료된 이전 결과가 있으면 대신 반환합니다.
+ */
+@Slf4j
+@Component
+public class NaverBookSearchCache {
+
+    private final NaverBookSearchConfig naverBookSearchConfig;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Clock clock;
+
+    // 접근 순서로 정렬하여 가장 오래 사용되지 않은 결과부터 제거
+    private final LinkedHashMap<SearchKey, CachedResponse> cache;
+    private final Map<SearchKey, CompletableFuture<SearchBookResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    @Autowired
+    public NaverBookSearchCache(NaverBookSearchConfig naverBookSearchConfig,
+                                @Value("${library.naver.cache.max-entries:1000}") int maxEntries,
+                                @Value("${library.naver.cache.ttl:10m}") Duration ttl) {
+        this(naverBookSearchConfig, maxEntries, ttl, Clock.systemDefaultZone());
+    }
+
+    NaverBookSearchCache(NaverBookSearchConfig naverBookSearchConfig, int maxEntries, Duration ttl, Clock clock) {
+        this.naverBookSearchConfig = naverBookSearchConfig;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SearchKey, CachedResponse> eldest) {
+                return size() > NaverBookSearchCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 검색 결과를 캐시에서 조회하고, 없거나 만료된 경우 네이버 도서 검색 API 로 조회합니다.
+     * API 호출에 실패한 경우 만료된 결과라도 캐시에 남아있으면 대신 반환합니다.
+     *
+     * @param request 검색 요청 정보
+     * @param priority API 호출 우선순위
+     * @return 검색 결과를 담은 SearchBookResponse 의 CompletableFuture
+     */
+    public CompletableFuture<SearchBookResponse> search(SearchApiBookRequest request, TokenBucketRateLimiter.Priority priority) {
+        SearchKey key = SearchKey.from(request);
+        CachedResponse cached = get(key);
+        if (cached != null && cached.expiresAt().isAfter(clock.instant())) {
+            hits.increment();
+            return CompletableFuture.completedFuture(cached.response());
+        }
+
+        CompletableFuture<SearchBookResponse> future = new CompletableFuture<>();
+        CompletableFuture<SearchBookResponse> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            // 같은 검색이 이미 API 를 호출 중인 경우 그 결과를 함께 사용
+            coalesced.increment();
+            // 호출한 쪽에서 결과를 변경하거나 취소해도 다른 요청에 영향이 없도록 복사본 반환
+            return existing.copy();
+        }
+
+        misses.increment();
+        naverBookSearchConfig.searchBook(key.toRequest(), priority).whenComplete((response, e) -> {
+            if (e == null) {
+                put(key, response);
+                inFlight.remove(key, future);
+                future.complete(response);
+                return;
+            }
+
+            inFlight.remove(key, future);
+            CachedResponse stale = get(key);
+            if (stale != null) {
+                fallbacks.increment();
+                log.warn("naver search api failed, return stale result keyword = {}", key.keyword());
+                future.complete(stale.response());
+                return;
+            }
+            // 실패한 결과는 캐싱하지 않고, 기다리던 요청에도 같은 예외 전달
+            future.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+        });
+        return future.copy();
+    }
+
+    /**
+     * 캐시 적중, 미적중, 동시 요청 합류, 실패 시 이전 결과 반환 횟수와 캐시된 결과 수를 반환합니다.
+     */
+    public Stats getStats() {
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), coalesced.sum(), fallbacks.sum(), size);
+    }
+
+    private CachedResponse get(SearchKey key) {
+        // 만료된 결과도 API 장애 시 대신 반환하기 위해 최대 개수를 넘어 제거될 때까지 유지
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    private void put(SearchKey key, SearchBookResponse response) {
+        if (response == null) {
+            return;
+        }
+        synchronized (cache) {
+            cache.put(key, new CachedResponse(response, clock.instant().plus(ttl)));
+        }
+    }
+
+    public record Stats(long hits, long misses, long coalesced, long fallbacks, int size) {
+    }
+
+    private record CachedResponse(SearchBookResponse response, Instant expiresAt) {
+    }
+
+    /**
+     * 같은 결과를 가지는 검색 요청이 같은 키를 가지도록 정규화한 캐시 키입니다.
+     */
+    private record SearchKey(String keyword, int display, int start) {
+
+        static SearchKey from(SearchApiBookRequest request) {
+            // 앞뒤 공백과 연속된 공백, 대소문자 차이는 검색 결과에 영향을 주지 않음
+            String keyword = request.getKeyword() == null ? "" : request.getKeyword().trim()
+                    .replaceAll("\\s+", " ")
+                    .toLowerCase(Locale.ROOT);
+            return new SearchKey(keyword, request.getDisplay(), request.getStart());
+        }
+
+        SearchApiBookRequest toRequest() {
+            SearchApiBookRequest request = new SearchApiBookRequest(keyword);
+            request.setDisplay(display);
+            request.setStart(start);
+            return request;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.plee.library.service.book;
+
+import com.plee.library.domain.job.JobCheckpoint;
+import com.plee.library.domain.member.MemberLoanHistory;
+import com.plee.library.domain.stats.LoanStatsType;
+import com.plee.library.repository.book.BookRepository;
+import com.plee.library.repository.job.JobCheckpointRepository;
+import com.plee.library.repository.member.MemberLoanHistoryRepository;
+import com.plee.library.repository.member.MemberRepository;
+import com.plee.library.service.job.JobLease;
+import com.plee.library.service.job.JobLockManager;
+import com.plee.library.service.stats.LoanStatsRecorder;
+import com.plee.library.util.message.BookMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 연체 도서 반납 작업을 일정 크기의 대출 이력 단위로 나누어, 단위마다 별도의 트랜잭션으로 처리합니다.
+ * 처리한 마지막 대출 이력 ID 를 같은 트랜잭션에서 체크포인트로 저장하므로, 작업이 중단되더라도 이어서 처리할 수 있습니다.
+ * 체크포인트는 작업 잠금 이름 별로 저장하며, 묶음마다 잠금을 유지하고 있는지 확인한 뒤 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OverdueReturnProcessor {
+
+    private final MemberLoanHistoryRepository memberLoanHisRepository;
+    private final BookRepository bookRepository;
+    private final MemberRepository memberRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final JobLockManager jobLockManager;
+    private final LoanStatsRecorder loanStatsRecorder;
+    private final CatalogVersion catalogVersion;
+
+    /**
+     * 반납 작업을 시작하고, 처리를 시작할 대출 이력 위치를 반환합니다.
+     * 같은 실행 시간의 작업이 중단된 경우 마지막으로 처리한 위치부터, 그렇지 않은 경우 처음부터 처리합니다.
+     *
+     * @param lease       획득한 작업 잠금
+     * @param scheduledAt 일정 시간
+     * @return 마지막으로 처리한 대출 이력 ID
+     */
+    @Transactional
+    public Long start(JobLease lease, LocalDateTime scheduledAt) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(lease.name()).orElse(null);
+        if (checkpoint == null) {
+            jobCheckpointRepository.save(JobCheckpoint.builder()
+                    .jobName(lease.name())
+                    .scheduledAt(scheduledAt)
+                    .build());
+            return 0L;
+        }
+
+        if (checkpoint.isResumable(scheduledAt)) {
+            log.info("resume {} from historyId = {}", lease.name(), checkpoint.getLastProcessedId());
+            return checkpoint.getLastProcessedId();
+        }
+        checkpoint.restart(scheduledAt);
+        return 0L;
+    }
+
+    /**
+     * 완료되지 않고 중단된 반납 작업의 일정 시간을 조회합니다.
+     * 일정 시간과 관계없이 중단된 작업을 이어서 처리하는 데 사용합니다.
+     *
+     * @param jobName 작업 잠금 이름
+     * @return 중단된 작업의 일정 시간, 중단된 작업이 없는 경우 빈 Optional
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findInterrupted(String jobName) {
+        return jobCheckpointRepository.findById(jobName)
+                .filter(checkpoint -> !checkpoint.isCompleted())
+                .map(JobCheckpoint::getScheduledAt);
+    }
+
+    /**
+     * 대출 이력 묶음을 반납 처리하고, 처리한 마지막 대출 이력 ID 를 체크포인트로 저장합니다.
+     *
+     * @param lease       획득한 작업 잠금
+     * @param historyIds  ID 오름차순으로 정렬된 연체된 대출 이력 ID 목록
+     * @param scheduledAt 일정 시간
+     * @return 반납 처리된 대출 이력의 수
+     * @throws IllegalStateException 잠금을 잃은 경우, 도서가 없거나 대출 가능한 수량이 올바르지 않은 경우
+     */
+    @Transactional
+    public int returnChunk(JobLease lease, List<Long> historyIds, LocalDateTime scheduledAt) {
+        // 잠금이 만료되어 다른 노드가 작업을 이어받은 경우 중단
+        jobLockManager.validate(lease);
+        int returned = returnHistories(historyIds, scheduledAt);
+
+        findCheckpoint(lease).advance(historyIds.get(historyIds.size() - 1));
+        return returned;
+    }
+
+    /**
+     * 반납 예정일이 반납 시간 이전인 대출 이력을 반납 처리합니다.
+     * 반납할 대출 이력을 먼저 잠그고 조회한 뒤 한 번의 UPDATE 로 반납 처리하고,
+     * 도서의 대출 가능한 수량과 회원의 대출중인 도서 수는 조회한 대출 이력을 도서, 회원 별로 합산하여 변경합니다.
+     *
+     * @param historyIds 대출 이력 ID 목록
+     * @param returnedAt 반납 시간
+     * @return 반납 처리된 대출 이력의 수
+     * @throws IllegalStateException 도서가 없거나 대출 가능한 수량이 올바르지 않은 경우
+     */
+    @Transactional
+    public int returnHistories(List<Long> historyIds, LocalDateTime returnedAt) {
+        // 조회 이후 회원이 직접 반납하거나 연장한 이력은 제외하고, 반납할 이력은 처리가 끝날 때까지 잠금
+        List<MemberLoanHistory> histories = memberLoanHisRepository.findOverdueByIdInForUpdate(historyIds, returnedAt);
+        if (histories.isEmpty()) {
+            return 0;
+        }
+
+        int returned = memberLoanHisRepository.updateReturnedAtByIdIn(
+                histories.stream().map(MemberLoanHistory::getId).toList(), returnedAt);
+        histories.stream()
+                .collect(Collectors.groupingBy(history -> history.getBookInfo().getIsbn(), Collectors.summingInt(history -> 1)))
+                .forEach(this::increaseLoanableCnt);
+        histories.stream()
+                .collect(Collectors.groupingBy(history -> history.getMember().getId(), Collectors.summingInt(history -> 1)))
+                .forEach(this::decreaseActiveLoanCount);
+        loanStatsRecorder.record(LoanStatsType.OVERDUE_RETURN, returnedAt.toLocalDate(), returned);
+        catalogVersion.markChanged();
+        return returned;
+    }
+
+    /**
+     * 반납 작업을 완료 처리합니다.
+     *
+     * @param lease 획득한 작업 잠금
+     */
+    @Transactional
+    public void complete(JobLease lease) {
+        jobLockManager.validate(lease);
+        findCheckpoint(lease).complete();
+    }
+
+    private void increaseLoanableCnt(String isbn, int count) {
+        if (bookRepository.increaseLoanableCntByIsbn(isbn, count) == 0) {
+            throw new IllegalStateException(isbn + " " + BookMessage.INVALID_LOANABLE_CNT.getMessage());
+        }
+        log.info("SUCCESS increaseLoanableCnt isbn = {}, count = {}", isbn, count);
+    }
+
+    private void decreaseActiveLoanCount(Long memberId, int count) {
+        // 감소할 수 없는 경우 반납은 그대로 처리하고 대출 수 보정 작업에서 바로잡음
+        if (memberRepository.decreaseActiveLoanCount(memberId, count) == 0) {
+            log.warn("activeLoanCount drift detected memberId = {}, count = {}", memberId, count);
+        }
+    }
+
+    private JobCheckpoint findCheckpoint(JobLease lease) {
+        return jobCheckpointRepository.findById(lease.name())
+                .orElseThrow(() -> new IllegalStateException(lease.name() + " checkpoint not started"));
+    }
+}
@@ -0,0 +1,149 @@
+package com.plee.library.service.book;
+
+import com.plee.library.dto.book.response.BookInfoResponse;
+import com.plee.library.dto.book.response.CategoryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 자주 바뀌지 않는 카테고리 목록과 최근 입고된 도서 목록을 변경할 수 없는 목록으로 캐싱합니다.
+ * 페이지마다 반복되는 조회를 줄이기 위해 사용하며, 최근 입고된 도서 목록은 조회할 때의 목록 변경 번호({@link CatalogVersion})와 함께 캐싱하여
+ * 다른 노드에서 도서가 입고되거나 삭제되어 변경 번호가 바뀌면 다시 조회합니다. 이 노드의 변경은 커밋 이후 바로 무효화합니다.
+ * 카테고리는 배포 시 data.sql 로만 추가되므로, 서버가 재시작될 때까지 캐싱된 목록을 사용합니다.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    private static final String CATEGORIES_KEY = "categories";
+
+    private final Snapshot<CategoryResponse> categories = new Snapshot<>("categories");
+    private final Snapshot<BookInfoResponse> newBooks = new Snapshot<>("newBooks");
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder rebuildNanos = new LongAdder();
+    private final AtomicLong maxRebuildNanos = new AtomicLong();
+
+    /**
+     * 카테고리 목록을 반환합니다. 캐시에 없는 경우 주어진 loader 로 조회한 뒤 캐싱합니다.
+     *
+     * @param loader 카테고리 목록을 조회하는 함수
+     * @return 변경할 수 없는 카테고리 목록
+     */
+    public List<CategoryResponse> getCategories(Supplier<List<CategoryResponse>> loader) {
+        return categories.get(CATEGORIES_KEY, loader);
+    }
+
+    /**
+     * 최근 입고된 도서 목록을 반환합니다.
+     * 캐시에 없거나 캐싱된 목록의 변경 번호가 주어진 변경 번호와 다른 경우, 주어진 loader 로 조회한 뒤 캐싱합니다.
+     *
+     * @param revision 현재 목록 변경 번호, 아직 읽지 않은 경우 null 이며 조회한 목록을 캐싱하지 않음
+     * @param loader   최근 입고된 도서 목록을 조회하는 함수
+     * @return 변경할 수 없는 최근 입고된 도서 목록
+     */
+    public List<BookInfoResponse> getNewBooks(String revision, Supplier<List<BookInfoResponse>> loader) {
+        return newBooks.get(revision, loader);
+    }
+
+    /**
+     * 캐싱된 최근 입고된 도서 목록을 무효화합니다. 트랜잭션 안에서 호출된 경우, 커밋 이후에 반영됩니다.
+     */
+    public void invalidateNewBooks() {
+        afterCommit(newBooks::clear);
+    }
+
+    /**
+     * 적중, 미적중 횟수와 적중률, 목록을 다시 조회한 횟수와 평균, 최대 조회 시간을 반환합니다.
+     */
+    public Stats getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long rebuildCount = rebuilds.sum();
+        long total = hitCount + missCount;
+        return new Stats(hitCount, missCount, total == 0 ? 0 : (double) hitCount / total, rebuildCount,
+                rebuildCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(rebuildNanos.sum() / rebuildCount),
+                TimeUnit.NANOSECONDS.toMillis(maxRebuildNanos.get()));
+    }
+
+    private void afterCommit(Runnable clear) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                clear.run();
+            }
+        });
+    }
+
+    public record Stats(long hits, long misses, double hitRatio, long rebuilds, long avgRebuildMillis, long maxRebuildMillis) {
+    }
+
+    /**
+     * 하나의 목록을 키와 함께 캐싱합니다. 캐시가 비어 있을 때 동시에 요청되더라도 목록은 한 번만 조회합니다.
+     */
+    private class Snapshot<T> {
+
+        private final String name;
+        private final AtomicLong generation = new AtomicLong();
+        private volatile Entry<T> value;
+
+        Snapshot(String name) {
+            this.name = name;
+        }
+
+        List<T> get(String key, Supplier<List<T>> loader) {
+            Entry<T> cached = value;
+            if (cached != null && cached.key().equals(key)) {
+                hits.increment();
+                return cached.list();
+            }
+
+            synchronized (this) {
+                cached = value;
+                if (cached != null && cached.key().equals(key)) {
+                    hits.increment();
+                    return cached.list();
+                }
+                misses.increment();
+
+                // 조회 중 무효화된 경우 이전 결과가 캐싱되지 않도록 세대를 확인
+                long current = generation.get();
+                long startedAt = System.nanoTime();
+                List<T> loaded = List.copyOf(loader.get());
+                long elapsed = System.nanoTime() - startedAt;
+                rebuilds.increment();
+                rebuildNanos.add(elapsed);
+                maxRebuildNanos.accumulateAndGet(elapsed, Math::max);
+
+                if (key != null && current == generation.get()) {
+                    value = new Entry<>(key, loaded);
+                }
+                log.info("SUCCESS rebuild ReferenceDataCache {} size = {}, elapsed = {}ms",
+                        name, loaded.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+                return loaded;
+            }
+        }
+
+        void clear() {
+            generation.incrementAndGet();
+            value = null;
+        }
+    }
+
+    private record Entry<T>(String key, List<T> list) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.plee.library.service.catalog;
+
+import com.plee.library.dto.book.request.SaveBookRequest;
+
+/**
+ * 가져올 도서 목록 파일의 한 행입니다.
+ *
+ * @param line    파일에서 행이 시작하는 줄 번호
+ * @param request 입고할 도서 정보
+ */
+record CatalogImportLine(long line, SaveBookRequest request) {
+}
@@ -0,0 +1,274 @@
+package com.plee.library.service.catalog;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.plee.library.domain.book.BookCategory;
+import com.plee.library.dto.admin.request.ExportFormat;
+import com.plee.library.dto.admin.response.CatalogImportResult;
+import com.plee.library.dto.book.request.SaveBookRequest;
+import com.plee.library.repository.book.BookCategoryRepository;
+import com.plee.library.repository.book.BookCountCache;
+import com.plee.library.service.book.BookSearchIndex;
+import com.plee.library.service.book.CatalogVersion;
+import com.plee.library.service.book.ReferenceDataCache;
+import com.plee.library.util.constant.Constant;
+import com.plee.library.util.message.BookMessage;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * CSV 또는 JSON Lines 형식의 도서 목록을 읽어 일괄 입고처리합니다.
+ * 파일을 한 행씩 읽어 묶음 단위로 저장하므로, 도서의 수와 관계없이 일정한 메모리로 처리하며 gzip 으로 압축된 파일도 읽습니다.
+ * 형식이 올바르지 않거나 이미 존재하는 도서는 거절하고 나머지 도서를 계속 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogImportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final List<String> REQUIRED_COLUMNS = List.of("isbn", "title", "quantity", "categoryid");
+
+    private final CatalogImportWriter catalogImportWriter;
+    private final BookCategoryRepository bookCategoryRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookCountCache bookCountCache;
+    private final ReferenceDataCache referenceDataCache;
+    private final CatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * 도서 목록 파일을 읽어 입고처리합니다.
+     * CSV 는 첫 줄에 isbn, title, author, publisher, image, description, pubDate, quantity, categoryId 열 이름을 가져야 하며,
+     * JSON Lines 는 한 줄에 하나의 도서를 같은 이름의 필드로 가집니다.
+     *
+     * @param format 파일 형식
+     * @param in     도서 목록 파일 (닫지 않음)
+     * @return 전체, 입고, 거절된 도서 수와 승인된 요청 수, 거절 사유
+     * @throws IOException              파일 읽기에 실패한 경우
+     * @throws IllegalArgumentException CSV 에 필수 열이 없는 경우
+     */
+    public CatalogImportResult importCatalog(ExportFormat format, InputStream in) throws IOException {
+        Set<Long> categoryIds = bookCategoryRepository.findAll().stream()
+                .map(BookCategory::getId)
+                .collect(Collectors.toSet());
+        ImportContext context = new ImportContext(categoryIds);
+
+        try {
+            BufferedReader reader = open(in);
+            if (format == ExportFormat.CSV) {
+                readCsv(reader, context);
+            } else {
+                readJsonLines(reader, context);
+            }
+            context.flush();
+        } finally {
+            // 일부만 입고된 경우에도 검색 색인과 도서 수, 최근 입고된 도서 캐시에 반영
+            if (context.imported > 0) {
+                bookSearchIndex.rebuild();
+                bookCountCache.invalidate();
+                referenceDataCache.invalidateNewBooks();
+                catalogVersion.markChanged();
+            }
+        }
+
+        log.info("SUCCESS importCatalog format = {}, total = {}, imported = {}, rejected = {}, approved = {}",
+                format, context.total, context.imported, context.rejected, context.approved);
+        return context.toResult();
+    }
+
+    private BufferedReader open(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in, BUFFER_SIZE);
+        // gzip 헤더(1f 8b)로 시작하면 압축을 풀면서 읽음
+        buffered.mark(2);
+        boolean gzip = buffered.read() == 0x1f && buffered.read() == 0x8b;
+        buffered.reset();
+
+        InputStream source = gzip ? new GZIPInputStream(buffered, BUFFER_SIZE) : buffered;
+        return new BufferedReader(new InputStreamReader(source, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private void readCsv(BufferedReader reader, ImportContext context) throws IOException {
+        CsvRecordReader records = new CsvRecordReader(reader);
+        List<String> header = records.next();
+        if (header == null) {
+            return;
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // 엑셀에서 저장한 UTF-8 파일의 BOM 제거
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.put(name, i);
+        }
+        if (!columns.keySet().containsAll(REQUIRED_COLUMNS)) {
+            throw new IllegalArgumentException(BookMessage.INVALID_IMPORT_FILE.getMessage());
+        }
+
+        List<String> fields;
+        while ((fields = records.next()) != null) {
+            // 빈 줄은 무시
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            long line = records.getRecordLine();
+            String isbn = column(fields, columns, "isbn");
+            try {
+                SaveBookRequest request = SaveBookRequest.builder()
+                        .isbn(isbn)
+                        .title(column(fields, columns, "title"))
+                        .author(column(fields, columns, "author"))
+                        .publisher(column(fields, columns, "publisher"))
+                        .image(column(fields, columns, "image"))
+                        .description(column(fields, columns, "description"))
+                        .pubDate(column(fields, columns, "pubdate"))
+                        .quantity(Integer.parseInt(trim(column(fields, columns, "quantity"))))
+                        .categoryId(Long.parseLong(trim(column(fields, columns, "categoryid"))))
+                        .build();
+                context.accept(line, request);
+            } catch (NumberFormatException e) {
+                context.reject(line, isbn, BookMessage.INVALID_IMPORT_ROW.getMessage());
+            }
+        }
+    }
+
+    private String column(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    private void readJsonLines(BufferedReader reader, ImportContext context) throws IOException {
+        ObjectReader rowReader = objectMapper.readerFor(SaveBookRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        String text;
+        long line = 0;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            SaveBookRequest request;
+            try {
+                request = rowReader.readValue(text);
+            } catch (IOException e) {
+                context.reject(line, null, BookMessage.INVALID_IMPORT_ROW.getMessage());
+                continue;
+            }
+            context.accept(line, request);
+        }
+    }
+
+    /**
+     * 가져오기 진행 상황과 저장을 기다리는 도서 묶음을 관리합니다.
+     */
+    private class ImportContext {
+
+        private final Set<Long> categoryIds;
+        private final Set<String> seenIsbns = new HashSet<>();
+        private List<CatalogImportLine> chunk = new ArrayList<>(Constant.IMPORT_CHUNK_SIZE);
+        private final List<CatalogImportResult.Reject> rejects = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long rejected;
+        private long approved;
+
+        ImportContext(Set<Long> categoryIds) {
+            this.categoryIds = categoryIds;
+        }
+
+        void accept(long line, SaveBookRequest request) {
+            total++;
+            if (request.getIsbn() != null) {
+                request.setIsbn(request.getIsbn().replaceAll("[\\s-]", ""));
+            }
+
+            Set<ConstraintViolation<SaveBookRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                addReject(line, request.getIsbn(), violations.iterator().next().getMessage());
+                return;
+            }
+            if (!StringUtils.hasText(request.getTitle())) {
+                addReject(line, request.getIsbn(), BookMessage.REQUIRED_BOOK_TITLE.getMessage());
+                return;
+            }
+            if (!categoryIds.contains(request.getCategoryId())) {
+                addReject(line, request.getIsbn(), BookMessage.NOT_FOUND_CATEGORY.getMessage());
+                return;
+            }
+            if (!seenIsbns.add(request.getIsbn())) {
+                addReject(line, request.getIsbn(), BookMessage.DUPLICATE_IMPORT_ISBN.getMessage());
+                return;
+            }
+
+            chunk.add(new CatalogImportLine(line, request));
+            if (chunk.size() >= Constant.IMPORT_CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(long line, String isbn, String reason) {
+            total++;
+            addReject(line, isbn, reason);
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<CatalogImportLine> lines = chunk;
+            chunk = new ArrayList<>(Constant.IMPORT_CHUNK_SIZE);
+            try {
+                CatalogImportWriter.Result result = catalogImportWriter.write(lines);
+                imported += result.imported();
+                approved += result.approved();
+                result.alreadyExists().forEach(line ->
+                        addReject(line.line(), line.request().getIsbn(), BookMessage.ALREADY_EXIST_BOOK.getMessage()));
+            } catch (DataAccessException e) {
+                // 저장에 실패한 묶음만 거절하고 다음 묶음을 계속 처리
+                log.warn("importCatalog chunk failed lines = {} ~ {}, error = {}",
+                        lines.get(0).line(), lines.get(lines.size() - 1).line(), e.getMostSpecificCause().getMessage());
+                lines.forEach(line ->
+                        addReject(line.line(), line.request().getIsbn(), BookMessage.FAILED_IMPORT_BOOK.getMessage()));
+            }
+            log.info("importCatalog progress total = {}, imported = {}, rejected = {}", total, imported, rejected);
+        }
+
+        private void addReject(long line, String isbn, String reason) {
+            rejected++;
+            if (rejects.size() < Constant.IMPORT_REJECT_LIMIT) {
+                rejects.add(new CatalogImportResult.Reject(line, isbn, reason));
+            }
+        }
+
+        CatalogImportResult toResult() {
+            return CatalogImportResult.builder()
+                    .total(total)
+                    .imported(imported)
+                    .rejected(rejected)
+                    .approvedRequests(approved)
+                    .rejects(rejects)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.plee.library.service.catalog;
+
+import com.plee.library.domain.book.BookInfo;
+import com.plee.library.dto.book.request.SaveBookRequest;
+import com.plee.library.repository.book.BookBulkRepository;
+import com.plee.library.repository.book.BookInfoRepository;
+import com.plee.library.repository.book.BookRepository;
+import com.plee.library.repository.member.MemberRequestHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 가져온 도서 목록을 묶음 단위의 트랜잭션으로 저장합니다.
+ * 이미 존재하는 도서는 ISBN 목록으로 한 번에 조회하여 제외하고, 나머지 도서 정보와 도서를 여러 행씩 묶어 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogImportWriter {
+
+    private final BookRepository bookRepository;
+    private final BookInfoRepository bookInfoRepository;
+    private final BookBulkRepository bookBulkRepository;
+    private final MemberRequestHistoryRepository memberReqHisRepository;
+
+    /**
+     * 도서 목록을 저장합니다.
+     * 도서 정보가 이미 있는 도서는 도서만 저장하며, 해당 도서에 대한 승인되지 않은 요청을 한 번에 승인 처리합니다.
+     *
+     * @param lines 저장할 도서 목록
+     * @return 저장된 도서 수, 승인된 요청 수와 이미 존재하여 제외된 도서 목록
+     */
+    @Transactional
+    public Result write(List<CatalogImportLine> lines) {
+        Set<String> isbns = lines.stream()
+                .map(line -> line.request().getIsbn())
+                .collect(Collectors.toSet());
+        Set<String> existingBooks = bookRepository.findIsbnsByBookInfoIsbnIn(isbns);
+
+        List<CatalogImportLine> alreadyExists = new ArrayList<>();
+        List<SaveBookRequest> books = new ArrayList<>();
+        for (CatalogImportLine line : lines) {
+            if (existingBooks.contains(line.request().getIsbn())) {
+                alreadyExists.add(line);
+                continue;
+            }
+            books.add(line.request());
+        }
+        if (books.isEmpty()) {
+            return new Result(0, 0, alreadyExists);
+        }
+
+        // 도서 정보가 없는 도서만 도서 정보 저장
+        Set<String> existingBookInfos = bookInfoRepository.findIsbnsByIsbnIn(
+                books.stream().map(SaveBookRequest::getIsbn).toList());
+        List<BookInfo> bookInfos = books.stream()
+                .filter(request -> !existingBookInfos.contains(request.getIsbn()))
+                .map(SaveBookRequest::toEntity)
+                .toList();
+
+        LocalDateTime now = LocalDateTime.now();
+        bookBulkRepository.insertBookInfos(bookInfos, now);
+        int imported = bookBulkRepository.insertBooks(books, now);
+
+        // 회원의 요청은 도서 정보가 있어야 가능하므로, 도서 정보가 이미 있던 도서만 승인 처리
+        int approved = existingBookInfos.isEmpty() ? 0 : memberReqHisRepository.approveByBookInfoIsbnIn(existingBookInfos);
+        return new Result(imported, approved, alreadyExists);
+    }
+
+    record Result(int imported, int approved, List<CatalogImportLine> alreadyExists) {
+    }
+}
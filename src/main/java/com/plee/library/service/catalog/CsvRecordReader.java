@@ -0,0 +1,80 @@
+package com.plee.library.service.catalog;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 를 한 레코드씩 읽습니다.
+ * 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈과 두 번 연속된 큰따옴표("") 를 처리합니다.
+ */
+class CsvRecordReader {
+
+    private final Reader reader;
+    private long lineNumber = 1;
+    private long recordLine;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드를 읽습니다.
+     *
+     * @return 레코드의 필드 목록, 더 이상 레코드가 없는 경우 null
+     * @throws IOException 읽기에 실패한 경우
+     */
+    List<String> next() throws IOException {
+        recordLine = lineNumber;
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    // 닫는 따옴표 없이 파일이 끝난 경우 읽은 데까지를 필드로 사용
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    lineNumber++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 레코드가 시작한 줄 번호를 반환합니다.
+     */
+    long getRecordLine() {
+        return recordLine;
+    }
+}
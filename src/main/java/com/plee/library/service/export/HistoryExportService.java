@@ -0,0 +1,109 @@
+package com.plee.library.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plee.library.dto.admin.request.ExportFormat;
+import com.plee.library.dto.admin.response.LoanHistoryExportRow;
+import com.plee.library.dto.admin.response.RequestHistoryExportRow;
+import com.plee.library.repository.member.MemberLoanHistoryRepository;
+import com.plee.library.repository.member.MemberRequestHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 대출 이력, 신규 도서 요청 이력을 gzip 으로 압축한 CSV 또는 JSON Lines 형식으로 내보냅니다.
+ * DB 커서로 한 행씩 읽어 바로 기록하므로, 이력의 수와 관계없이 일정한 메모리로 내보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HistoryExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MemberLoanHistoryRepository memberLoanHisRepository;
+    private final MemberRequestHistoryRepository memberReqHisRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 대출 이력을 내보냅니다.
+     *
+     * @param format 파일 형식
+     * @param out    압축된 이력을 기록할 스트림 (닫지 않음)
+     * @throws IOException 기록에 실패한 경우
+     */
+    @Transactional(readOnly = true)
+    public void exportLoanHistory(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<LoanHistoryExportRow> rows = memberLoanHisRepository.streamAllForExport()) {
+            long count = write(format, LoanHistoryExportRow.HEADER, rows, LoanHistoryExportRow::values, out);
+            log.info("SUCCESS exportLoanHistory format = {}, rows = {}", format, count);
+        }
+    }
+
+    /**
+     * 전체 신규 도서 요청 이력을 내보냅니다.
+     *
+     * @param format 파일 형식
+     * @param out    압축된 이력을 기록할 스트림 (닫지 않음)
+     * @throws IOException 기록에 실패한 경우
+     */
+    @Transactional(readOnly = true)
+    public void exportRequestHistory(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<RequestHistoryExportRow> rows = memberReqHisRepository.streamAllForExport()) {
+            long count = write(format, RequestHistoryExportRow.HEADER, rows, RequestHistoryExportRow::values, out);
+            log.info("SUCCESS exportRequestHistory format = {}, rows = {}", format, count);
+        }
+    }
+
+    private <T> long write(ExportFormat format, List<String> header, Stream<T> rows,
+                           Function<T, List<Object>> columns, OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == ExportFormat.CSV) {
+            writer.write(toCsvLine(header));
+            writer.write('\n');
+        }
+
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            writer.write(format == ExportFormat.CSV ? toCsvLine(columns.apply(row)) : objectMapper.writeValueAsString(row));
+            writer.write('\n');
+            count++;
+        }
+
+        // 응답 스트림은 컨테이너가 닫으므로 압축만 마무리
+        writer.flush();
+        gzip.finish();
+        out.flush();
+        return count;
+    }
+
+    private String toCsvLine(List<?> values) {
+        return values.stream()
+                .map(this::toCsvValue)
+                .collect(Collectors.joining(","));
+    }
+
+    private String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
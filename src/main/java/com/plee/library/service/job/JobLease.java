@@ -0,0 +1,15 @@
+package com.plee.library.service.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 획득한 작업 잠금입니다.
+ *
+ * @param name         잠금 이름
+ * @param fencingToken 잠금을 획득할 때 발급된 fencing token
+ * @param acquiredAt   잠금을 획득한 시간
+ * @param lockAtLeast  작업이 일찍 끝나더라도 잠금을 유지할 최소 시간
+ */
+public record JobLease(String name, long fencingToken, LocalDateTime acquiredAt, Duration lockAtLeast) {
+}
@@ -0,0 +1,92 @@
+package com.plee.library.service.job;
+
+import com.plee.library.domain.job.JobLock;
+import com.plee.library.repository.job.JobLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 여러 노드 중 하나의 노드만 예약 작업을 실행하도록 DB 테이블로 작업 잠금을 관리합니다.
+ * 잠금은 최대 유지 시간이 지나면 만료되어, 작업 중 종료된 노드의 잠금을 다른 노드가 다시 획득할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobLockManager {
+
+    private static final String NODE_NAME = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final JobLockRepository jobLockRepository;
+
+    /**
+     * 작업 잠금 획득을 시도합니다.
+     *
+     * @param name        잠금 이름
+     * @param lockAtMost  작업이 끝나지 않더라도 잠금이 만료되는 최대 시간
+     * @param lockAtLeast 작업이 일찍 끝나더라도 잠금을 유지할 최소 시간
+     * @return 획득한 잠금, 다른 노드가 잠금을 가지고 있는 경우 빈 Optional
+     */
+    public Optional<JobLease> tryAcquire(String name, Duration lockAtMost, Duration lockAtLeast) {
+        createIfAbsent(name);
+
+        LocalDateTime now = LocalDateTime.now();
+        if (jobLockRepository.acquire(name, NODE_NAME, now, now.plus(lockAtMost)) == 0) {
+            return Optional.empty();
+        }
+
+        JobLock lock = jobLockRepository.findById(name)
+                .orElseThrow(() -> new IllegalStateException(name + " lock not found"));
+        log.info("SUCCESS acquire lock name = {}, fencingToken = {}", name, lock.getFencingToken());
+        return Optional.of(new JobLease(name, lock.getFencingToken(), now, lockAtLeast));
+    }
+
+    /**
+     * 작업 잠금을 반납합니다. 최소 유지 시간이 지나지 않은 경우 최소 유지 시간까지 잠금을 유지합니다.
+     *
+     * @param lease 획득한 잠금
+     */
+    public void release(JobLease lease) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockAtLeastUntil = lease.acquiredAt().plus(lease.lockAtLeast());
+        LocalDateTime lockedUntil = lockAtLeastUntil.isAfter(now) ? lockAtLeastUntil : now;
+
+        if (jobLockRepository.release(lease.name(), lease.fencingToken(), lockedUntil) == 0) {
+            log.warn("lock already taken by another node name = {}, fencingToken = {}", lease.name(), lease.fencingToken());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 잠금을 유지하고 있는지 확인합니다.
+     * 잠금 행을 잠그므로, 확인 이후 트랜잭션이 끝나기 전에 다른 노드가 잠금을 획득할 수 없습니다.
+     *
+     * @param lease 획득한 잠금
+     * @throws IllegalStateException 잠금이 만료되어 다른 노드가 잠금을 획득한 경우
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void validate(JobLease lease) {
+        if (jobLockRepository.findByLockNameAndFencingToken(lease.name(), lease.fencingToken()).isEmpty()) {
+            throw new IllegalStateException(lease.name() + " lock lost, fencingToken = " + lease.fencingToken());
+        }
+    }
+
+    private void createIfAbsent(String name) {
+        if (jobLockRepository.existsById(name)) {
+            return;
+        }
+        try {
+            jobLockRepository.saveAndFlush(new JobLock(name));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 생성한 경우
+            log.info("lock already created name = {}", name);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.plee.library.service.member;
 
-import com.plee.library.domain.book.Book;
 import com.plee.library.domain.book.BookInfo;
 import com.plee.library.domain.member.Member;
 import com.plee.library.config.MemberAdapter;
@@ -16,6 +15,9 @@ import com.plee.library.util.message.MemberMessage;
 import com.plee.library.repository.book.BookRepository;
 import com.plee.library.repository.member.MemberLoanHistoryRepository;
 import com.plee.library.repository.member.MemberRepository;
+import com.plee.library.service.book.CatalogVersion;
+import com.plee.library.service.stats.CirculationEvent;
+import com.plee.library.service.stats.CirculationMetrics;
 import com.plee.library.dto.member.condition.LoanHistorySearchCondition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,6 +46,8 @@ public class MemberServiceImpl implements MemberService, UserDetailsService {
     private final MemberRequestHistoryRepository memberReqHisRepository;
     private final BookRepository bookRepository;
     private final BookInfoRepository bookInfoRepository;
+    private final CatalogVersion catalogVersion;
+    private final CirculationMetrics circulationMetrics;
     private final BCryptPasswordEncoder passwordEncoder;
 
     /**
@@ -245,7 +249,9 @@ public class MemberServiceImpl implements MemberService, UserDetailsService {
         notReturnedHistories.forEach(history -> {
             history.doReturn();
             bookRepository.findByBookInfoIsbn(history.getBookInfo().getIsbn())
-                    .ifPresent(Book::increaseLoanableCnt);
+                    .ifPresent(book -> bookRepository.increaseLoanableCnt(book.getId(), 1));
+            // 회원과 함께 대출 이력도 삭제되어 대출 이력으로 보정할 수 없으므로 반납 통계에 기록
+            circulationMetrics.recordAfterCommit(CirculationEvent.RETURN);
         });
 
         // 입고처리 되지 않은 내역 중, 해당 사용자만 신청했던 도서 신청 내역이 있는 경우, 해당 도서의 정보도 제거
@@ -261,6 +267,8 @@ public class MemberServiceImpl implements MemberService, UserDetailsService {
         });
 
         memberRepository.delete(member);
+        // 강제 반납된 도서의 대출 가능한 수량 변경
+        catalogVersion.markChanged();
         log.info("SUCCESS delete member id : {}", memberId);
     }
 }
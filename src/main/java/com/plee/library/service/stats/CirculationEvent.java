@@ -0,0 +1,27 @@
+package com.plee.library.service.stats;
+
+import com.plee.library.domain.stats.LoanStatsType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 실시간으로 집계하는 도서 유통 이벤트입니다.
+ * 모든 이벤트는 메모리에 모아 주기적으로 대출 통계 테이블에 반영되며, 처리 트랜잭션에서 통계 행을 변경하지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CirculationEvent {
+    LOAN(LoanStatsType.LOAN),
+    RETURN(LoanStatsType.RETURN),
+    RENEW(LoanStatsType.RENEW),
+    BOOKMARK(LoanStatsType.BOOKMARK),
+    LOAN_FAILED_CANNOT_LOAN(LoanStatsType.LOAN_FAILED_CANNOT_LOAN),
+    LOAN_FAILED_MAX_LOAN(LoanStatsType.LOAN_FAILED_MAX_LOAN),
+    LOAN_FAILED_ALREADY_LOANED(LoanStatsType.LOAN_FAILED_ALREADY_LOANED);
+
+    private final LoanStatsType flushType;
+
+    public boolean isFlushed() {
+        return flushType != null;
+    }
+}
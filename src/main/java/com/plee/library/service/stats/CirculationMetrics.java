@@ -0,0 +1,226 @@
+package com.plee.library.service.stats;
+
+import com.plee.library.domain.stats.LoanStatsType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 도서 유통 이벤트 수를 잠금 없이 메모리에서 집계합니다.
+ * 오늘, 최근 1시간 동안의 이벤트 수를 조회할 수 있으며, 대출 통계 테이블에 반영할 이벤트 수는 주기적으로 꺼내어 반영합니다.
+ */
+@Component
+public class CirculationMetrics {
+
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final CirculationEvent[] EVENTS = CirculationEvent.values();
+
+    private final Clock clock;
+    // 분 단위 구간을 1시간 동안 순환하며 사용
+    private final MinuteBucket[] minuteBuckets = new MinuteBucket[MINUTES_PER_HOUR];
+    private final AtomicReference<DayBucket> today;
+    private final Map<LocalDate, PendingCounts> pending = new ConcurrentHashMap<>();
+
+    public CirculationMetrics() {
+        this(Clock.systemDefaultZone());
+    }
+
+    CirculationMetrics(Clock clock) {
+        this.clock = clock;
+        for (int i = 0; i < MINUTES_PER_HOUR; i++) {
+            minuteBuckets[i] = new MinuteBucket();
+        }
+        this.today = new AtomicReference<>(new DayBucket(LocalDate.now(clock)));
+    }
+
+    /**
+     * 이벤트 발생을 기록합니다.
+     *
+     * @param event 발생한 이벤트
+     */
+    public void record(CirculationEvent event) {
+        int index = event.ordinal();
+        currentMinuteBucket().counts[index].increment();
+        LocalDate date = LocalDate.now(clock);
+        currentDayBucket(date).counts[index].increment();
+        if (event.isFlushed()) {
+            pending.computeIfAbsent(date, key -> new PendingCounts()).counts[index].increment();
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋된 이후에 이벤트 발생을 기록합니다.
+     * 트랜잭션이 롤백되면 기록하지 않으며, 트랜잭션 밖에서 호출된 경우 바로 기록합니다.
+     *
+     * @param event 발생한 이벤트
+     */
+    public void recordAfterCommit(CirculationEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(event);
+            }
+        });
+    }
+
+    /**
+     * 오늘 발생한 이벤트 수를 반환합니다.
+     */
+    public Map<CirculationEvent, Long> getTodayCounts() {
+        return toMap(currentDayBucket(LocalDate.now(clock)).counts);
+    }
+
+    /**
+     * 최근 1시간 동안 발생한 이벤트 수를 반환합니다.
+     */
+    public Map<CirculationEvent, Long> getLastHourCounts() {
+        long currentMinute = currentEpochMinute();
+        long[] sums = new long[EVENTS.length];
+        for (MinuteBucket bucket : minuteBuckets) {
+            if (bucket.epochMinute > currentMinute - MINUTES_PER_HOUR) {
+                for (int i = 0; i < EVENTS.length; i++) {
+                    sums[i] += bucket.counts[i].sum();
+                }
+            }
+        }
+
+        Map<CirculationEvent, Long> counts = new EnumMap<>(CirculationEvent.class);
+        for (CirculationEvent event : EVENTS) {
+            counts.put(event, sums[event.ordinal()]);
+        }
+        return counts;
+    }
+
+    /**
+     * 대출 통계 테이블에 아직 반영하지 않은 이벤트 수를 꺼냅니다.
+     * 카운터를 초기화하지 않고 누적 값과 이미 반영한 값의 차이를 꺼내므로, 동시에 기록된 이벤트 수가 유실되지 않습니다.
+     *
+     * @return 날짜별, 통계 종류별 반영할 수
+     */
+    public synchronized Map<LocalDate, Map<LoanStatsType, Long>> drainPending() {
+        Map<LocalDate, Map<LoanStatsType, Long>> drained = new HashMap<>();
+        LocalDate date = LocalDate.now(clock);
+        pending.forEach((pendingDate, counts) -> {
+            Map<LoanStatsType, Long> typeCounts = new EnumMap<>(LoanStatsType.class);
+            for (CirculationEvent event : EVENTS) {
+                long count = counts.drain(event.ordinal());
+                if (count > 0) {
+                    typeCounts.put(event.getFlushType(), count);
+                }
+            }
+            if (!typeCounts.isEmpty()) {
+                drained.put(pendingDate, typeCounts);
+            }
+            // 자정 직후 기록 중인 이벤트가 있을 수 있으므로 이틀 이상 지난 날짜만 제거
+            if (pendingDate.isBefore(date.minusDays(1))) {
+                pending.remove(pendingDate);
+            }
+        });
+        return drained;
+    }
+
+    /**
+     * 반영에 실패한 이벤트 수를 다음 반영 때 다시 꺼낼 수 있도록 되돌립니다.
+     *
+     * @param drained drainPending 으로 꺼낸 이벤트 수
+     */
+    public synchronized void restorePending(Map<LocalDate, Map<LoanStatsType, Long>> drained) {
+        drained.forEach((date, typeCounts) -> {
+            PendingCounts counts = pending.computeIfAbsent(date, key -> new PendingCounts());
+            for (CirculationEvent event : EVENTS) {
+                Long count = event.isFlushed() ? typeCounts.get(event.getFlushType()) : null;
+                if (count != null) {
+                    counts.restore(event.ordinal(), count);
+                }
+            }
+        });
+    }
+
+    private MinuteBucket currentMinuteBucket() {
+        long epochMinute = currentEpochMinute();
+        MinuteBucket bucket = minuteBuckets[(int) (epochMinute % MINUTES_PER_HOUR)];
+        if (bucket.epochMinute != epochMinute) {
+            // 1시간 전의 구간을 재사용하므로, 구간이 바뀔 때 한 번만 초기화
+            synchronized (bucket) {
+                if (bucket.epochMinute != epochMinute) {
+                    for (LongAdder counter : bucket.counts) {
+                        counter.reset();
+                    }
+                    bucket.epochMinute = epochMinute;
+                }
+            }
+        }
+        return bucket;
+    }
+
+    private DayBucket currentDayBucket(LocalDate date) {
+        DayBucket bucket = today.get();
+        while (bucket.date.isBefore(date)) {
+            today.compareAndSet(bucket, new DayBucket(date));
+            bucket = today.get();
+        }
+        return bucket;
+    }
+
+    private long currentEpochMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(clock.millis());
+    }
+
+    private static Map<CirculationEvent, Long> toMap(LongAdder[] counters) {
+        Map<CirculationEvent, Long> counts = new EnumMap<>(CirculationEvent.class);
+        for (CirculationEvent event : EVENTS) {
+            counts.put(event, counters[event.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[EVENTS.length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    private static class MinuteBucket {
+        private volatile long epochMinute = -1;
+        private final LongAdder[] counts = newCounters();
+    }
+
+    private static class PendingCounts {
+        private final LongAdder[] counts = newCounters();
+        // drainPending, restorePending 에서만 접근
+        private final long[] drained = new long[EVENTS.length];
+
+        long drain(int index) {
+            long total = counts[index].sum();
+            long count = total - drained[index];
+            drained[index] = total;
+            return count;
+        }
+
+        void restore(int index, long count) {
+            drained[index] -= count;
+        }
+    }
+
+    private record DayBucket(LocalDate date, LongAdder[] counts) {
+        DayBucket(LocalDate date) {
+            this(date, newCounters());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.plee.library.service.stats;
+
+import com.plee.library.domain.stats.LoanStatsType;
+import com.plee.library.repository.member.MemberLoanHistoryRepository;
+import com.plee.library.repository.stats.LoanDailyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 날짜별 대출 통계를 증가시킵니다.
+ * 연체 자동 반납은 처리 묶음마다 같은 트랜잭션에서 통계를 변경하며, 대출, 반납, 연장 등 회원 요청마다 일어나는 이벤트는
+ * {@link CirculationMetrics} 에 모아 주기적으로 한 번에 반영하여 날짜별 통계 행의 잠금 경합을 줄입니다.
+ * 반영하지 못하고 유실된 대출, 반납 수는 매일 대출 이력으로 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoanStatsRecorder {
+
+    private final LoanDailyStatsRepository loanDailyStatsRepository;
+    private final LoanStatsRowCreator loanStatsRowCreator;
+    private final MemberLoanHistoryRepository memberLoanHisRepository;
+    private final AtomicReference<LocalDate> createdDate = new AtomicReference<>();
+
+    /**
+     * 오늘 날짜의 대출 통계를 증가시킵니다.
+     *
+     * @param type  통계 종류
+     * @param count 증가시킬 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(LoanStatsType type, long count) {
+        record(type, LocalDate.now(), count);
+    }
+
+    /**
+     * 날짜의 대출 통계를 증가시킵니다. 날짜의 통계가 없는 경우 먼저 생성합니다.
+     *
+     * @param type  통계 종류
+     * @param date  날짜
+     * @param count 증가시킬 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(LoanStatsType type, LocalDate date, long count) {
+        if (count <= 0) {
+            return;
+        }
+        // 없는 행을 UPDATE 하면 생성하려는 트랜잭션과 잠금이 충돌하므로, 날짜가 바뀐 경우 UPDATE 전에 행을 생성
+        if (!date.equals(createdDate.get())) {
+            createIfAbsent(date);
+        }
+        if (increase(type, date, count) == 0) {
+            log.warn("loanDailyStats not found date = {}, type = {}, count = {}", date, type, count);
+        }
+    }
+
+    /**
+     * 날짜별로 모아둔 통계를 한 번에 반영합니다.
+     *
+     * @param counts 날짜별, 통계 종류별 증가시킬 수
+     */
+    @Transactional
+    public void recordAll(Map<LocalDate, Map<LoanStatsType, Long>> counts) {
+        counts.forEach((date, typeCounts) ->
+                typeCounts.forEach((type, count) -> record(type, date, count)));
+    }
+
+    /**
+     * 기간의 대출, 반납 통계를 대출 이력으로 보정합니다.
+     * 메모리에 모아둔 통계를 반영하기 전에 서버가 종료되어 유실된 수를 채우며, 반영 중인 통계와 겹치지 않도록 지난 날짜만 보정합니다.
+     * 연장은 연장한 시간이 대출 이력에 남지 않으므로 보정하지 않습니다.
+     *
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 보정된 날짜의 수
+     */
+    @Transactional
+    public int reconcile(LocalDate startDate, LocalDate endDate) {
+        int reconciled = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            LocalDateTime start = date.atStartOfDay();
+            LocalDateTime end = start.plusDays(1);
+            long loaned = memberLoanHisRepository.countLoanedBetween(start, end);
+            long returned = memberLoanHisRepository.countReturnedBetween(start, end);
+            if (loaned == 0 && returned == 0) {
+                continue;
+            }
+
+            createIfAbsent(date);
+            int updated = loanDailyStatsRepository.raiseLoanCount(date, loaned)
+                    + loanDailyStatsRepository.raiseReturnCount(date, returned);
+            if (updated > 0) {
+                log.warn("loanDailyStats drift date = {}, loaned = {}, returned = {}", date, loaned, returned);
+                reconciled++;
+            }
+        }
+        return reconciled;
+    }
+
+    private void createIfAbsent(LocalDate date) {
+        try {
+            loanStatsRowCreator.create(date);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 트랜잭션이 먼저 생성한 경우
+            log.info("loanDailyStats already created date = {}", date);
+        }
+        createdDate.set(date);
+    }
+
+    private int increase(LoanStatsType type, LocalDate date, long count) {
+        return switch (type) {
+            case LOAN, RETURN, RENEW, OVERDUE_RETURN -> loanDailyStatsRepository.increase(date,
+                    type == LoanStatsType.LOAN ? count : 0,
+                    type == LoanStatsType.RETURN ? count : 0,
+                    type == LoanStatsType.RENEW ? count : 0,
+                    type == LoanStatsType.OVERDUE_RETURN ? count : 0);
+            case BOOKMARK, LOAN_FAILED_CANNOT_LOAN, LOAN_FAILED_MAX_LOAN, LOAN_FAILED_ALREADY_LOANED -> loanDailyStatsRepository.increaseActivity(date,
+                    type == LoanStatsType.BOOKMARK ? count : 0,
+                    type == LoanStatsType.LOAN_FAILED_CANNOT_LOAN ? count : 0,
+                    type == LoanStatsType.LOAN_FAILED_MAX_LOAN ? count : 0,
+                    type == LoanStatsType.LOAN_FAILED_ALREADY_LOANED ? count : 0);
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.plee.library.service.stats;
+
+import com.plee.library.domain.stats.LoanDailyStats;
+import com.plee.library.repository.stats.LoanDailyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜의 대출 통계 행을 별도의 트랜잭션으로 생성합니다.
+ * 다른 노드가 먼저 생성하여 실패하더라도, 통계를 기록하는 트랜잭션에는 영향을 주지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoanStatsRowCreator {
+
+    private final LoanDailyStatsRepository loanDailyStatsRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void create(LocalDate date) {
+        if (!loanDailyStatsRepository.existsById(date)) {
+            loanDailyStatsRepository.saveAndFlush(new LoanDailyStats(date));
+        }
+    }
+}
@@ -4,4 +4,11 @@ public class Constant {
     public static final int LOANABLE_BOOK_LIMIT = 3;
     public static final int LOAN_PERIOD = 7;
     public static final int RENEW_PERIOD = 7;
+    public static final int RETURN_CHUNK_SIZE = 500;
+    public static final String EXPORT_FETCH_SIZE = "1000";
+    public static final int IMPORT_CHUNK_SIZE = 500;
+    public static final int IMPORT_REJECT_LIMIT = 100;
+    public static final int ENRICH_BATCH_SIZE = 20;
+    public static final int ENRICH_CONCURRENCY = 4;
+    public static final int ENRICH_MAX_ATTEMPTS = 6;
 }
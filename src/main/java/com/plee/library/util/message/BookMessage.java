@@ -27,7 +27,15 @@ public enum BookMessage implements Message {
     CANNOT_UPDATE_QUANTITY("대출중인 도서 수보다 적은 수량으로 수정할 수 없습니다."),
     CANNOT_UPDATE_SAME_QUANTITY("현재 수량과 같은 수량으로 수정할 수 없습니다."),
     INVALID_LOANABLE_CNT("대여 가능한 수량이 올바르지 않습니다."),
+    INVALID_CURSOR("잘못된 페이지 요청입니다."),
+    INVALID_IMPORT_FILE("도서 목록 파일을 읽을 수 없습니다. 파일 형식을 확인해주세요."),
+    INVALID_IMPORT_ROW("도서 정보의 형식이 올바르지 않습니다."),
+    REQUIRED_BOOK_TITLE("도서 제목이 없습니다."),
+    DUPLICATE_IMPORT_ISBN("파일에 같은 ISBN 의 도서가 이미 있습니다."),
+    FAILED_IMPORT_BOOK("도서를 저장하지 못했습니다."),
     API_ERROR("네이버 도서 검색에 오류가 발생했습니다. 잠시 후에 다시 시도해주세요."),
+    API_BUSY("네이버 도서 검색 요청이 많습니다. 잠시 후에 다시 시도해주세요."),
+    API_QUOTA_EXCEEDED("오늘 가능한 네이버 도서 검색 횟수를 모두 사용했습니다. 내일 다시 시도해주세요."),
     MAX_LOAN_BOOK("대출 가능한 도서의 수를 초과하였습니다. 최대 3권까지 가능합니다.");
 
     private final String message;
@@ -0,0 +1,20 @@
+package com.plee.library.util.pagination;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 기존 페이지 번호 기반 뷰와 호환되면서, 다음 페이지를 keyset 으로 조회하기 위한 커서 토큰을 함께 담는 Page 입니다.
+ */
+@Getter
+public class CursorPage<T> extends PageImpl<T> {
+    private final String nextCursor;
+
+    public CursorPage(List<T> content, Pageable pageable, long total, String nextCursor) {
+        super(content, pageable, total);
+        this.nextCursor = nextCursor;
+    }
+}
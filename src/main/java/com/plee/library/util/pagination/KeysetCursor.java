@@ -0,0 +1,58 @@
+package com.plee.library.util.pagination;
+
+import com.plee.library.util.message.BookMessage;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (created_at, id) 기준 keyset 페이지네이션의 위치를 나타내는 커서입니다.
+ * 클라이언트에는 Base64 로 인코딩된 불투명한 토큰으로 전달됩니다.
+ */
+@Getter
+public class KeysetCursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private KeysetCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static KeysetCursor of(LocalDateTime createdAt, Long id) {
+        return new KeysetCursor(createdAt, id);
+    }
+
+    /**
+     * 커서 토큰을 해석합니다.
+     *
+     * @param token 커서 토큰
+     * @return 해석된 커서, 토큰이 비어있는 경우 null
+     * @throws IllegalArgumentException 올바르지 않은 토큰인 경우
+     */
+    public static KeysetCursor decode(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            return new KeysetCursor(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    Long.parseLong(decoded.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(BookMessage.INVALID_CURSOR.getMessage());
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,88 @@
+package com.plee.library.util.resilience;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 외부 호출이 연속으로 실패하면 일정 시간 동안 호출을 차단하는 서킷 브레이커입니다.
+ * 차단 시간이 지나면 한 번의 시험 호출만 허용하고, 시험 호출이 성공하면 다시 모든 호출을 허용합니다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, Clock.systemDefaultZone());
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출을 시도해도 되는지 확인합니다.
+     * 허용된 경우 호출 결과를 onSuccess 또는 onFailure 로 반드시 알려야 합니다.
+     *
+     * @return 호출이 허용된 경우 true
+     */
+    public synchronized boolean tryAcquirePermission() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> {
+                if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                    yield false;
+                }
+                // 차단 시간이 지난 경우 시험 호출 1건만 허용
+                state = State.HALF_OPEN;
+                yield true;
+            }
+            case HALF_OPEN -> false;
+        };
+    }
+
+    /**
+     * 상태를 바꾸지 않고 호출이 허용될 수 있는지 확인합니다.
+     * 차단 시간이 지난 경우 시험 호출이 허용될 수 있으므로 true 를 반환합니다.
+     *
+     * @return 호출이 허용될 수 있는 경우 true
+     */
+    public synchronized boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> !clock.instant().isBefore(openedAt.plus(openDuration));
+            case HALF_OPEN -> false;
+        };
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
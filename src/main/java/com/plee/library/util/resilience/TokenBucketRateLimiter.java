@@ -0,0 +1,215 @@
+package com.plee.library.util.resilience;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 초당 호출 수와 하루 호출 수를 제한하는 토큰 버킷입니다.
+ * 토큰이 없으면 요청을 크기가 제한된 대기열에 넣고, 토큰이 채워지면 우선순위가 높은 요청부터 허용합니다.
+ * 대기열이 가득 찬 경우, 하루 호출 수를 모두 사용한 경우 바로 거절하며, 최대 대기 시간이 지난 요청은 시간 초과로 실패합니다.
+ */
+public class TokenBucketRateLimiter {
+
+    // 선언 순서가 빠를수록 먼저 허용
+    public enum Priority {
+        HIGH,
+        NORMAL,
+        LOW
+    }
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long dailyLimit;
+    private final int maxQueueSize;
+    private final Duration maxWait;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>(
+            Comparator.comparing(Waiter::priority).thenComparingLong(Waiter::sequence));
+    private double tokens;
+    private Instant refilledAt;
+    private LocalDate today;
+    private long dailyUsed;
+    private long sequence;
+    private boolean drainScheduled;
+
+    private final LongAdder permitted = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, long dailyLimit, int maxQueueSize, Duration maxWait) {
+        this(permitsPerSecond, burst, dailyLimit, maxQueueSize, maxWait, Clock.systemDefaultZone());
+    }
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, long dailyLimit, int maxQueueSize, Duration maxWait, Clock clock) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.dailyLimit = dailyLimit;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWait = maxWait;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.tokens = burst;
+        this.refilledAt = clock.instant();
+        this.today = LocalDate.ofInstant(refilledAt, clock.getZone());
+    }
+
+    /**
+     * 호출 허가를 요청합니다.
+     * 토큰이 있고 대기 중인 요청이 없으면 바로 허용하고, 그렇지 않으면 대기열에서 차례를 기다립니다.
+     *
+     * @param priority 요청의 우선순위
+     * @return 허용되면 완료되는 CompletableFuture, 거절된 경우 RejectedExecutionException, 시간 초과인 경우 TimeoutException 으로 실패
+     */
+    public CompletableFuture<Void> acquire(Priority priority) {
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        synchronized (this) {
+            refill();
+            if (dailyUsed >= dailyLimit) {
+                rejected.increment();
+                return CompletableFuture.failedFuture(new RejectedExecutionException("daily limit exhausted"));
+            }
+            if (queue.isEmpty() && tokens >= 1) {
+                consume();
+                return CompletableFuture.completedFuture(null);
+            }
+
+            queue.removeIf(waiter -> waiter.permit().isDone());
+            if (queue.size() >= maxQueueSize) {
+                rejected.increment();
+                return CompletableFuture.failedFuture(new RejectedExecutionException("wait queue is full"));
+            }
+            queue.add(new Waiter(priority, sequence++, permit));
+            queued.increment();
+            scheduleDrain();
+        }
+
+        return permit.orTimeout(maxWait.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, e) -> {
+                    if (e instanceof TimeoutException) {
+                        timedOut.increment();
+                    }
+                });
+    }
+
+    /**
+     * 허용받았지만 호출하지 않은 요청의 토큰과 하루 호출 수를 반환합니다.
+     */
+    public synchronized void refund() {
+        tokens = Math.min(burst, tokens + 1);
+        // 허용받은 이후 날짜가 바뀌어 하루 호출 수가 초기화된 경우
+        dailyUsed = Math.max(0, dailyUsed - 1);
+        permitted.decrement();
+    }
+
+    /**
+     * 오늘 허용 가능한 호출 수를 모두 사용했는지 확인합니다.
+     */
+    public synchronized boolean isDailyLimitExhausted() {
+        refill();
+        return dailyUsed >= dailyLimit;
+    }
+
+    /**
+     * 허용, 대기, 거절, 시간 초과 횟수와 현재 대기 중인 요청 수, 오늘 사용한 호출 수를 반환합니다.
+     */
+    public synchronized Stats getStats() {
+        refill();
+        queue.removeIf(waiter -> waiter.permit().isDone());
+        return new Stats(permitted.sum(), queued.sum(), rejected.sum(), timedOut.sum(), queue.size(),
+                (int) tokens, dailyUsed, dailyLimit);
+    }
+
+    private void drain() {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+        List<CompletableFuture<Void>> exhausted = new ArrayList<>();
+        synchronized (this) {
+            drainScheduled = false;
+            refill();
+            while (!queue.isEmpty() && tokens >= 1) {
+                Waiter waiter = queue.poll();
+                if (waiter.permit().isDone()) {
+                    continue;
+                }
+                if (dailyUsed >= dailyLimit) {
+                    exhausted.add(waiter.permit());
+                    continue;
+                }
+                consume();
+                granted.add(waiter.permit());
+            }
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        // 허가 이후의 호출이 잠금을 잡은 채로 실행되지 않도록 잠금 밖에서 완료
+        for (CompletableFuture<Void> permit : granted) {
+            if (!permit.complete(null)) {
+                // 토큰을 배정하는 사이 시간 초과된 경우 토큰 반환
+                refund();
+            }
+        }
+        for (CompletableFuture<Void> permit : exhausted) {
+            rejected.increment();
+            permit.completeExceptionally(new RejectedExecutionException("daily limit exhausted"));
+        }
+    }
+
+    private void refill() {
+        Instant now = clock.instant();
+        LocalDate date = LocalDate.ofInstant(now, clock.getZone());
+        if (!date.equals(today)) {
+            today = date;
+            dailyUsed = 0;
+        }
+        long elapsedNanos = Duration.between(refilledAt, now).toNanos();
+        if (elapsedNanos > 0) {
+            tokens = Math.min(burst, tokens + elapsedNanos * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+            refilledAt = now;
+        }
+    }
+
+    private void consume() {
+        tokens--;
+        dailyUsed++;
+        permitted.increment();
+    }
+
+
+    private void scheduleDrain() {
+        if (drainScheduled) {
+            return;
+        }
+        drainScheduled = true;
+        // 다음 토큰이 채워지는 시점에 대기열 처리
+        long delayNanos = (long) Math.ceil(Math.max(0, 1 - tokens) / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+        scheduler.schedule(this::drain, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public record Stats(long permitted, long queued, long rejected, long timedOut, int waiting,
+                        int availableTokens, long dailyUsed, long dailyLimit) {
+    }
+
+    private record Waiter(Priority priority, long sequence, CompletableFuture<Void> permit) {
+    }
+}
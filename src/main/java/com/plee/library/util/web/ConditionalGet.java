@@ -0,0 +1,63 @@
+package com.plee.library.util.web;
+
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.FlashMap;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+/**
+ * 화면 요청의 ETag 를 확인하여, 브라우저가 가진 화면이 최신인 경우 304 Not Modified 로 응답하도록 합니다.
+ * 찜 여부, 대출 여부처럼 회원마다 다른 정보는 세션의 변경 번호로 구분하며,
+ * 회원이 대출, 반납, 찜 등록 등 정보를 바꾸는 요청을 보내면 {@link ConditionalGetInterceptor} 가 변경 번호를 증가시킵니다.
+ */
+public final class ConditionalGet {
+
+    // 브라우저가 화면을 저장하되, 사용하기 전에 항상 변경 여부를 확인
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+    private static final String SESSION_STAMP = ConditionalGet.class.getName() + ".STAMP";
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * 요청의 If-None-Match 가 주어진 태그와 일치하는지 확인합니다.
+     * 화면에 포함된 CSRF 토큰과 회원의 정보는 세션마다 다르므로 세션 ID 와 세션의 변경 번호를 태그에 함께 사용하며,
+     * 리다이렉트로 전달된 메세지가 있는 경우 화면에 표시해야 하므로 확인하지 않습니다.
+     *
+     * @param request 화면 요청
+     * @param tag     화면 정보의 태그
+     * @return 변경되지 않은 경우 true, 응답은 304 로 설정되므로 핸들러는 null 을 반환해야 함
+     */
+    public static boolean checkNotModified(ServletWebRequest request, String tag) {
+        if (tag == null) {
+            return false;
+        }
+        FlashMap flashMap = RequestContextUtils.getInputFlashMap(request.getRequest());
+        if (flashMap != null && !flashMap.isEmpty()) {
+            return false;
+        }
+
+        HttpSession session = request.getRequest().getSession(false);
+        String scope = session != null ? Integer.toHexString(session.getId().hashCode()) + "." + getStamp(session) : "anonymous";
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified("W/\"" + tag + "-" + scope + "\"");
+    }
+
+    /**
+     * 세션의 변경 번호를 증가시켜, 이 세션에 발급한 이전 태그를 사용하지 않도록 합니다.
+     *
+     * @param session 정보를 바꾸는 요청을 보낸 세션
+     */
+    public static void markChanged(HttpSession session) {
+        session.setAttribute(SESSION_STAMP, getStamp(session) + 1);
+    }
+
+    private static long getStamp(HttpSession session) {
+        Object stamp = session.getAttribute(SESSION_STAMP);
+        return stamp instanceof Long value ? value : 0L;
+    }
+}
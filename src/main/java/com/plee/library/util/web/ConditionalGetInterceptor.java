@@ -0,0 +1,26 @@
+package com.plee.library.util.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 대출, 반납, 찜 등록처럼 정보를 바꾸는 요청이 들어오면 세션의 변경 번호를 증가시켜,
+ * 이전에 받은 화면을 304 Not Modified 로 다시 사용하지 않도록 합니다.
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            ConditionalGet.markChanged(session);
+        }
+        return true;
+    }
+}
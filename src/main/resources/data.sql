@@ -18,4 +18,101 @@ VALUES ('경제경영', NOW()),
        ('예술/대중문화', NOW()),
        ('아동', NOW()),
        ('청소년', NOW()),
-       ('교재/수험서', NOW());
\ No newline at end of file
+       ('교재/수험서', NOW());
+
+-- 대출중인 도서 수 컬럼 추가 및 기존 대출 이력으로 한 번만 채우기 (대출중인 회원이 있으면 이미 채워진 것으로 판단)
+ALTER TABLE member ADD COLUMN IF NOT EXISTS active_loan_count INT NOT NULL DEFAULT 0;
+SET @backfill_active_loan_count = (SELECT COUNT(*) = 0 FROM member WHERE active_loan_count > 0);
+UPDATE member m
+SET active_loan_count = (SELECT COUNT(*)
+                         FROM member_loan_history h
+                         WHERE h.member_seq = m.member_seq
+                           AND h.returned_at IS NULL)
+WHERE @backfill_active_loan_count;
+
+-- 반납 예정일 컬럼 추가 및 기존 대출 이력의 반납 예정일 채우기 (대출 7일, 연장 시 7일 추가)
+ALTER TABLE member_loan_history ADD COLUMN IF NOT EXISTS due_at DATETIME(6);
+CREATE INDEX IF NOT EXISTS idx_loan_his_returned_due ON member_loan_history (returned_at, due_at);
+UPDATE member_loan_history
+SET due_at = DATE_ADD(created_at, INTERVAL IF(is_renew, 14, 7) DAY)
+WHERE due_at IS NULL;
+
+-- 도서, 대출 이력 목록의 (생성일, ID) keyset 페이지네이션과 회원의 도서 대출 여부 확인을 위한 인덱스 생성
+CREATE INDEX IF NOT EXISTS idx_book_created_at_seq ON book (created_at, book_seq);
+CREATE INDEX IF NOT EXISTS idx_loan_his_created_at_seq ON member_loan_history (created_at, member_loan_his_seq);
+CREATE INDEX IF NOT EXISTS idx_loan_his_member_isbn_returned ON member_loan_history (member_seq, book_info_isbn, returned_at);
+
+-- 연체 도서 반납 등 나누어 처리하는 작업의 진행 상황 테이블 생성
+CREATE TABLE IF NOT EXISTS job_checkpoint
+(
+    job_name           VARCHAR(50) NOT NULL PRIMARY KEY,
+    scheduled_at       DATETIME(6) NOT NULL,
+    last_processed_seq BIGINT      NOT NULL,
+    completed          BIT         NOT NULL,
+    updated_at         DATETIME(6)
+);
+
+-- 여러 노드 중 하나의 노드만 예약 작업을 실행하기 위한 작업 잠금 테이블 생성
+CREATE TABLE IF NOT EXISTS job_lock
+(
+    lock_name     VARCHAR(50)  NOT NULL PRIMARY KEY,
+    locked_until  DATETIME(6)  NOT NULL,
+    locked_at     DATETIME(6),
+    locked_by     VARCHAR(255),
+    fencing_token BIGINT       NOT NULL
+);
+
+-- 날짜별 대출 통계 테이블 생성 및 기존 대출 이력으로 한 번만 채우기
+CREATE TABLE IF NOT EXISTS loan_daily_stats
+(
+    stats_date           DATE   NOT NULL PRIMARY KEY,
+    loan_count           BIGINT NOT NULL DEFAULT 0,
+    return_count         BIGINT NOT NULL DEFAULT 0,
+    renew_count          BIGINT NOT NULL DEFAULT 0,
+    overdue_return_count BIGINT NOT NULL DEFAULT 0
+);
+ALTER TABLE loan_daily_stats
+    ADD COLUMN IF NOT EXISTS bookmark_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS failed_cannot_loan_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS failed_max_loan_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS failed_already_loaned_count BIGINT NOT NULL DEFAULT 0;
+INSERT INTO loan_daily_stats (stats_date, loan_count, return_count)
+SELECT stats_date, SUM(loan_count), SUM(return_count)
+FROM (SELECT DATE(created_at) AS stats_date, 1 AS loan_count, 0 AS return_count
+      FROM member_loan_history
+      UNION ALL
+      SELECT DATE(returned_at), 0, 1
+      FROM member_loan_history
+      WHERE returned_at IS NOT NULL) AS history
+WHERE NOT EXISTS (SELECT 1 FROM loan_daily_stats)
+GROUP BY stats_date;
+
+-- 도서 정보 보완 대기열 테이블 생성
+CREATE TABLE IF NOT EXISTS book_info_enrichment
+(
+    book_info_isbn  VARCHAR(13)  NOT NULL PRIMARY KEY,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(255),
+    created_at      DATETIME(6)  NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_enrichment_next_attempt ON book_info_enrichment (next_attempt_at);
+
+-- 도서 목록, 상세 화면의 ETag 에 사용하는 변경 번호 테이블 생성
+CREATE TABLE IF NOT EXISTS catalog_revision
+(
+    catalog_revision_seq BIGINT NOT NULL PRIMARY KEY,
+    revision             BIGINT NOT NULL DEFAULT 0
+);
+INSERT IGNORE INTO catalog_revision (catalog_revision_seq, revision)
+VALUES (1, 0);
+
+-- 도서 상세 화면의 ETag 에 사용하는 수정 시간 컬럼 추가 및 기존 도서는 생성 시간으로 채우기
+ALTER TABLE book ADD COLUMN IF NOT EXISTS updated_at DATETIME(6);
+ALTER TABLE book_info ADD COLUMN IF NOT EXISTS updated_at DATETIME(6);
+UPDATE book
+SET updated_at = created_at
+WHERE updated_at IS NULL;
+UPDATE book_info
+SET updated_at = created_at
+WHERE updated_at IS NULL;
@@ -0,0 +1,159 @@
+package com.plee.library.benchmark;
+
+import com.plee.library.domain.book.Book;
+import com.plee.library.domain.book.BookCategory;
+import com.plee.library.domain.book.BookInfo;
+import com.plee.library.domain.member.Member;
+import com.plee.library.domain.member.Role;
+import com.plee.library.dto.book.request.AddBookRequest;
+import com.plee.library.repository.book.BookCategoryRepository;
+import com.plee.library.repository.book.BookInfoRepository;
+import com.plee.library.repository.book.BookRepository;
+import com.plee.library.repository.member.MemberRepository;
+import com.plee.library.service.book.BookService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 도서 정보, 카테고리 2차 캐시 적용 전후의 도서 추가 요청과 대출 지연 시간을 비교합니다.
+ * 도서 상세 화면은 projection 으로 조회하여 2차 캐시를 사용하지 않으므로, 도서 정보 엔티티를 ID 로 조회하는 도서 추가 요청을 측정합니다.
+ * 기본 테스트에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+abstract class SecondLevelCacheBenchmark {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1000;
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookInfoRepository bookInfoRepository;
+    @Autowired
+    private BookCategoryRepository bookCategoryRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    abstract boolean isCacheEnabled();
+
+    @Test
+    @DisplayName("도서 추가 요청과 대출 지연 시간 측정")
+    void measureLatency() {
+        // given
+        BookCategory category = bookCategoryRepository.save(new BookCategory(null, "프로그래밍"));
+        BookInfo bookInfo = bookInfoRepository.save(BookInfo.builder()
+                .isbn("9788994492032")
+                .title("Java의 정석")
+                .author("남궁성")
+                .publisher("도우출판")
+                .build());
+        Book book = bookRepository.save(Book.builder()
+                .bookInfo(bookInfo)
+                .quantity(WARMUP + ITERATIONS)
+                .category(category)
+                .build());
+        // 보유하지 않은 도서 정보로, 회원마다 추가 요청할 때 ID 로 조회
+        BookInfo requestedBookInfo = bookInfoRepository.save(BookInfo.builder()
+                .isbn("9788966262281")
+                .title("이펙티브 자바")
+                .author("조슈아 블로크")
+                .publisher("인사이트")
+                .build());
+        AddBookRequest request = AddBookRequest.builder()
+                .isbn(requestedBookInfo.getIsbn())
+                .title(requestedBookInfo.getTitle())
+                .author(requestedBookInfo.getAuthor())
+                .reqReason("자바 개발에 필요한 도서입니다.")
+                .build();
+        // 회원마다 한 번씩 대출하도록 측정 횟수만큼 회원 생성
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .name("member" + i)
+                    .loginId("member" + i + "@gmail.com")
+                    .password("password")
+                    .role(Role.MEMBER)
+                    .build());
+            memberIds.add(member.getId());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        double requestMicros = measure(i -> bookService.addNewBookRequest(request, memberIds.get(i)));
+        double loanMicros = measure(i -> bookService.loanBook(book.getId(), memberIds.get(i)));
+
+        // then
+        System.out.printf("second-level cache %s: addNewBookRequest avg = %.1fus, loanBook avg = %.1fus, "
+                        + "L2 hits = %d, misses = %d, entity loads = %d%n",
+                isCacheEnabled() ? "enabled" : "disabled", requestMicros, loanMicros,
+                statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount(),
+                statistics.getEntityLoadCount());
+        if (isCacheEnabled()) {
+            assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(ITERATIONS);
+        } else {
+            assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+        }
+    }
+
+    // 예열 후 측정한 호출 한 번의 평균 지연 시간(마이크로초)을 반환합니다.
+    private double measure(IntConsumer call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.accept(i);
+        }
+        long startedAt = System.nanoTime();
+        for (int i = WARMUP; i < WARMUP + ITERATIONS; i++) {
+            call.accept(i);
+        }
+        return (double) TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt) / ITERATIONS;
+    }
+
+    @DisplayName("2차 캐시 적용")
+    @TestPropertySource(properties = {
+            "spring.datasource.url=jdbc:h2:mem:benchmark-cache-enabled",
+            "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+            "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+            "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+            "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+            "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail"
+    })
+    static class Enabled extends SecondLevelCacheBenchmark {
+
+        @Override
+        boolean isCacheEnabled() {
+            return true;
+        }
+    }
+
+    @DisplayName("2차 캐시 미적용")
+    @TestPropertySource(properties = {
+            "spring.datasource.url=jdbc:h2:mem:benchmark-cache-disabled",
+            "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+            "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+    })
+    static class Disabled extends SecondLevelCacheBenchmark {
+
+        @Override
+        boolean isCacheEnabled() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.plee.library.benchmark;
+
+import com.plee.library.config.MemberAdapter;
+import com.plee.library.domain.book.Book;
+import com.plee.library.domain.book.BookCategory;
+import com.plee.library.domain.book.BookInfo;
+import com.plee.library.domain.member.Member;
+import com.plee.library.domain.member.Role;
+import com.plee.library.repository.book.BookCategoryRepository;
+import com.plee.library.repository.book.BookInfoRepository;
+import com.plee.library.repository.book.BookRepository;
+import com.plee.library.repository.member.MemberRepository;
+import com.plee.library.service.book.BookService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 세션에 저장되는 로그인 정보의 크기와, 로그인한 회원의 요청 한 번에 실행되는 쿼리 수를 측정합니다.
+ * 기본 테스트에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:benchmark-session-principal",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class SessionPrincipalBenchmark {
+
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookInfoRepository bookInfoRepository;
+    @Autowired
+    private BookCategoryRepository bookCategoryRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("세션에 저장되는 로그인 정보의 직렬화 크기 측정")
+    void measureSessionSize() throws IOException {
+        // given
+        Member member = Member.builder()
+                .id(1L)
+                .name("이푸름")
+                .loginId("plee@gmail.com")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoO5rZbW8hHPLP2lG3bGSpgr6s8QgG4X2a")
+                .role(Role.MEMBER)
+                .build();
+        MemberAdapter principal = new MemberAdapter(member);
+        // 인증 후 비밀번호를 지우는 ProviderManager 와 같이 처리
+        principal.eraseCredentials();
+
+        // when
+        int size = serializedSize(principal);
+
+        // then
+        System.out.printf("session principal: LoginMember = %d bytes, Member entity = not serializable%n", size);
+        assertThat(size).isPositive();
+        // 회원 엔티티를 그대로 가진 로그인 정보는 세션을 저장하거나 다른 서버로 복제할 수 없음
+        assertThatThrownBy(() -> serializedSize(new EntityPrincipal(member)))
+                .isInstanceOf(NotSerializableException.class);
+    }
+
+    @Test
+    @DisplayName("도서 대출, 찜 요청 한 번에 실행되는 쿼리 수 측정")
+    void measureQueryCount() {
+        // given
+        BookCategory category = bookCategoryRepository.save(new BookCategory(null, "프로그래밍"));
+        BookInfo bookInfo = bookInfoRepository.save(BookInfo.builder()
+                .isbn("9788994492032")
+                .title("Java의 정석")
+                .author("남궁성")
+                .publisher("도우출판")
+                .build());
+        Book book = bookRepository.save(Book.builder()
+                .bookInfo(bookInfo)
+                .quantity(ITERATIONS)
+                .category(category)
+                .build());
+        // 회원마다 한 번씩 대출하도록 측정 횟수만큼 회원 생성
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .name("member" + i)
+                    .loginId("member" + i + "@gmail.com")
+                    .password("password")
+                    .role(Role.MEMBER)
+                    .build());
+            memberIds.add(member.getId());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        double loanQueries = measure(statistics, i -> bookService.loanBook(book.getId(), memberIds.get(i)));
+        long loanMemberLoads = statistics.getEntityStatistics(Member.class.getName()).getLoadCount();
+        double bookmarkQueries = measure(statistics, i -> bookService.addBookmark(memberIds.get(i), book.getId()));
+        long bookmarkMemberLoads = statistics.getEntityStatistics(Member.class.getName()).getLoadCount();
+
+        // then
+        System.out.printf("queries per request: loanBook = %.1f, addBookmark = %.1f, member loads = %d%n",
+                loanQueries, bookmarkQueries, loanMemberLoads + bookmarkMemberLoads);
+        // 로그인한 회원의 ID 만 사용하므로 회원과 회원의 이력 컬렉션을 조회하지 않음
+        assertThat(loanMemberLoads).isZero();
+        assertThat(bookmarkMemberLoads).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    // 호출 한 번에 실행된 평균 쿼리 수를 반환합니다.
+    private double measure(Statistics statistics, IntConsumer call) {
+        statistics.clear();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.accept(i);
+        }
+        return (double) statistics.getPrepareStatementCount() / ITERATIONS;
+    }
+
+    private int serializedSize(Object principal) throws IOException {
+        SecurityContextImpl context = new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, ((User) principal).getAuthorities()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeObject(context);
+        }
+        return out.size();
+    }
+
+    // 변경 전처럼 회원 엔티티를 그대로 가진 로그인 정보
+    private static class EntityPrincipal extends User {
+        private final Member member;
+
+        EntityPrincipal(Member member) {
+            super(member.getLoginId(), "", List.of());
+            this.member = member;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.plee.library.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plee.library.dto.book.request.SearchApiBookRequest;
+import com.plee.library.dto.book.response.SearchBookResponse;
+import com.plee.library.util.message.BookMessage;
+import com.plee.library.util.resilience.TokenBucketRateLimiter;
+import com.plee.library.util.resilience.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("NaverBookSearchConfig 테스트")
+class NaverBookSearchConfigTest {
+
+    private NaverApiStubServer stubServer;
+    private NaverBookSearchConfig naverBookSearchConfig;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = new NaverApiStubServer();
+        // 최대 동시 호출 1건, 2번 연속 실패 시 차단
+        naverBookSearchConfig = new NaverBookSearchConfig(new ObjectMapper(), "test-id", "test-secret",
+                stubServer.getUrl(), Duration.ofSeconds(1), Duration.ofMillis(500), 1, 2, Duration.ofMinutes(1),
+                new TokenBucketRateLimiter(100, 100, 10000, 10, Duration.ofSeconds(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.close();
+    }
+
+    @Test
+    @DisplayName("검색 성공")
+    void searchBook() {
+        // when
+        SearchBookResponse result = naverBookSearchConfig.searchBook(new SearchApiBookRequest("자바"), TokenBucketRateLimiter.Priority.NORMAL).join();
+
+        // then
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems().get(0).getTitle()).isEqualTo("자바");
+    }
+
+    @Test
+    @DisplayName("실패: 응답 제한 시간을 넘은 경우")
+    void searchBook_timeout() {
+        // given
+        stubServer.hold();
+
+        // when, then
+        assertThatThrownBy(() -> naverBookSearchConfig.searchBook(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL).join())
+                .isInstanceOf(CompletionException.class)
+                .hasMessageContaining(BookMessage.API_ERROR.getMessage());
+        stubServer.release();
+    }
+
+    @Test
+    @DisplayName("실패: 최대 동시 호출 수를 넘은 경우 바로 실패")
+    void searchBook_bulkhead() {
+        // given
+        stubServer.hold();
+        CompletableFuture<SearchBookResponse> first = naverBookSearchConfig.searchBook(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL);
+
+        // when, then
+        assertThatThrownBy(() -> naverBookSearchConfig.searchBook(new SearchApiBookRequest("spring"), TokenBucketRateLimiter.Priority.NORMAL).join())
+                .isInstanceOf(CompletionException.class)
+                .hasMessageContaining(BookMessage.API_BUSY.getMessage());
+        stubServer.release();
+        assertThat(first.join()).isNotNull();
+        assertThat(stubServer.getRequestCount()).isEqualTo(1);
+        // 호출하지 않은 요청은 하루 호출 수를 사용하지 않음
+        assertThat(naverBookSearchConfig.getRateLimitStats().dailyUsed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패: 연속으로 서버 오류가 발생하면 호출하지 않고 바로 실패")
+    void searchBook_circuitOpen() {
+        // given
+        stubServer.respondWith(500);
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> naverBookSearchConfig.searchBook(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL).join())
+                    .isInstanceOf(CompletionException.class);
+        }
+
+        // when, then
+        stubServer.respondWith(200);
+        assertThat(naverBookSearchConfig.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> naverBookSearchConfig.searchBook(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL).join())
+                .isInstanceOf(CompletionException.class)
+                .hasMessageContaining(BookMessage.API_ERROR.getMessage());
+        assertThat(stubServer.getRequestCount()).isEqualTo(2);
+        assertThat(naverBookSearchConfig.getRateLimitStats().dailyUsed()).isEqualTo(2);
+    }
+}
@@ -1,5 +1,6 @@
 package com.plee.library.config;
 
+import com.plee.library.repository.book.BookCountCache;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -7,6 +8,8 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.time.Duration;
+
 @EnableJpaAuditing
 @TestConfiguration
 public class TestJPAConfig {
@@ -18,4 +21,9 @@ public class TestJPAConfig {
     public JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(this.entityManager);
     }
+
+    @Bean
+    public BookCountCache bookCountCache() {
+        return new BookCountCache(Duration.ofMinutes(1), 0);
+    }
 }
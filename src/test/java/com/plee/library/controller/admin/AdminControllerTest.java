@@ -3,19 +3,25 @@ package com.plee.library.controller.admin;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.plee.library.config.TestUserDetailsConfig;
 import com.plee.library.domain.book.BookInfo;
-import com.plee.library.domain.member.Member;
 import com.plee.library.dto.admin.request.DeleteBookRequest;
+import com.plee.library.dto.admin.request.ExportFormat;
+import com.plee.library.dto.admin.request.LoanStatsPeriod;
 import com.plee.library.dto.admin.request.SearchBookRequest;
 import com.plee.library.dto.admin.request.UpdateBookRequest;
 import com.plee.library.dto.admin.request.UpdateMemberRequest;
 import com.plee.library.dto.admin.response.BooksResponse;
+import com.plee.library.dto.admin.response.CatalogImportResult;
 import com.plee.library.dto.admin.response.LoanStatusResponse;
+import com.plee.library.dto.admin.response.LoanDailyStatsResponse;
 import com.plee.library.dto.admin.response.LoanDailyStatusResponse;
 import com.plee.library.dto.book.request.SaveBookRequest;
 import com.plee.library.dto.book.response.CategoryResponse;
 import com.plee.library.util.message.BookMessage;
 import com.plee.library.util.message.MemberMessage;
+import com.plee.library.util.pagination.CursorPage;
 import com.plee.library.service.book.BookService;
+import com.plee.library.service.catalog.CatalogImportService;
+import com.plee.library.service.export.HistoryExportService;
 import com.plee.library.service.member.MemberService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -29,17 +35,24 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
@@ -47,7 +60,9 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @Import(TestUserDetailsConfig.class)
@@ -62,6 +77,12 @@ class AdminControllerTest {
     @MockBean
     private MemberService memberService;
 
+    @MockBean
+    private HistoryExportService historyExportService;
+
+    @MockBean
+    private CatalogImportService catalogImportService;
+
     @Autowired
     ObjectMapper objectMapper;
 
@@ -425,18 +446,20 @@ class AdminControllerTest {
         List<LoanStatusResponse> hisRes = Arrays.asList(
                 LoanStatusResponse.builder()
                         .id(1L)
-                        .member(Member.builder().id(1L).loginId("test@gmail.com").build())
-                        .bookInfo(bookInfo)
+                        .memberName("test")
+                        .bookTitle(bookInfo.getTitle())
+                        .bookAuthor(bookInfo.getAuthor())
                         .isRenew(true)
-                        .loanedAt(LocalDate.now())
+                        .createdAt(LocalDateTime.now())
+                        .dueAt(LocalDateTime.now().plusDays(14))
                         .build()
         );
-        Page<LoanStatusResponse> pageRes = new PageImpl<>(hisRes, pageable, hisRes.size());
+        CursorPage<LoanStatusResponse> pageRes = new CursorPage<>(hisRes, pageable, hisRes.size(), null);
 
         // 대출 수 데이터 생성
-        LoanDailyStatusResponse dataRes = new LoanDailyStatusResponse(new HashMap<>());
+        LoanDailyStatusResponse dataRes = new LoanDailyStatusResponse(new HashMap<>(), new HashMap<>(), new HashMap<>());
 
-        given(bookService.findAllLoanHistory(any(Pageable.class))).willReturn(pageRes);
+        given(bookService.findAllLoanHistory(any(), any(), any(Pageable.class))).willReturn(pageRes);
         given(bookService.calculateDailyLoanCounts()).willReturn(dataRes);
 
         // when, then
@@ -448,6 +471,93 @@ class AdminControllerTest {
                 .andExpect(model().attributeExists("selectedMenu"));
     }
 
+    @Test
+    @WithUserDetails
+    @DisplayName("GET /admin/loan/stats 기간별 대출 통계 조회")
+    void loanStats() throws Exception {
+        // given
+        LocalDate endDate = LocalDate.of(2023, 9, 30);
+        List<LoanDailyStatsResponse> statsRes = List.of(
+                LoanDailyStatsResponse.builder().date(endDate).loanCount(3).returnCount(1).build());
+        given(bookService.findLoanStats(LoanStatsPeriod.MONTH, endDate)).willReturn(statsRes);
+
+        // when, then
+        mockMvc.perform(get("/admin/loan/stats")
+                        .param("period", "MONTH")
+                        .param("endDate", "2023-09-30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].date").value("2023-09-30"))
+                .andExpect(jsonPath("$[0].loanCount").value(3));
+    }
+
+    @Test
+    @WithUserDetails
+    @DisplayName("GET /admin/loan/export 대출 이력 내보내기")
+    void exportLoanHistory() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("exported".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(historyExportService).exportLoanHistory(eq(ExportFormat.JSONL), any(OutputStream.class));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/admin/loan/export")
+                        .param("format", "JSONL"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/gzip"))
+                .andExpect(header().string("Content-Disposition", containsString(".jsonl.gz")))
+                .andExpect(content().string("exported"));
+    }
+
+    @Nested
+    @WithUserDetails
+    @DisplayName("POST /admin/books/import 도서 일괄 입고 요청")
+    class ImportBooksTest {
+        private final MockMultipartFile file = new MockMultipartFile("file", "books.csv", "text/csv",
+                "isbn,title,quantity,categoryId\n9788994492032,Java의 정석,3,1\n".getBytes(StandardCharsets.UTF_8));
+
+        @Test
+        @DisplayName("일괄 입고 결과 반환")
+        void importBooks() throws Exception {
+            // given
+            CatalogImportResult result = CatalogImportResult.builder()
+                    .total(1)
+                    .imported(1)
+                    .rejects(List.of())
+                    .build();
+            given(catalogImportService.importCatalog(eq(ExportFormat.CSV), any(InputStream.class))).willReturn(result);
+
+            // when, then
+            mockMvc.perform(multipart("/admin/books/import")
+                            .file(file)
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(1))
+                    .andExpect(jsonPath("$.imported").value(1));
+        }
+
+        @Test
+        @DisplayName("실패: 파일을 읽을 수 없는 경우")
+        void importBooks_invalidFile() throws Exception {
+            // given
+            given(catalogImportService.importCatalog(eq(ExportFormat.CSV), any(InputStream.class)))
+                    .willThrow(new IOException("Not in GZIP format"));
+
+            // when, then
+            mockMvc.perform(multipart("/admin/books/import")
+                            .file(file)
+                            .with(csrf()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string(BookMessage.INVALID_IMPORT_FILE.getMessage()));
+        }
+    }
+
     @Test
     @WithUserDetails
     @DisplayName("PUT /admin/members/{memberId} 회원 정보 수정")
@@ -15,6 +15,7 @@ import com.plee.library.dto.book.response.BookDetailResponse;
 import com.plee.library.dto.book.response.CategoryResponse;
 import com.plee.library.util.message.BookMessage;
 import com.plee.library.service.book.BookService;
+import com.plee.library.service.book.CatalogVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,7 +26,9 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -52,6 +55,9 @@ class BookControllerTest {
 
     @MockBean
     private BookService bookService;
+
+    @MockBean
+    private CatalogVersion catalogVersion;
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -134,7 +140,7 @@ class BookControllerTest {
         @DisplayName("도서정보가 있는 경우")
         void bookDetail_Success() throws Exception {
             // given
-            BookDetailResponse res = BookDetailResponse.of(book, true, true);
+            BookDetailResponse res = createBookDetailResponse(true, true);
             given(bookService.getBookDetails(anyLong(), anyLong())).willReturn(res);
 
             // when, then
@@ -146,12 +152,62 @@ class BookControllerTest {
             then(bookService).should(times(1)).getBookDetails(anyLong(), anyLong());
         }
 
+        @Test
+        @DisplayName("변경된 정보가 없는 경우 조회 없이 304 응답")
+        void bookDetail_NotModified() throws Exception {
+            // given
+            MockHttpSession session = new MockHttpSession();
+            given(catalogVersion.bookTag(anyLong())).willReturn("1-1.1");
+            given(bookService.getBookDetails(anyLong(), anyLong())).willReturn(createBookDetailResponse(false, false));
+            String etag = mockMvc.perform(get("/books/{bookId}", book.getId()).session(session))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // when, then
+            mockMvc.perform(get("/books/{bookId}", book.getId()).session(session)
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+            then(bookService).should(times(1)).getBookDetails(anyLong(), anyLong());
+
+            // given
+            given(catalogVersion.bookTag(anyLong())).willReturn("1-1.2");
+
+            // when, then
+            mockMvc.perform(get("/books/{bookId}", book.getId()).session(session)
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk());
+            then(bookService).should(times(2)).getBookDetails(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("같은 세션에서 정보를 바꾸는 요청을 보낸 경우 다시 조회")
+        void bookDetail_ModifiedBySession() throws Exception {
+            // given
+            MockHttpSession session = new MockHttpSession();
+            given(catalogVersion.bookTag(anyLong())).willReturn("1-1.1");
+            given(bookService.getBookDetails(anyLong(), anyLong())).willReturn(createBookDetailResponse(false, false));
+            String etag = mockMvc.perform(get("/books/{bookId}", book.getId()).session(session))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            mockMvc.perform(post("/books/like/{bookId}", book.getId()).session(session)
+                            .param("page", "0")
+                            .param("pageInfo", "bookDetail")
+                            .with(csrf()))
+                    .andExpect(status().is3xxRedirection());
+
+            // when, then
+            mockMvc.perform(get("/books/{bookId}", book.getId()).session(session)
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk());
+            then(bookService).should(times(2)).getBookDetails(anyLong(), anyLong());
+        }
+
         @Test
         @DisplayName("실패: 없는 도서인 경우")
         void bookDetail_FailNotFound() throws Exception {
             // given
             String errorMessage = BookMessage.NOT_FOUND_BOOK.getMessage();
-            BookDetailResponse res = BookDetailResponse.of(book, true, true);
             given(bookService.getBookDetails(anyLong(), anyLong())).willThrow(new NoSuchElementException(errorMessage));
 
             // when, then
@@ -161,6 +217,21 @@ class BookControllerTest {
                     .andExpect(flash().attribute("errorMessage", errorMessage));
             then(bookService).should(times(1)).getBookDetails(anyLong(), anyLong());
         }
+
+        // 도서 상세 화면 정보 생성
+        private BookDetailResponse createBookDetailResponse(boolean isLoaned, boolean isMarked) {
+            return BookDetailResponse.builder()
+                    .id(book.getId())
+                    .isbn(book.getBookInfo().getIsbn())
+                    .title(book.getBookInfo().getTitle())
+                    .author(book.getBookInfo().getAuthor())
+                    .categoryName(book.getBookCategory().getCategoryName())
+                    .quantity(book.getQuantity())
+                    .loanableCnt(book.getLoanableCnt())
+                    .isLoaned(isLoaned)
+                    .isMarked(isMarked)
+                    .build();
+        }
     }
 
     @Nested
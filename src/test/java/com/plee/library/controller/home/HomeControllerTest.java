@@ -2,6 +2,7 @@ package com.plee.library.controller.home;
 
 import com.plee.library.dto.book.response.BookInfoResponse;
 import com.plee.library.service.book.BookService;
+import com.plee.library.service.book.CatalogVersion;
 import org.aspectj.lang.annotation.Before;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +36,9 @@ class HomeControllerTest {
     @MockBean
     private BookService bookService;
 
+    @MockBean
+    private CatalogVersion catalogVersion;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -2,9 +2,9 @@ package com.plee.library.controller.member;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plee.library.config.LoginMember;
 import com.plee.library.config.MemberAdapter;
 import com.plee.library.config.TestUserDetailsConfig;
-import com.plee.library.domain.member.Member;
 import com.plee.library.domain.member.Role;
 import com.plee.library.dto.admin.request.UpdateMemberRequest;
 import com.plee.library.dto.member.request.SignUpMemberRequest;
@@ -164,9 +164,14 @@ class MemberControllerTest {
     @DisplayName("GET /member/edit 회원 정보 수정 페이지 반환")
     void editInfoForm() throws Exception {
         // given
-        Member member = ((MemberAdapter) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getMember();
-        MemberInfoResponse response = MemberInfoResponse.from(member);
-        given(memberService.findMember(member.getId())).willReturn(response);
+        LoginMember member = ((MemberAdapter) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getMember();
+        MemberInfoResponse response = MemberInfoResponse.builder()
+                .id(member.id())
+                .name(member.name())
+                .loginId(member.loginId())
+                .role(member.role())
+                .build();
+        given(memberService.findMember(member.id())).willReturn(response);
 
         // when, then
         mockMvc.perform(get("/member/edit")
@@ -0,0 +1,102 @@
+package com.plee.library.repository.book;
+
+import com.plee.library.config.TestJPAConfig;
+import com.plee.library.domain.book.Book;
+import com.plee.library.domain.book.BookCategory;
+import com.plee.library.domain.book.BookInfo;
+import com.plee.library.dto.book.request.SaveBookRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import({TestJPAConfig.class, BookBulkRepository.class})
+@DisplayName("BookBulkRepository 테스트")
+class BookBulkRepositoryTest {
+    @Autowired
+    private BookBulkRepository bookBulkRepository;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookInfoRepository bookInfoRepository;
+    @Autowired
+    private BookCategoryRepository bookCategoryRepository;
+
+    private BookCategory category;
+
+    @BeforeEach
+    void setUp() {
+        category = bookCategoryRepository.save(new BookCategory(null, "프로그래밍"));
+    }
+
+    @Test
+    @DisplayName("하나의 INSERT 문에 담을 수 있는 행 수를 넘는 도서 정보 저장")
+    void insertBookInfos() {
+        // given
+        List<BookInfo> bookInfos = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            bookInfos.add(BookInfo.builder()
+                    .isbn(String.format("979110000%04d", i))
+                    .title("도서" + i)
+                    .author("저자" + i)
+                    .build());
+        }
+
+        // when
+        int inserted = bookBulkRepository.insertBookInfos(bookInfos, LocalDateTime.now());
+
+        // then
+        assertThat(inserted).isEqualTo(501);
+        assertThat(bookInfoRepository.count()).isEqualTo(501);
+        assertThat(bookInfoRepository.findById("9791100000500")).get()
+                .extracting(BookInfo::getTitle).isEqualTo("도서500");
+    }
+
+    @Test
+    @DisplayName("도서를 입고 수량만큼 대출 가능하도록 저장")
+    void insertBooks() {
+        // given
+        bookInfoRepository.save(BookInfo.builder().isbn("9788994492032").title("Java의 정석").build());
+        bookInfoRepository.save(BookInfo.builder().isbn("9788966262281").title("이펙티브 자바").build());
+        bookInfoRepository.flush();
+        List<SaveBookRequest> requests = List.of(
+                SaveBookRequest.builder().isbn("9788994492032").quantity(3).categoryId(category.getId()).build(),
+                SaveBookRequest.builder().isbn("9788966262281").quantity(1).categoryId(category.getId()).build());
+
+        // when
+        int inserted = bookBulkRepository.insertBooks(requests, LocalDateTime.now());
+
+        // then
+        assertThat(inserted).isEqualTo(2);
+        assertThat(bookRepository.findIsbnsByBookInfoIsbnIn(List.of("9788994492032", "9788966262281", "9791100000000")))
+                .containsExactlyInAnyOrder("9788994492032", "9788966262281");
+        Book book = bookRepository.findByBookInfoIsbn("9788994492032").orElseThrow();
+        assertThat(book.getQuantity()).isEqualTo(3);
+        assertThat(book.getLoanableCnt()).isEqualTo(3);
+        assertThat(book.getBookCategory().getId()).isEqualTo(category.getId());
+        assertThat(book.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("주어진 ISBN 중 도서 정보가 있는 ISBN 조회")
+    void findIsbnsByIsbnIn() {
+        // given
+        bookInfoRepository.save(BookInfo.builder().isbn("9788994492032").title("Java의 정석").build());
+
+        // when
+        Set<String> result = bookInfoRepository.findIsbnsByIsbnIn(List.of("9788994492032", "9788966262281"));
+
+        // then
+        assertThat(result).containsExactly("9788994492032");
+    }
+}
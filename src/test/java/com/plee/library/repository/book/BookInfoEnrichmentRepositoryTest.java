@@ -0,0 +1,48 @@
+package com.plee.library.repository.book;
+
+import com.plee.library.config.TestJPAConfig;
+import com.plee.library.domain.book.BookInfoEnrichment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import(TestJPAConfig.class)
+@DisplayName("BookInfoEnrichmentRepository 테스트")
+class BookInfoEnrichmentRepositoryTest {
+    @Autowired
+    private BookInfoEnrichmentRepository bookInfoEnrichmentRepository;
+
+    @Test
+    @DisplayName("시도할 시간이 된 ISBN 을 오래 기다린 순서로 조회, 실패하면 대기 시간 증가")
+    void findDueIsbns() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2023, 9, 30, 12, 0);
+        bookInfoEnrichmentRepository.save(new BookInfoEnrichment("9788994492032", now.minusMinutes(1)));
+        bookInfoEnrichmentRepository.save(new BookInfoEnrichment("9788966262281", now.minusMinutes(5)));
+        BookInfoEnrichment failed = new BookInfoEnrichment("9791162241844", now.minusMinutes(10));
+        failed.retryLater("timeout", now);
+        failed.retryLater("timeout", now);
+        bookInfoEnrichmentRepository.save(failed);
+
+        // when
+        List<String> dueIsbns = bookInfoEnrichmentRepository.findDueIsbns(now, 6, PageRequest.of(0, 10));
+
+        // then
+        assertThat(dueIsbns).containsExactly("9788966262281", "9788994492032");
+        assertThat(failed.getAttempts()).isEqualTo(2);
+        assertThat(failed.getNextAttemptAt()).isEqualTo(now.plusMinutes(2));
+        assertThat(bookInfoEnrichmentRepository.findDueIsbns(now.plusMinutes(2), 6, PageRequest.of(0, 10)))
+                .contains("9791162241844");
+        assertThat(bookInfoEnrichmentRepository.findDueIsbns(now.plusMinutes(2), 2, PageRequest.of(0, 10)))
+                .doesNotContain("9791162241844");
+    }
+}
@@ -4,7 +4,15 @@ import com.plee.library.config.TestJPAConfig;
 import com.plee.library.domain.book.Book;
 import com.plee.library.domain.book.BookCategory;
 import com.plee.library.domain.book.BookInfo;
+import com.plee.library.domain.member.Member;
+import com.plee.library.domain.member.Role;
+import com.plee.library.dto.admin.response.BooksResponse;
 import com.plee.library.dto.book.condition.BookSearchCondition;
+import com.plee.library.dto.book.response.BookDetailResponse;
+import com.plee.library.dto.book.response.BookInfoResponse;
+import com.plee.library.repository.member.MemberRepository;
+import com.plee.library.util.pagination.CursorPage;
+import com.plee.library.util.pagination.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -37,12 +45,21 @@ class BookRepositoryCustomTest {
     @Autowired
     BookInfoRepository bookInfoRepository;
 
+    @Autowired
+    BookCountCache bookCountCache;
+
+    @Autowired
+    MemberRepository memberRepository;
+
     private List<Book> books = new ArrayList<>();
 
     private List<BookCategory> categories;
 
     @BeforeEach
     void setUpBook() {
+        // 테스트 간 롤백된 데이터의 도서 수가 남지 않도록 캐시 초기화
+        bookCountCache.clear();
+
         //를 위해 제목 bookInfo1 ~ bookInfo8을 가진 8개의 Book, Category 생성
         for (int i = 1; i <= 8; i++) {
             BookInfo bookInfo = BookInfo.builder()
@@ -286,4 +303,204 @@ class BookRepositoryCustomTest {
             assertThat(result.getContent()).containsExactlyElementsOf(reversedBooks);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("검색 결과 수 캐싱")
+    public class SearchCountCacheTest {
+
+        @Test
+        @DisplayName("같은 검색 조건의 도서 수는 무효화 전까지 캐시에서 조회")
+        void searchCount_Cached() {
+            // given
+            // 첫 페이지가 가득 차야 count 쿼리가 호출되므로 페이지 크기를 결과 수보다 작게 설정
+            Pageable pageable = PageRequest.of(0, 2);
+            BookSearchCondition condition = BookSearchCondition.builder()
+                    .keyword("book")
+                    .title(true)
+                    .author(true)
+                    .build();
+            bookRepository.search(condition, pageable);
+
+            BookInfo bookInfo = bookInfoRepository.save(BookInfo.builder()
+                    .isbn("9788994492090")
+                    .title("bookInfo9")
+                    .author("book author")
+                    .build());
+            bookRepository.save(Book.builder()
+                    .bookInfo(bookInfo)
+                    .quantity(1)
+                    .category(categories.get(0))
+                    .build());
+
+            // when
+            Page<Book> cached = bookRepository.search(condition, pageable);
+            bookCountCache.clear();
+            Page<Book> refreshed = bookRepository.search(condition, pageable);
+
+            // then
+            assertThat(cached.getTotalElements()).isEqualTo(8);
+            assertThat(refreshed.getTotalElements()).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("대소문자만 다른 검색 조건은 같은 캐시를 사용")
+        void searchCount_IgnoreCase() {
+            // given
+            Pageable pageable = PageRequest.of(0, 2);
+            bookRepository.search(BookSearchCondition.builder()
+                    .keyword("BOOK")
+                    .title(true)
+                    .build(), pageable);
+            bookRepository.delete(books.get(0));
+
+            // when
+            Page<Book> result = bookRepository.search(BookSearchCondition.builder()
+                    .keyword("book")
+                    .title(true)
+                    .build(), pageable);
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(8);
+        }
+    }
+
+    @Nested
+    @DisplayName("도서 ID 페이지 조회")
+    public class SearchIdsTest {
+
+        @Test
+        @DisplayName("카테고리 조건으로 도서 ID 를 조회한 뒤, 도서 정보와 카테고리를 함께 조회")
+        void searchIds_Category() {
+            // given
+            BookSearchCondition condition = BookSearchCondition.builder()
+                    .categoryId(categories.get(2).getId())
+                    .build();
+
+            // when
+            Page<Long> ids = bookRepository.searchIds(condition, PageRequest.of(0, 10));
+            List<Book> result = bookRepository.findAllByIdInOrder(ids.getContent());
+
+            // then
+            assertThat(ids.getTotalElements()).isEqualTo(1);
+            assertThat(ids.getContent()).containsExactly(books.get(2).getId());
+            assertThat(result.get(0).getBookInfo().getTitle()).isEqualTo("bookInfo3");
+            assertThat(result.get(0).getBookCategory().getCategoryName()).isEqualTo("category3");
+        }
+
+        @Test
+        @DisplayName("조건이 없는 경우 전체 도서 ID 를 신규 도서순으로 조회")
+        void searchIds_All() {
+            // given
+            Pageable pageable = PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+            // when
+            Page<Long> result = bookRepository.searchIds(BookSearchCondition.builder().build(), pageable);
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(8);
+            assertThat(result.getContent()).hasSize(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("도서 목록 화면 정보 조회")
+    public class BooksResponseTest {
+
+        @Test
+        @DisplayName("카테고리 조건으로 목록 정보 조회")
+        void searchBooksResponse_Category() {
+            // given
+            BookSearchCondition condition = BookSearchCondition.builder()
+                    .categoryId(categories.get(2).getId())
+                    .build();
+
+            // when
+            Page<BooksResponse> result = bookRepository.searchBooksResponse(condition, PageRequest.of(0, 10));
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(1);
+            BooksResponse response = result.getContent().get(0);
+            assertThat(response.getId()).isEqualTo(books.get(2).getId());
+            assertThat(response.getTitle()).isEqualTo("bookInfo3");
+            assertThat(response.getAuthor()).isEqualTo("book author");
+            assertThat(response.getLoanableCnt()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("요청한 ID 순서대로 목록 정보 조회")
+        void findBooksResponseByIdInOrder() {
+            // given
+            List<Long> bookIds = List.of(books.get(3).getId(), books.get(0).getId(), books.get(5).getId());
+
+            // when
+            List<BooksResponse> result = bookRepository.findBooksResponseByIdInOrder(bookIds);
+
+            // then
+            assertThat(result).extracting(BooksResponse::getId).containsExactlyElementsOf(bookIds);
+        }
+
+        @Test
+        @DisplayName("커서로 다음 페이지 목록 정보 조회")
+        void findAllByCursor() {
+            // given
+            Pageable pageable = PageRequest.of(0, 3);
+
+            // when
+            CursorPage<BooksResponse> first = bookRepository.findAllByCursor(null, null, pageable);
+            CursorPage<BooksResponse> second = bookRepository.findAllByCursor(null, KeysetCursor.decode(first.getNextCursor()), pageable);
+            CursorPage<BooksResponse> last = bookRepository.findAllByCursor(null, KeysetCursor.decode(second.getNextCursor()), pageable);
+
+            // then
+            assertThat(first.getTotalElements()).isEqualTo(8);
+            assertThat(first.getContent()).hasSize(3);
+            assertThat(second.getContent()).hasSize(3);
+            assertThat(last.getContent()).hasSize(2);
+            assertThat(last.getNextCursor()).isNull();
+
+            // 페이지 간 중복 없이 모든 도서 조회
+            List<Long> ids = new ArrayList<>();
+            List.of(first, second, last).forEach(page -> page.getContent().forEach(book -> ids.add(book.getId())));
+            assertThat(ids).doesNotHaveDuplicates().hasSize(8);
+        }
+
+        @Test
+        @DisplayName("최근 입고된 도서 정보 조회")
+        void findNewBooksInfo() {
+            // when
+            List<BookInfoResponse> result = bookRepository.findNewBooksInfo(4);
+
+            // then
+            assertThat(result).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("도서 상세 정보와 회원의 대출 중 여부, 찜 등록 여부를 한 번에 조회")
+        void findBookDetail() {
+            // given
+            Member member = memberRepository.save(Member.builder()
+                    .name("name")
+                    .loginId("plee@gmail.com")
+                    .password("password")
+                    .role(Role.MEMBER)
+                    .build());
+            member.loanBook(books.get(0));
+            member.addBookmark(books.get(1));
+            memberRepository.flush();
+
+            // when
+            BookDetailResponse loaned = bookRepository.findBookDetail(books.get(0).getId(), member.getId()).orElseThrow();
+            BookDetailResponse marked = bookRepository.findBookDetail(books.get(1).getId(), member.getId()).orElseThrow();
+
+            // then
+            assertThat(loaned.getTitle()).isEqualTo("bookInfo1");
+            assertThat(loaned.getIsbn()).isEqualTo(books.get(0).getBookInfo().getIsbn());
+            assertThat(loaned.getCategoryName()).isEqualTo(books.get(0).getBookCategory().getCategoryName());
+            assertThat(loaned.getQuantity()).isEqualTo(1);
+            assertThat(loaned.isLoaned()).isTrue();
+            assertThat(loaned.isMarked()).isFalse();
+            assertThat(marked.isLoaned()).isFalse();
+            assertThat(marked.isMarked()).isTrue();
+            assertThat(bookRepository.findBookDetail(0L, member.getId())).isEmpty();
+        }
+    }
+}
@@ -8,10 +8,12 @@ import com.plee.library.util.message.BookMessage;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,6 +32,9 @@ class BookRepositoryTest {
     @Autowired
     private BookInfoRepository bookInfoRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private BookInfo bookInfo1;
     private BookInfo bookInfo2;
     private BookCategory category;
@@ -366,6 +371,56 @@ class BookRepositoryTest {
             // then
             assertThat(updatedBook.getLoanableCnt()).isEqualTo(3);
         }
+
+        @Test
+        @DisplayName("조건부 UPDATE 로 대출 가능한 수량이 남아있는 경우에만 감소")
+        void decreaseLoanableCnt_Guarded() {
+            // when
+            List<Integer> updatedRows = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                updatedRows.add(bookRepository.decreaseLoanableCnt(book.getId()));
+            }
+            entityManager.clear();
+
+            // then
+            // 보유 수량 3권까지만 감소하고, 이후 요청은 반영되지 않음
+            assertThat(updatedRows).containsExactly(1, 1, 1, 0);
+            assertThat(bookRepository.findById(book.getId()).get().getLoanableCnt()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("조건부 UPDATE 로 보유 수량을 넘지 않는 경우에만 증가")
+        void increaseLoanableCnt_Guarded() {
+            // given
+            bookRepository.decreaseLoanableCnt(book.getId());
+
+            // when
+            int exceeded = bookRepository.increaseLoanableCnt(book.getId(), 2);
+            int updated = bookRepository.increaseLoanableCnt(book.getId(), 1);
+            entityManager.clear();
+
+            // then
+            assertThat(exceeded).isEqualTo(0);
+            assertThat(updated).isEqualTo(1);
+            assertThat(bookRepository.findById(book.getId()).get().getLoanableCnt()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("조건부 UPDATE 로 수량을 바꾸면 도서의 수정 시간도 갱신")
+        void decreaseLoanableCnt_UpdatesUpdatedAt() {
+            // given
+            bookRepository.flush();
+            LocalDateTime before = bookRepository.findLastUpdatedAtById(book.getId()).orElseThrow();
+
+            // when
+            bookRepository.decreaseLoanableCnt(book.getId());
+            entityManager.clear();
+
+            // then
+            assertThat(bookRepository.findLastUpdatedAtById(book.getId())).hasValueSatisfying(updatedAt ->
+                    assertThat(updatedAt).isAfterOrEqualTo(before));
+            assertThat(bookRepository.existsByIdAndLoanableCnt(book.getId(), 2)).isTrue();
+        }
     }
 
     @Test
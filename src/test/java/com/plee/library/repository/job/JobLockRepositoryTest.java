@@ -0,0 +1,82 @@
+package com.plee.library.repository.job;
+
+import com.plee.library.config.TestJPAConfig;
+import com.plee.library.domain.job.JobLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import(TestJPAConfig.class)
+@DisplayName("JobLockRepository 테스트")
+class JobLockRepositoryTest {
+
+    private static final String LOCK_NAME = "overdue-return";
+
+    @Autowired
+    JobLockRepository jobLockRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        jobLockRepository.saveAndFlush(new JobLock(LOCK_NAME));
+        now = LocalDateTime.now().plusSeconds(1);
+    }
+
+    @Test
+    @DisplayName("잠금이 만료된 경우 잠금을 획득하고 fencing token 증가")
+    void acquire() {
+        // when
+        int result = jobLockRepository.acquire(LOCK_NAME, "node1", now, now.plusHours(1));
+        entityManager.clear();
+
+        // then
+        assertThat(result).isEqualTo(1);
+        JobLock lock = jobLockRepository.findById(LOCK_NAME).orElseThrow();
+        assertThat(lock.getLockedBy()).isEqualTo("node1");
+        assertThat(lock.getFencingToken()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 잠금을 가지고 있는 경우 잠금을 획득하지 못함")
+    void acquire_alreadyLocked() {
+        // given
+        jobLockRepository.acquire(LOCK_NAME, "node1", now, now.plusHours(1));
+
+        // when
+        int result = jobLockRepository.acquire(LOCK_NAME, "node2", now.plusMinutes(10), now.plusHours(2));
+        entityManager.clear();
+
+        // then
+        assertThat(result).isZero();
+        assertThat(jobLockRepository.findById(LOCK_NAME).orElseThrow().getLockedBy()).isEqualTo("node1");
+    }
+
+    @Test
+    @DisplayName("잠금이 만료되어 다른 노드가 다시 획득한 경우 이전 fencing token 으로는 반납하거나 확인할 수 없음")
+    void fencingToken() {
+        // given
+        // node1 의 잠금이 만료된 이후 node2 가 잠금 획득
+        jobLockRepository.acquire(LOCK_NAME, "node1", now, now.plusHours(1));
+        jobLockRepository.acquire(LOCK_NAME, "node2", now.plusHours(2), now.plusHours(3));
+        entityManager.clear();
+
+        // when, then
+        assertThat(jobLockRepository.findByLockNameAndFencingToken(LOCK_NAME, 1L)).isEmpty();
+        assertThat(jobLockRepository.findByLockNameAndFencingToken(LOCK_NAME, 2L)).isPresent();
+        assertThat(jobLockRepository.release(LOCK_NAME, 1L, now)).isZero();
+        assertThat(jobLockRepository.release(LOCK_NAME, 2L, now)).isEqualTo(1);
+    }
+}
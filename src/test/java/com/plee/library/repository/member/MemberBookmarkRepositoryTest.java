@@ -179,6 +179,29 @@ class MemberBookmarkRepositoryTest {
         assertThat(memberBookmarkRepository.existsByMemberIdAndBookId(member.getId(), book.getId())).isTrue();
     }
 
+    @Test
+    @DisplayName("주어진 도서 중 회원이 찜한 도서 ID 조회")
+    void findBookIdsByMemberIdAndBookIdInTest() {
+        // given
+        Member member = members.get(0);
+        memberBookmarkRepository.save(MemberBookmark.builder()
+                .member(member)
+                .book(books.get(0))
+                .build());
+        // 다른 회원의 찜은 조회되지 않아야 함
+        memberBookmarkRepository.save(MemberBookmark.builder()
+                .member(members.get(1))
+                .book(books.get(1))
+                .build());
+        List<Long> bookIds = books.stream().map(Book::getId).toList();
+
+        // when
+        List<Long> result = memberBookmarkRepository.findBookIdsByMemberIdAndBookIdIn(member.getId(), bookIds);
+
+        // then
+        assertThat(result).containsExactly(books.get(0).getId());
+    }
+
     @Test
     @DisplayName("도서 찜 삭제")
     void deleteByMemberIdAndBookIdTest() {
@@ -4,8 +4,13 @@ import com.plee.library.config.TestJPAConfig;
 import com.plee.library.domain.book.BookInfo;
 import com.plee.library.domain.member.Member;
 import com.plee.library.domain.member.MemberLoanHistory;
+import com.plee.library.dto.admin.request.LoanStatusFilter;
+import com.plee.library.dto.admin.response.LoanStatusResponse;
+import com.plee.library.dto.member.condition.LoanHistoryPartition;
 import com.plee.library.dto.member.condition.LoanHistorySearchCondition;
 import com.plee.library.repository.book.BookInfoRepository;
+import com.plee.library.util.pagination.CursorPage;
+import com.plee.library.util.pagination.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -156,5 +162,100 @@ class MemberLoanHistoryCustomTest {
             // then
             assertThat(overdueHistories).isEmpty();
         }
+
+        @Test
+        @DisplayName("마지막으로 처리한 ID 이후의 연체된 대출 이력 ID를 개수만큼 조회")
+        void findOverdueIds() {
+            // given
+            LocalDateTime time = LocalDateTime.now().plusDays(7);
+
+            LoanHistoryPartition partition = LoanHistoryPartition.all();
+
+            // when
+            List<Long> firstIds = memberLoanHisRepository.findOverdueIds(time, partition, 0L, 1);
+            List<Long> nextIds = memberLoanHisRepository.findOverdueIds(time, partition, firstIds.get(0), 1);
+
+            // then
+            assertThat(firstIds).containsExactly(loanHistory1.getId());
+            assertThat(nextIds).containsExactly(loanHistory2.getId());
+            assertThat(memberLoanHisRepository.findOverdueIds(time, partition, loanHistory2.getId(), 1)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("ISBN 마지막 자리 구간에 해당하는 연체된 대출 이력 ID만 조회")
+        void findOverdueIds_partition() {
+            // given
+            // loanHistory1 의 ISBN 은 1, loanHistory2 의 ISBN 은 2 로 끝남
+            LocalDateTime time = LocalDateTime.now().plusDays(7);
+
+            // when
+            List<Long> oddIds = memberLoanHisRepository.findOverdueIds(time, new LoanHistoryPartition(1, 2), 0L, 10);
+            List<Long> evenIds = memberLoanHisRepository.findOverdueIds(time, new LoanHistoryPartition(0, 2), 0L, 10);
+
+            // then
+            assertThat(oddIds).containsExactly(loanHistory1.getId());
+            assertThat(evenIds).containsExactly(loanHistory2.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("관리자 대출 현황 조회")
+    class FindLoanStatusTest {
+
+        @Test
+        @DisplayName("회원, 도서 정보를 포함한 전체 대출 현황 최신순 조회")
+        void findLoanStatusByCursor() {
+            // when
+            CursorPage<LoanStatusResponse> result = memberLoanHisRepository.findLoanStatusByCursor(null, LocalDateTime.now(), null, PageRequest.of(0, 10));
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            assertThat(result.getContent()).extracting(LoanStatusResponse::getId)
+                    .containsExactly(loanHistory2.getId(), loanHistory1.getId());
+            assertThat(result.getContent().get(0).getMemberName()).isEqualTo(member.getName());
+            assertThat(result.getContent().get(0).getBookTitle()).isEqualTo("bookInfo2");
+            assertThat(result.getContent().get(0).getBookAuthor()).isEqualTo("test2");
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("커서 이후의 대출 현황 조회")
+        void findLoanStatusByCursor_cursor() {
+            // given
+            PageRequest pageable = PageRequest.of(0, 1);
+            CursorPage<LoanStatusResponse> first = memberLoanHisRepository.findLoanStatusByCursor(null, LocalDateTime.now(), null, pageable);
+
+            // when
+            CursorPage<LoanStatusResponse> second = memberLoanHisRepository.findLoanStatusByCursor(null, LocalDateTime.now(),
+                    KeysetCursor.decode(first.getNextCursor()), pageable);
+
+            // then
+            assertThat(first.getContent()).extracting(LoanStatusResponse::getId).containsExactly(loanHistory2.getId());
+            assertThat(second.getContent()).extracting(LoanStatusResponse::getId).containsExactly(loanHistory1.getId());
+        }
+
+        @Test
+        @DisplayName("대출 상태 조건에 해당하는 대출 현황만 조회")
+        void findLoanStatusByCursor_status() {
+            // given
+            loanHistory1.doRenew();
+            loanHistory2.doReturn();
+            LocalDateTime now = LocalDateTime.now();
+            PageRequest pageable = PageRequest.of(0, 10);
+
+            // when
+            CursorPage<LoanStatusResponse> loaned = memberLoanHisRepository.findLoanStatusByCursor(LoanStatusFilter.LOANED, now, null, pageable);
+            CursorPage<LoanStatusResponse> renewed = memberLoanHisRepository.findLoanStatusByCursor(LoanStatusFilter.RENEWED, now, null, pageable);
+            CursorPage<LoanStatusResponse> returned = memberLoanHisRepository.findLoanStatusByCursor(LoanStatusFilter.RETURNED, now, null, pageable);
+            // 연장한 대출은 14일 뒤 기준 연체
+            CursorPage<LoanStatusResponse> overdue = memberLoanHisRepository.findLoanStatusByCursor(LoanStatusFilter.OVERDUE, now.plusDays(15), null, pageable);
+
+            // then
+            assertThat(loaned.getContent()).extracting(LoanStatusResponse::getId).containsExactly(loanHistory1.getId());
+            assertThat(renewed.getContent()).extracting(LoanStatusResponse::getId).containsExactly(loanHistory1.getId());
+            assertThat(returned.getContent()).extracting(LoanStatusResponse::getId).containsExactly(loanHistory2.getId());
+            assertThat(overdue.getContent()).extracting(LoanStatusResponse::getId).containsExactly(loanHistory1.getId());
+            assertThat(returned.getTotalElements()).isEqualTo(1);
+        }
     }
-}
\ No newline at end of file
+}
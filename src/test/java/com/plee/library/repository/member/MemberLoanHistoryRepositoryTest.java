@@ -4,7 +4,9 @@ import com.plee.library.config.TestJPAConfig;
 import com.plee.library.domain.book.BookInfo;
 import com.plee.library.domain.member.Member;
 import com.plee.library.domain.member.MemberLoanHistory;
+import com.plee.library.dto.admin.response.LoanHistoryExportRow;
 import com.plee.library.repository.book.BookInfoRepository;
+import com.plee.library.util.constant.Constant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +19,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
 import static org.assertj.core.api.Assertions.*;
 
 @DataJpaTest
@@ -166,6 +172,7 @@ class MemberLoanHistoryRepositoryTest {
                 .bookInfo(bookInfo)
                 .build();
         memberLoanHisRepository.save(loanHistory);
+        LocalDateTime dueAt = loanHistory.getDueAt();
 
         // when
         loanHistory.doRenew();
@@ -173,6 +180,8 @@ class MemberLoanHistoryRepositoryTest {
 
         // then
         assertThat(updatedLoanHistory.isRenew()).isTrue();
+        // 반납 예정일이 연장 기간만큼 늦춰졌는지 확인
+        assertThat(updatedLoanHistory.getDueAt()).isEqualTo(dueAt.plusDays(Constant.RENEW_PERIOD));
     }
 
     @Test
@@ -193,4 +202,28 @@ class MemberLoanHistoryRepositoryTest {
         assertThat(updatedLoanHistory.getReturnedAt()).isNotNull();
         assertThat(updatedLoanHistory.getReturnedAt()).isEqualTo(loanHistory.getReturnedAt());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("내보내기를 위한 전체 대출 이력 스트림 조회")
+    void streamAllForExport() {
+        // given
+        MemberLoanHistory loanHistory = MemberLoanHistory.builder()
+                .member(member)
+                .bookInfo(bookInfo)
+                .build();
+        memberLoanHisRepository.save(loanHistory);
+
+        // when
+        List<LoanHistoryExportRow> rows;
+        try (Stream<LoanHistoryExportRow> stream = memberLoanHisRepository.streamAllForExport()) {
+            rows = stream.toList();
+        }
+
+        // then
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).id()).isEqualTo(loanHistory.getId());
+        assertThat(rows.get(0).loginId()).isEqualTo(member.getLoginId());
+        assertThat(rows.get(0).title()).isEqualTo(bookInfo.getTitle());
+        assertThat(rows.get(0).dueAt()).isEqualToIgnoringNanos(loanHistory.getDueAt());
+    }
+}
@@ -3,14 +3,17 @@ package com.plee.library.repository.member;
 import com.plee.library.config.TestJPAConfig;
 import com.plee.library.domain.member.Member;
 import com.plee.library.domain.member.Role;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -22,6 +25,9 @@ class MemberRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Nested
     @DisplayName("회원 생성")
     public class saveMemberTest {
@@ -211,4 +217,69 @@ class MemberRepositoryTest {
         // then
         assertThat(memberRepository.existsById(member.getId())).isFalse();
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("대출중인 도서 수 변경")
+    class ActiveLoanCountTest {
+        private Member member;
+
+        @BeforeEach
+        void setUp() {
+            member = memberRepository.save(Member.builder()
+                    .name("이푸름")
+                    .loginId("plee@gmail.com")
+                    .password("test1234")
+                    .build());
+        }
+
+        @Test
+        @DisplayName("대출 한도까지만 대출중인 도서 수 증가")
+        void increaseActiveLoanCount() {
+            // when
+            List<Integer> updatedRows = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                updatedRows.add(memberRepository.increaseActiveLoanCount(member.getId(), 3));
+            }
+            entityManager.clear();
+
+            // then
+            assertThat(updatedRows).containsExactly(1, 1, 1, 0);
+            assertThat(memberRepository.findById(member.getId()).get().getActiveLoanCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("대출중인 도서 수보다 많이 감소시킬 수 없음")
+        void decreaseActiveLoanCount() {
+            // given
+            memberRepository.increaseActiveLoanCount(member.getId(), 3);
+
+            // when
+            int exceeded = memberRepository.decreaseActiveLoanCount(member.getId(), 2);
+            int updated = memberRepository.decreaseActiveLoanCount(member.getId(), 1);
+
+            // then
+            assertThat(exceeded).isEqualTo(0);
+            assertThat(updated).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("대출 이력과 다른 대출중인 도서 수 조회 및 보정")
+        void findActiveLoanCountDrift() {
+            // given
+            // 대출 이력 없이 대출중인 도서 수만 증가한 경우
+            memberRepository.increaseActiveLoanCount(member.getId(), 3);
+
+            // when
+            List<Object[]> drifts = memberRepository.findActiveLoanCountDrift();
+            int updated = memberRepository.updateActiveLoanCount(member.getId(), 1, 0);
+            entityManager.clear();
+
+            // then
+            assertThat(drifts).hasSize(1);
+            assertThat(drifts.get(0)[0]).isEqualTo(member.getId());
+            assertThat(((Long) drifts.get(0)[2]).intValue()).isEqualTo(0);
+            assertThat(updated).isEqualTo(1);
+            assertThat(memberRepository.findActiveLoanCountDrift()).isEmpty();
+        }
+    }
+}
@@ -19,6 +19,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 @DataJpaTest
@@ -271,6 +273,37 @@ class MemberRequestHistoryRepositoryTest {
             assertThat(memberReqHisRepository.findById(memberReqHis2.getId())).isNotEmpty()
                     .get().extracting(MemberRequestHistory::isApproved).isEqualTo(true);
         }
+
+        @Test
+        @DisplayName("여러 도서의 요청을 한 번에 승인 처리")
+        void approveByIsbnIn() {
+            // given
+            BookInfo otherBookInfo = bookInfoRepository.save(BookInfo.builder()
+                    .isbn("9788966262281")
+                    .title("이펙티브 자바")
+                    .author("조슈아 블로크")
+                    .build());
+            MemberRequestHistory memberReqHis1 = memberReqHisRepository.save(MemberRequestHistory.builder()
+                    .member(member)
+                    .bookInfo(bookInfo)
+                    .requestReason("업무에 필요합니다.")
+                    .build());
+            MemberRequestHistory memberReqHis2 = memberReqHisRepository.save(MemberRequestHistory.builder()
+                    .member(member)
+                    .bookInfo(otherBookInfo)
+                    .requestReason("업무에 필요합니다.")
+                    .build());
+
+            // when
+            int approved = memberReqHisRepository.approveByBookInfoIsbnIn(List.of(bookInfo.getIsbn(), otherBookInfo.getIsbn()));
+
+            // then
+            assertThat(approved).isEqualTo(2);
+            assertThat(memberReqHisRepository.findById(memberReqHis1.getId())).get()
+                    .extracting(MemberRequestHistory::isApproved).isEqualTo(true);
+            assertThat(memberReqHisRepository.findById(memberReqHis2.getId())).get()
+                    .extracting(MemberRequestHistory::isApproved).isEqualTo(true);
+        }
     }
 
     @Test
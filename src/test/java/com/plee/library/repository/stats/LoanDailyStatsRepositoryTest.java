@@ -0,0 +1,95 @@
+package com.plee.library.repository.stats;
+
+import com.plee.library.config.TestJPAConfig;
+import com.plee.library.domain.stats.LoanDailyStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import(TestJPAConfig.class)
+@DisplayName("LoanDailyStatsRepository 테스트")
+class LoanDailyStatsRepositoryTest {
+
+    @Autowired
+    LoanDailyStatsRepository loanDailyStatsRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        loanDailyStatsRepository.save(new LoanDailyStats(today.minusDays(10)));
+        loanDailyStatsRepository.save(new LoanDailyStats(today.minusDays(1)));
+        loanDailyStatsRepository.saveAndFlush(new LoanDailyStats(today));
+    }
+
+    @Test
+    @DisplayName("날짜의 대출 통계 증가")
+    void increase() {
+        // when
+        int result = loanDailyStatsRepository.increase(today, 2, 1, 0, 3);
+        entityManager.clear();
+
+        // then
+        assertThat(result).isEqualTo(1);
+        LoanDailyStats stats = loanDailyStatsRepository.findById(today).orElseThrow();
+        assertThat(stats.getLoanCount()).isEqualTo(2);
+        assertThat(stats.getReturnCount()).isEqualTo(1);
+        assertThat(stats.getRenewCount()).isZero();
+        assertThat(stats.getOverdueReturnCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("통계가 없는 날짜인 경우 증가하지 않음")
+    void increase_notExist() {
+        // when
+        int result = loanDailyStatsRepository.increase(today.plusDays(1), 1, 0, 0, 0);
+
+        // then
+        assertThat(result).isZero();
+    }
+
+    @Test
+    @DisplayName("대출 이력으로 계산한 수보다 적은 경우에만 대출, 반납 수 보정")
+    void raiseCount() {
+        // given
+        loanDailyStatsRepository.increase(today, 5, 1, 0, 2);
+
+        // when
+        int loanResult = loanDailyStatsRepository.raiseLoanCount(today, 3);
+        int returnResult = loanDailyStatsRepository.raiseReturnCount(today, 4);
+        entityManager.clear();
+
+        // then
+        assertThat(loanResult).isZero();
+        assertThat(returnResult).isEqualTo(1);
+        LoanDailyStats stats = loanDailyStatsRepository.findById(today).orElseThrow();
+        assertThat(stats.getLoanCount()).isEqualTo(5);
+        // 연체 자동 반납 수를 제외한 반납 수로 보정
+        assertThat(stats.getReturnCount()).isEqualTo(2);
+        assertThat(stats.getOverdueReturnCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기간의 대출 통계를 날짜 순으로 조회")
+    void findAllByStatsDateBetween() {
+        // when
+        List<LoanDailyStats> result = loanDailyStatsRepository.findAllByStatsDateBetweenOrderByStatsDate(today.minusDays(4), today);
+
+        // then
+        assertThat(result).extracting(LoanDailyStats::getStatsDate)
+                .containsExactly(today.minusDays(1), today);
+    }
+}
@@ -0,0 +1,98 @@
+package com.plee.library.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LoanDueQueue 테스트")
+class LoanDueQueueTest {
+
+    private LoanDueQueue loanDueQueue;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        loanDueQueue = new LoanDueQueue();
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("반납 예정일이 지난 대출 이력만 반납 예정일 순으로 조회")
+    void pollExpired() {
+        // given
+        loanDueQueue.schedule(1L, now.minusMinutes(1));
+        loanDueQueue.schedule(2L, now.minusMinutes(5));
+        loanDueQueue.schedule(3L, now.plusDays(1));
+
+        // when
+        List<Long> result = loanDueQueue.pollExpired(10);
+
+        // then
+        assertThat(result).containsExactly(2L, 1L);
+        assertThat(loanDueQueue.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수만큼 나누어 조회")
+    void pollExpired_maxSize() {
+        // given
+        loanDueQueue.schedule(1L, now.minusMinutes(3));
+        loanDueQueue.schedule(2L, now.minusMinutes(2));
+        loanDueQueue.schedule(3L, now.minusMinutes(1));
+
+        // when, then
+        assertThat(loanDueQueue.pollExpired(2)).containsExactly(1L, 2L);
+        assertThat(loanDueQueue.pollExpired(2)).containsExactly(3L);
+        assertThat(loanDueQueue.pollExpired(2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("연장으로 반납 예정일이 늦춰진 경우 새로운 반납 예정일로 변경")
+    void schedule_renew() {
+        // given
+        loanDueQueue.schedule(1L, now.minusMinutes(1));
+
+        // when
+        loanDueQueue.schedule(1L, now.plusDays(7));
+
+        // then
+        assertThat(loanDueQueue.pollExpired(10)).isEmpty();
+        assertThat(loanDueQueue.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 번 변경된 대출 이력은 최신 반납 예정일로 한 번만 조회")
+    void schedule_rescheduled() {
+        // given
+        loanDueQueue.schedule(1L, now.minusMinutes(1));
+        loanDueQueue.schedule(2L, now.minusMinutes(3));
+        loanDueQueue.schedule(1L, now.minusMinutes(5));
+
+        // when
+        List<Long> result = loanDueQueue.pollExpired(10);
+
+        // then
+        assertThat(result).containsExactly(1L, 2L);
+        assertThat(loanDueQueue.pollExpired(10)).isEmpty();
+        assertThat(loanDueQueue.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("반납된 대출 이력은 제거")
+    void cancel() {
+        // given
+        loanDueQueue.schedule(1L, now.minusMinutes(1));
+
+        // when
+        loanDueQueue.cancel(1L);
+
+        // then
+        assertThat(loanDueQueue.pollExpired(10)).isEmpty();
+        assertThat(loanDueQueue.size()).isZero();
+    }
+}
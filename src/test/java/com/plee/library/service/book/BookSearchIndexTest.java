@@ -0,0 +1,188 @@
+package com.plee.library.service.book;
+
+import com.plee.library.dto.book.condition.BookSearchCondition;
+import com.plee.library.dto.book.response.BookSearchDocument;
+import com.plee.library.repository.book.BookCountCache;
+import com.plee.library.repository.book.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookSearchIndex 테스트")
+class BookSearchIndexTest {
+
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private BookCountCache bookCountCache;
+    @InjectMocks
+    private BookSearchIndex bookSearchIndex;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        given(bookRepository.findAllSearchDocuments()).willReturn(List.of(
+                new BookSearchDocument(1L, "자바의 정석", "남궁성", 1L, now.minusDays(3)),
+                new BookSearchDocument(2L, "이펙티브 자바", "Joshua Bloch", 2L, now.minusDays(2)),
+                new BookSearchDocument(3L, "Clean Code", "Robert C. Martin", 2L, now.minusDays(1))
+        ));
+        bookSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("한글 제목 부분 일치 검색")
+    void search_KoreanTitle() {
+        // when
+        Page<Long> result = bookSearchIndex.search(condition("자바", null), PageRequest.of(0, 10, Sort.by("createdAt").descending()));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("대소문자 구분 없는 한 글자 저자 검색")
+    void search_SingleCharacterAuthor() {
+        // when
+        Page<Long> result = bookSearchIndex.search(condition("J", null), PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("카테고리 조건과 함께 검색")
+    void search_WithCategory() {
+        // when
+        Page<Long> result = bookSearchIndex.search(condition("자바", 1L), PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("도서 추가 및 삭제가 색인에 반영")
+    void addAndRemove() {
+        // when
+        bookSearchIndex.add(new BookSearchDocument(4L, "모던 자바 인 액션", "라울-게이브리얼 우르마", 1L, now));
+        bookSearchIndex.remove(1L);
+
+        // then
+        Page<Long> result = bookSearchIndex.search(condition("자바", null), PageRequest.of(0, 10));
+        assertThat(result.getContent()).containsExactly(2L, 4L);
+        assertThat(bookSearchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 입고된 도서는 가장 최근 도서 이후에 생성된 도서만 조회하여 반영")
+    void refresh() {
+        // given
+        given(bookRepository.findSearchDocumentsAfter(any(LocalDateTime.class), anyLong(), anyInt())).willReturn(List.of(
+                new BookSearchDocument(3L, "Clean Code", "Robert C. Martin", 2L, now.minusDays(1)),
+                new BookSearchDocument(4L, "모던 자바 인 액션", "라울-게이브리얼 우르마", 1L, now)));
+        given(bookRepository.count()).willReturn(4L);
+
+        // when
+        int changed = bookSearchIndex.refresh();
+
+        // then
+        assertThat(changed).isEqualTo(1);
+        Page<Long> result = bookSearchIndex.search(condition("자바", null), PageRequest.of(0, 10));
+        assertThat(result.getContent()).containsExactly(1L, 2L, 4L);
+        // 도서 수가 같으면 전체 ID 를 비교하지 않음
+        then(bookRepository).should(never()).findAllIds();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 삭제되어 도서 수가 다른 경우 전체 ID 를 비교하여 반영")
+    void refresh_Deleted() {
+        // given
+        given(bookRepository.findSearchDocumentsAfter(any(LocalDateTime.class), anyLong(), anyInt())).willReturn(List.of(
+                new BookSearchDocument(4L, "모던 자바 인 액션", "라울-게이브리얼 우르마", 1L, now)));
+        given(bookRepository.count()).willReturn(3L);
+        given(bookRepository.findAllIds()).willReturn(List.of(2L, 3L, 4L));
+
+        // when
+        int changed = bookSearchIndex.refresh();
+
+        // then
+        assertThat(changed).isEqualTo(2);
+        Page<Long> result = bookSearchIndex.search(condition("자바", null), PageRequest.of(0, 10));
+        assertThat(result.getContent()).containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("특정 페이지의 도서 ID 만 반환")
+    void search_Page() {
+        // when
+        Page<Long> result = bookSearchIndex.search(condition("", null), PageRequest.of(1, 2));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("카테고리만 검색하는 경우 해당 카테고리의 도서를 생성일 순으로 반환")
+    void search_CategoryOnly() {
+        // when
+        Page<Long> result = bookSearchIndex.search(condition("", 2L), PageRequest.of(0, 1, Sort.by("createdAt").descending()));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("제목과 저자에서 모두 일치하는 도서는 한 번만 반환")
+    void search_TitleAndAuthor() {
+        // given
+        bookSearchIndex.add(new BookSearchDocument(4L, "Martin Fowler 의 리팩터링", "Martin Fowler", 2L, now));
+
+        // when
+        Page<Long> result = bookSearchIndex.search(condition("martin", null), PageRequest.of(0, 10, Sort.by("createdAt").ascending()));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("추정 모드에서는 전체 검색 결과 수를 기준 수 + 1 까지만 반환")
+    void search_Estimated() {
+        // given
+        given(bookCountCache.getEstimateLimit()).willReturn(1);
+
+        // when
+        Page<Long> result = bookSearchIndex.search(condition("", null), PageRequest.of(0, 1, Sort.by("createdAt").descending()));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).containsExactly(3L);
+    }
+
+    private BookSearchCondition condition(String keyword, Long categoryId) {
+        return BookSearchCondition.builder()
+                .keyword(keyword)
+                .title(true)
+                .author(true)
+                .categoryId(categoryId)
+                .build();
+    }
+}
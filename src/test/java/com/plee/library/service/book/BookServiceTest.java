@@ -3,41 +3,66 @@ package com.plee.library.service.book;
 import com.plee.library.domain.book.Book;
 import com.plee.library.domain.book.BookCategory;
 import com.plee.library.domain.book.BookInfo;
+import com.plee.library.domain.book.BookInfoEnrichment;
 import com.plee.library.domain.member.Member;
 import com.plee.library.domain.member.MemberBookmark;
 import com.plee.library.domain.member.MemberLoanHistory;
+import com.plee.library.domain.stats.LoanDailyStats;
+import com.plee.library.dto.admin.request.LoanStatsPeriod;
 import com.plee.library.dto.admin.request.SearchBookRequest;
 import com.plee.library.dto.admin.request.UpdateBookRequest;
 import com.plee.library.dto.admin.response.BooksResponse;
+import com.plee.library.dto.admin.request.LoanStatusFilter;
 import com.plee.library.dto.admin.response.LoanStatusResponse;
+import com.plee.library.dto.admin.response.LoanDailyStatsResponse;
 import com.plee.library.dto.admin.response.LoanDailyStatusResponse;
 import com.plee.library.dto.book.condition.BookSearchCondition;
 import com.plee.library.dto.book.request.AddBookRequest;
 import com.plee.library.dto.book.request.ReturnBookRequest;
 import com.plee.library.dto.book.request.SaveBookRequest;
+import com.plee.library.dto.book.request.SearchApiBookRequest;
 import com.plee.library.dto.book.request.SearchKeywordBookRequest;
 import com.plee.library.dto.book.response.BooksMarkResponse;
 import com.plee.library.dto.book.response.BookInfoResponse;
 import com.plee.library.dto.book.response.LoanHistoryResponse;
+import com.plee.library.dto.book.response.SearchBookResponse;
+import com.plee.library.dto.member.condition.LoanHistoryPartition;
 import com.plee.library.dto.member.condition.LoanHistorySearchCondition;
 import com.plee.library.repository.book.BookCategoryRepository;
+import com.plee.library.repository.book.BookCountCache;
+import com.plee.library.repository.book.BookInfoEnrichmentRepository;
+import com.plee.library.config.NaverBookSearchConfig;
+import com.plee.library.util.constant.Constant;
 import com.plee.library.util.message.BookMessage;
+import com.plee.library.util.message.MemberMessage;
+import com.plee.library.util.pagination.CursorPage;
 import com.plee.library.repository.book.BookInfoRepository;
 import com.plee.library.repository.book.BookRepository;
 import com.plee.library.repository.member.MemberBookmarkRepository;
 import com.plee.library.repository.member.MemberLoanHistoryRepository;
 import com.plee.library.repository.member.MemberRepository;
 import com.plee.library.repository.member.MemberRequestHistoryRepository;
+import com.plee.library.repository.stats.LoanDailyStatsRepository;
+import com.plee.library.service.job.JobLease;
+import com.plee.library.service.stats.CirculationEvent;
+import com.plee.library.service.stats.CirculationMetrics;
+import com.plee.library.util.resilience.TokenBucketRateLimiter;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -61,6 +86,28 @@ class BookServiceTest {
     private MemberLoanHistoryRepository memberLoanHisRepository;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+    @Mock
+    private BookCountCache bookCountCache;
+    @Mock
+    private CatalogVersion catalogVersion;
+    @Spy
+    private ReferenceDataCache referenceDataCache = new ReferenceDataCache();
+    @Mock
+    private OverdueReturnProcessor overdueReturnProcessor;
+    @Mock
+    private BookInfoEnrichmentRepository bookInfoEnrichmentRepository;
+    @Mock
+    private BookInfoEnrichmentProcessor bookInfoEnrichmentProcessor;
+    @Mock
+    private NaverBookSearchConfig naverBookSearchConfig;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private LoanDailyStatsRepository loanDailyStatsRepository;
+    @Mock
+    private CirculationMetrics circulationMetrics;
     @InjectMocks
     private BookServiceImpl bookService;
 
@@ -181,9 +228,10 @@ class BookServiceTest {
         @DisplayName("도서 정보가 없는 경우")
         void addNewBookRequest_NotExistBookInfo() {
             // given
-            given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
             given(bookRepository.existsByBookInfoIsbn(anyString())).willReturn(false);
-            given(memberReqHisRepository.existsByMemberIdAndBookInfoIsbn(member.getId(), req.getIsbn())).willReturn(false);
+            given(memberReqHisRepository.existsByMemberIdAndBookInfoIsbn(1L, req.getIsbn())).willReturn(false);
+            given(memberRepository.existsById(1L)).willReturn(true);
+            given(memberRepository.getReferenceById(1L)).willReturn(member);
             given(bookInfoRepository.findById(anyString())).willReturn(Optional.empty());
             given(bookInfoRepository.save(any(BookInfo.class))).willReturn(req.toEntity());
 
@@ -192,17 +240,19 @@ class BookServiceTest {
 
             // then
             then(bookInfoRepository).should(times(1)).save(any(BookInfo.class));
-            assertThat(member.getMemberRequestHistories().size()).isEqualTo(1);
-            assertThat(member.getMemberRequestHistories().get(0).getBookInfo().getIsbn()).isEqualTo(req.getIsbn());
+            then(bookInfoEnrichmentRepository).should(times(1)).save(any(BookInfoEnrichment.class));
+            then(memberReqHisRepository).should(times(1)).save(argThat(history -> history.getBookInfo().getIsbn().equals(req.getIsbn())));
+            then(memberRepository).should(never()).findById(anyLong());
         }
 
         @Test
         @DisplayName("도서 정보가 경우")
         void addNewBookRequest_ExistBookInfo() {
             // given
-            given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
             given(bookRepository.existsByBookInfoIsbn(anyString())).willReturn(false);
-            given(memberReqHisRepository.existsByMemberIdAndBookInfoIsbn(member.getId(), req.getIsbn())).willReturn(false);
+            given(memberReqHisRepository.existsByMemberIdAndBookInfoIsbn(1L, req.getIsbn())).willReturn(false);
+            given(memberRepository.existsById(1L)).willReturn(true);
+            given(memberRepository.getReferenceById(1L)).willReturn(member);
             given(bookInfoRepository.findById(anyString())).willReturn(Optional.of(bookInfo));
 
             // when
@@ -210,15 +260,14 @@ class BookServiceTest {
 
             // then
             then(bookInfoRepository).should(never()).save(any(BookInfo.class));
-            assertThat(member.getMemberRequestHistories().size()).isEqualTo(1);
-            assertThat(member.getMemberRequestHistories().get(0).getBookInfo().getIsbn()).isEqualTo(bookInfo.getIsbn());
+            then(bookInfoEnrichmentRepository).should(never()).save(any(BookInfoEnrichment.class));
+            then(memberReqHisRepository).should(times(1)).save(argThat(history -> history.getBookInfo().getIsbn().equals(bookInfo.getIsbn())));
         }
 
         @Test
         @DisplayName("실패: 이미 보유한 도서인 경우")
         void addNewBookRequest_FailAlreadyBookExist() {
             // given
-            given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
             given(bookRepository.existsByBookInfoIsbn(anyString())).willReturn(true);
 
             // when
@@ -231,9 +280,8 @@ class BookServiceTest {
         @DisplayName("실패: 이미 추가 요청한 도서인 경우")
         void addNewBookRequest_FailAlreadyReqExist() {
             // given
-            given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
             given(bookRepository.existsByBookInfoIsbn(req.getIsbn())).willReturn(false);
-            given(memberReqHisRepository.existsByMemberIdAndBookInfoIsbn(member.getId(), req.getIsbn())).willReturn(true);
+            given(memberReqHisRepository.existsByMemberIdAndBookInfoIsbn(1L, req.getIsbn())).willReturn(true);
 
             // when
             assertThatThrownBy(() -> bookService.addNewBookRequest(req, 1L))
@@ -242,6 +290,52 @@ class BookServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("요청 도서 정보 보완")
+    class EnrichRequestedBookInfosTest {
+
+        @Test
+        @DisplayName("검색 결과로 보완하고, 실패한 ISBN 은 다시 시도")
+        void enrichRequestedBookInfos() {
+            // given
+            SearchBookResponse.SearchBookItem item = new SearchBookResponse.SearchBookItem();
+            item.setIsbn("8994492038 9788994492032");
+            item.setImage("image");
+            given(bookInfoEnrichmentRepository.findDueIsbns(any(LocalDateTime.class), eq(Constant.ENRICH_MAX_ATTEMPTS), any(Pageable.class)))
+                    .willReturn(List.of("9788994492032", "9788966262281"));
+            given(naverBookSearchConfig.searchBook(argThat(req -> req != null && "9788994492032".equals(req.getKeyword())),
+                    eq(TokenBucketRateLimiter.Priority.LOW)))
+                    .willReturn(CompletableFuture.completedFuture(new SearchBookResponse(1, 1, 1, List.of(item))));
+            given(naverBookSearchConfig.searchBook(argThat(req -> req != null && "9788966262281".equals(req.getKeyword())),
+                    eq(TokenBucketRateLimiter.Priority.LOW)))
+                    .willReturn(CompletableFuture.failedFuture(new IllegalStateException(BookMessage.API_BUSY.getMessage())));
+
+            // when
+            int processed = bookService.enrichRequestedBookInfos();
+
+            // then
+            assertThat(processed).isEqualTo(2);
+            then(bookInfoEnrichmentProcessor).should().complete("9788994492032", item);
+            then(bookInfoEnrichmentProcessor).should()
+                    .retryLater(eq("9788966262281"), eq(BookMessage.API_BUSY.getMessage()), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("시도할 시간이 된 ISBN 이 없는 경우")
+        void enrichRequestedBookInfos_Empty() {
+            // given
+            given(bookInfoEnrichmentRepository.findDueIsbns(any(LocalDateTime.class), anyInt(), any(Pageable.class)))
+                    .willReturn(List.of());
+
+            // when
+            int processed = bookService.enrichRequestedBookInfos();
+
+            // then
+            assertThat(processed).isZero();
+            then(naverBookSearchConfig).should(never()).searchBook(any(SearchApiBookRequest.class), any());
+        }
+    }
+
     @Nested
     @DisplayName("도서 대출")
     class LoanBookTest {
@@ -249,25 +343,69 @@ class BookServiceTest {
         @DisplayName("도서 대출 성공")
         void loanBook() {
             // given
-            given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
             given(bookRepository.findById(anyLong())).willReturn(Optional.of(book));
-            given(memberLoanHisRepository.findByMemberIdAndBookInfoIsbnAndReturnedAtIsNull(member.getId(), bookInfo.getIsbn())).willReturn(Optional.empty());
-            given(memberLoanHisRepository.countByMemberIdAndReturnedAtIsNull(member.getId())).willReturn(1L);
+            given(memberLoanHisRepository.findByMemberIdAndBookInfoIsbnAndReturnedAtIsNull(1L, bookInfo.getIsbn())).willReturn(Optional.empty());
+            given(memberRepository.increaseActiveLoanCount(1L, Constant.LOANABLE_BOOK_LIMIT)).willReturn(1);
+            given(bookRepository.decreaseLoanableCnt(1L)).willReturn(1);
+            given(memberRepository.getReferenceById(1L)).willReturn(member);
 
             // when
             bookService.loanBook(1L, 1L);
 
             // then
-            assertThat(member.getMemberLoanHistories().size()).isEqualTo(1);
-            assertThat(member.getMemberLoanHistories().get(0).getBookInfo().getIsbn()).isEqualTo(bookInfo.getIsbn());
-            assertThat(book.getLoanableCnt()).isEqualTo(1);
+            then(memberLoanHisRepository).should(times(1)).save(argThat(history -> history.getBookInfo().getIsbn().equals(bookInfo.getIsbn())));
+            // 로그인한 회원의 ID 만으로 대출하므로 회원을 조회하지 않음
+            then(memberRepository).should(never()).findById(anyLong());
+            then(bookRepository).should(times(1)).decreaseLoanableCnt(1L);
+            then(memberRepository).should(times(1)).increaseActiveLoanCount(1L, Constant.LOANABLE_BOOK_LIMIT);
+            then(memberLoanHisRepository).should(never()).countByMemberIdAndReturnedAtIsNull(anyLong());
+            then(circulationMetrics).should().recordAfterCommit(CirculationEvent.LOAN);
+            // 반납 예정일 등록을 위한 이벤트 발행 확인
+            then(eventPublisher).should().publishEvent(any(LoanDueChangedEvent.class));
+            // 대출 가능한 도서가 남아있으므로 목록의 변경 번호는 그대로
+            then(catalogVersion).should(never()).markChanged();
+        }
+
+        @Test
+        @DisplayName("마지막 남은 도서를 대출한 경우 목록의 변경 번호 증가")
+        void loanBook_LastBook() {
+            // given
+            given(bookRepository.findById(anyLong())).willReturn(Optional.of(book));
+            given(memberLoanHisRepository.findByMemberIdAndBookInfoIsbnAndReturnedAtIsNull(1L, bookInfo.getIsbn())).willReturn(Optional.empty());
+            given(memberRepository.increaseActiveLoanCount(1L, Constant.LOANABLE_BOOK_LIMIT)).willReturn(1);
+            given(bookRepository.decreaseLoanableCnt(1L)).willReturn(1);
+            given(memberRepository.getReferenceById(1L)).willReturn(member);
+            given(bookRepository.existsByIdAndLoanableCnt(1L, 0)).willReturn(true);
+
+            // when
+            bookService.loanBook(1L, 1L);
+
+            // then
+            then(catalogVersion).should(times(1)).markChanged();
+        }
+
+        @Test
+        @DisplayName("실패: 동시에 대출되어 대출 가능한 수량이 없어진 경우")
+        void loanBook_FailConcurrentLoan() {
+            // given
+            given(bookRepository.findById(anyLong())).willReturn(Optional.of(book));
+            given(memberLoanHisRepository.findByMemberIdAndBookInfoIsbnAndReturnedAtIsNull(1L, bookInfo.getIsbn())).willReturn(Optional.empty());
+            given(memberRepository.increaseActiveLoanCount(1L, Constant.LOANABLE_BOOK_LIMIT)).willReturn(1);
+            // 조회 시점에는 수량이 남아있었지만, 조건부 UPDATE 시점에는 다른 대출로 수량이 없는 경우
+            given(bookRepository.decreaseLoanableCnt(1L)).willReturn(0);
+
+            // when, then
+            assertThatThrownBy(() -> bookService.loanBook(1L, 1L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining(BookMessage.CANNOT_LOAN_BOOK.getMessage());
+            then(memberLoanHisRepository).should(never()).save(any(MemberLoanHistory.class));
+            then(circulationMetrics).should().record(CirculationEvent.LOAN_FAILED_CANNOT_LOAN);
         }
 
         @Test
         @DisplayName("실패: 대출 가능한 도서 수량이 없는 경우")
         void loanBook_FailLoanableCnt() {
             // given
-            given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
             given(bookRepository.findById(anyLong())).willReturn(Optional.of(book));
             book.decreaseLoanableCnt();
             book.decreaseLoanableCnt();
@@ -282,34 +420,54 @@ class BookServiceTest {
         @DisplayName("실패: 이미 대출한 도서인 경우")
         void loanBook_FailAlreadyLoan() {
             // given
-            given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
             given(bookRepository.findById(anyLong())).willReturn(Optional.of(book));
             MemberLoanHistory history = MemberLoanHistory.builder()
                     .member(member)
                     .bookInfo(bookInfo)
                     .build();
-            given(memberLoanHisRepository.findByMemberIdAndBookInfoIsbnAndReturnedAtIsNull(eq(member.getId()), eq(bookInfo.getIsbn()))).willReturn(Optional.of(history));
+            given(memberLoanHisRepository.findByMemberIdAndBookInfoIsbnAndReturnedAtIsNull(eq(1L), eq(bookInfo.getIsbn()))).willReturn(Optional.of(history));
 
             // when, then
             assertThatThrownBy(() -> bookService.loanBook(1L, 1L))
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessageContaining(BookMessage.ALREADY_LOAN_BOOK.getMessage());
+            then(circulationMetrics).should().record(CirculationEvent.LOAN_FAILED_ALREADY_LOANED);
         }
 
         @Test
         @DisplayName("실패: 최대 대출 수량인 3권을 대출중인 경우")
         void loanBook_FailExceedMax() {
             // given
-            given(memberRepository.findById(member.getId())).willReturn(Optional.of(member));
             given(bookRepository.findById(book.getId())).willReturn(Optional.of(book));
             given(memberLoanHisRepository.findByMemberIdAndBookInfoIsbnAndReturnedAtIsNull(member.getId(), bookInfo.getIsbn()))
                     .willReturn(Optional.empty());
-            given(memberLoanHisRepository.countByMemberIdAndReturnedAtIsNull(member.getId())).willReturn(3L);
+            // 이미 3권을 대출중이어서 대출중인 도서 수를 증가시킬 수 없는 경우
+            given(memberRepository.increaseActiveLoanCount(member.getId(), Constant.LOANABLE_BOOK_LIMIT)).willReturn(0);
+            given(memberRepository.existsById(member.getId())).willReturn(true);
 
             // when, then
             assertThatThrownBy(() -> bookService.loanBook(book.getId(), member.getId()))
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessageContaining(BookMessage.MAX_LOAN_BOOK.getMessage());
+            then(circulationMetrics).should().record(CirculationEvent.LOAN_FAILED_MAX_LOAN);
+        }
+
+        @Test
+        @DisplayName("실패: 로그인 이후 회원이 삭제된 경우")
+        void loanBook_FailNotExistMember() {
+            // given
+            given(bookRepository.findById(book.getId())).willReturn(Optional.of(book));
+            given(memberLoanHisRepository.findByMemberIdAndBookInfoIsbnAndReturnedAtIsNull(member.getId(), bookInfo.getIsbn()))
+                    .willReturn(Optional.empty());
+            // 회원이 없어 대출중인 도서 수를 증가시킬 수 없는 경우
+            given(memberRepository.increaseActiveLoanCount(member.getId(), Constant.LOANABLE_BOOK_LIMIT)).willReturn(0);
+            given(memberRepository.existsById(member.getId())).willReturn(false);
+
+            // when, then
+            assertThatThrownBy(() -> bookService.loanBook(book.getId(), member.getId()))
+                    .isInstanceOf(NoSuchElementException.class)
+                    .hasMessageContaining(MemberMessage.NOT_FOUND_MEMBER.getMessage());
+            then(circulationMetrics).should(never()).record(any(CirculationEvent.class));
         }
     }
 
@@ -338,15 +496,19 @@ class BookServiceTest {
             given(bookRepository.findByBookInfoIsbn(bookInfo.getIsbn())).willReturn(Optional.of(book));
             given(memberLoanHisRepository.findByMemberIdAndBookInfoIsbnAndReturnedAtIsNull(anyLong(), anyString()))
                     .willReturn(Optional.of(history));
+            given(bookRepository.increaseLoanableCnt(any(), eq(1))).willReturn(1);
             // 도서 대출 처리
             member.loanBook(book);
-            book.decreaseLoanableCnt();
 
             // when
             bookService.returnBook(req, 1L);
 
             // then
-            assertThat(book.getLoanableCnt()).isEqualTo(2);
+            assertThat(history.isReturned()).isTrue();
+            then(bookRepository).should(times(1)).increaseLoanableCnt(any(), eq(1));
+            then(memberRepository).should(times(1)).decreaseActiveLoanCount(1L, 1);
+            then(circulationMetrics).should().recordAfterCommit(CirculationEvent.RETURN);
+            then(eventPublisher).should().publishEvent(any(LoanDueChangedEvent.class));
             assertThat(member.getMemberLoanHistories().size()).isEqualTo(1);
             assertThat(member.getMemberLoanHistories().get(0).getBookInfo().getIsbn()).isEqualTo(bookInfo.getIsbn());
         }
@@ -402,6 +564,7 @@ class BookServiceTest {
 
             // then
             assertThat(history.isRenewable()).isFalse();
+            then(circulationMetrics).should().recordAfterCommit(CirculationEvent.RENEW);
         }
 
         @Test
@@ -443,6 +606,82 @@ class BookServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("연체 도서 반납 처리")
+    class ProcessDailyBookReturnTest {
+        private final LocalDateTime scheduledAt = LocalDate.now().atStartOfDay();
+        private final LoanHistoryPartition partition = LoanHistoryPartition.all();
+        private final JobLease lease = new JobLease("overdue-return", 1L, scheduledAt, Duration.ofMinutes(5));
+
+        @Test
+        @DisplayName("연체된 대출 이력을 묶음 단위로 나누어 반납 처리")
+        void processDailyBookReturn() {
+            // given
+            given(overdueReturnProcessor.start(lease, scheduledAt)).willReturn(0L);
+            given(memberLoanHisRepository.findOverdueIds(scheduledAt, partition, 0L, Constant.RETURN_CHUNK_SIZE)).willReturn(List.of(1L, 2L));
+            given(memberLoanHisRepository.findOverdueIds(scheduledAt, partition, 2L, Constant.RETURN_CHUNK_SIZE)).willReturn(List.of(5L));
+            given(memberLoanHisRepository.findOverdueIds(scheduledAt, partition, 5L, Constant.RETURN_CHUNK_SIZE)).willReturn(Collections.emptyList());
+            given(overdueReturnProcessor.returnChunk(lease, List.of(1L, 2L), scheduledAt)).willReturn(2);
+            given(overdueReturnProcessor.returnChunk(lease, List.of(5L), scheduledAt)).willReturn(1);
+
+            // when
+            int result = bookService.processDailyBookReturn(scheduledAt, lease, partition);
+
+            // then
+            assertThat(result).isEqualTo(3);
+            then(overdueReturnProcessor).should(times(2)).returnChunk(eq(lease), anyList(), eq(scheduledAt));
+            then(overdueReturnProcessor).should().complete(lease);
+        }
+
+        @Test
+        @DisplayName("중단된 작업은 마지막으로 처리한 대출 이력 이후부터 처리")
+        void processDailyBookReturn_resume() {
+            // given
+            given(overdueReturnProcessor.start(lease, scheduledAt)).willReturn(2L);
+            given(memberLoanHisRepository.findOverdueIds(scheduledAt, partition, 2L, Constant.RETURN_CHUNK_SIZE)).willReturn(Collections.emptyList());
+
+            // when
+            int result = bookService.processDailyBookReturn(scheduledAt, lease, partition);
+
+            // then
+            assertThat(result).isZero();
+            then(overdueReturnProcessor).should(never()).returnChunk(any(), anyList(), any());
+            then(overdueReturnProcessor).should().complete(lease);
+        }
+
+        @Test
+        @DisplayName("실패: 작업 중 잠금을 잃은 경우 이후 묶음은 처리하지 않음")
+        void processDailyBookReturn_failLockLost() {
+            // given
+            given(overdueReturnProcessor.start(lease, scheduledAt)).willReturn(0L);
+            given(memberLoanHisRepository.findOverdueIds(scheduledAt, partition, 0L, Constant.RETURN_CHUNK_SIZE)).willReturn(List.of(1L, 2L));
+            given(overdueReturnProcessor.returnChunk(lease, List.of(1L, 2L), scheduledAt)).willThrow(new IllegalStateException("lock lost"));
+
+            // when, then
+            assertThatThrownBy(() -> bookService.processDailyBookReturn(scheduledAt, lease, partition))
+                    .isInstanceOf(IllegalStateException.class);
+            then(overdueReturnProcessor).should(never()).complete(any());
+        }
+    }
+
+    @Test
+    @DisplayName("대출중인 도서 수 보정")
+    void reconcileActiveLoanCount() {
+        // given
+        // 1번 회원은 저장된 수가 실제보다 많고, 2번 회원은 보정 도중 대출이 발생한 경우
+        List<Object[]> drifts = List.of(new Object[]{1L, 2, 1L}, new Object[]{2L, 0, 1L});
+        given(memberRepository.findActiveLoanCountDrift()).willReturn(drifts);
+        given(memberRepository.updateActiveLoanCount(1L, 2, 1)).willReturn(1);
+        given(memberRepository.updateActiveLoanCount(2L, 0, 1)).willReturn(0);
+
+        // when
+        int result = bookService.reconcileActiveLoanCount();
+
+        // then
+        assertThat(result).isEqualTo(1);
+        then(memberRepository).should(times(2)).updateActiveLoanCount(anyLong(), anyInt(), anyInt());
+    }
+
     @Nested
     @DisplayName("도서 수량 수정")
     class UpdateBookQuantityTest {
@@ -527,9 +766,10 @@ class BookServiceTest {
             bookService.deleteBook(1L);
 
             // then
-            // 반납 처리 확인
+            // 반납 처리 및 회원의 대출중인 도서 수 감소 확인
             assertThat(history.isReturned()).isTrue();
             then(memberLoanHisRepository).should(times(1)).searchHistory(any(LoanHistorySearchCondition.class));
+            then(memberRepository).should(times(1)).decreaseActiveLoanCount(member.getId(), 1);
 
             // 찜 삭제 호출 안됨 확인
             then(memberBookmarkRepository).should(never()).deleteAll();
@@ -586,22 +826,23 @@ class BookServiceTest {
             @DisplayName("찜 추가 성공")
             void addBookmark() {
                 // given
-                given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
                 given(bookRepository.findById(anyLong())).willReturn(Optional.of(book));
+                given(memberRepository.existsById(1L)).willReturn(true);
+                given(memberRepository.getReferenceById(1L)).willReturn(member);
 
                 // when
                 bookService.addBookmark(1L, 1L);
 
                 // then
-                assertThat(member.getMemberBookmarks().size()).isEqualTo(1);
-                assertThat(member.getMemberBookmarks().contains(bookInfo));
+                then(memberBookmarkRepository).should(times(1)).save(argThat(bookmark -> bookmark.getBook() == book));
+                then(memberRepository).should(never()).findById(anyLong());
+                then(circulationMetrics).should().recordAfterCommit(CirculationEvent.BOOKMARK);
             }
 
             @Test
             @DisplayName("실패: 도서가 없는 경우")
             void addBookmark_FailNotExistBook() {
                 // given
-                given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
                 given(bookRepository.findById(anyLong())).willReturn(Optional.empty());
 
                 // when, then
@@ -610,11 +851,24 @@ class BookServiceTest {
                         .hasMessageContaining(BookMessage.NOT_FOUND_BOOK.getMessage());
             }
 
+            @Test
+            @DisplayName("실패: 로그인 이후 회원이 삭제된 경우")
+            void addBookmark_FailNotExistMember() {
+                // given
+                given(bookRepository.findById(anyLong())).willReturn(Optional.of(book));
+                given(memberRepository.existsById(1L)).willReturn(false);
+
+                // when, then
+                assertThatThrownBy(() -> bookService.addBookmark(1L, 1L))
+                        .isInstanceOf(NoSuchElementException.class)
+                        .hasMessageContaining(MemberMessage.NOT_FOUND_MEMBER.getMessage());
+                then(memberBookmarkRepository).should(never()).save(any(MemberBookmark.class));
+            }
+
             @Test
             @DisplayName("실패: 이미 찜한 경우")
             void addBookmark_FailAlreadyBookmark() {
                 // given
-                given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
                 given(bookRepository.findById(anyLong())).willReturn(Optional.of(book));
                 given(memberBookmarkRepository.existsByMemberIdAndBookId(anyLong(), anyLong())).willReturn(true);
 
@@ -675,29 +929,50 @@ class BookServiceTest {
     @DisplayName("최근 5일간의 대출 수 계산")
     void calculateDailyLoanCounts() {
         // given
-        List<Object[]> expectedData = new ArrayList<>();
-        // 현재 날짜 기준으로 2일전, 4일전, 1건씩 데이터 생성
-        expectedData.add(new Object[]{java.sql.Date.valueOf(LocalDate.now().minusDays(4)), 1L});
-        expectedData.add(new Object[]{java.sql.Date.valueOf(LocalDate.now().minusDays(2)), 1L});
-        expectedData.add(new Object[]{java.sql.Date.valueOf(LocalDate.now()), 2L});
-
-        given(memberLoanHisRepository.countGroupByCreatedAtRange(
-                eq(LocalDate.now().minusDays(4)), eq(LocalDate.now())))
-                .willReturn(expectedData);
+        // 현재 날짜 기준으로 4일전 1건, 2일전 1건, 오늘 2건의 통계 생성
+        LocalDate today = LocalDate.now();
+        given(loanDailyStatsRepository.findAllByStatsDateBetweenOrderByStatsDate(today.minusDays(4), today))
+                .willReturn(List.of(createLoanDailyStats(today.minusDays(4), 1),
+                        createLoanDailyStats(today.minusDays(2), 1),
+                        createLoanDailyStats(today, 2)));
 
         // when
         LoanDailyStatusResponse result = bookService.calculateDailyLoanCounts();
 
         // then
         Map<LocalDate, Integer> expected = new HashMap<>();
-        expected.put(LocalDate.now().minusDays(4), 1);
-        expected.put(LocalDate.now().minusDays(3), 0);
-        expected.put(LocalDate.now().minusDays(2), 1);
-        expected.put(LocalDate.now().minusDays(1), 0);
-        expected.put(LocalDate.now(), 2);
+        expected.put(today.minusDays(4), 1);
+        expected.put(today.minusDays(3), 0);
+        expected.put(today.minusDays(2), 1);
+        expected.put(today.minusDays(1), 0);
+        expected.put(today, 2);
         assertThat(result.getDailyLoanData()).isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("기간별 대출 통계 조회")
+    void findLoanStats() {
+        // given
+        LocalDate endDate = LocalDate.of(2023, 3, 31);
+        given(loanDailyStatsRepository.findAllByStatsDateBetweenOrderByStatsDate(LocalDate.of(2023, 3, 1), endDate))
+                .willReturn(List.of(createLoanDailyStats(LocalDate.of(2023, 3, 15), 4)));
+
+        // when
+        List<LoanDailyStatsResponse> result = bookService.findLoanStats(LoanStatsPeriod.MONTH, endDate);
+
+        // then
+        // 통계가 없는 날짜를 포함하여 한 달의 모든 날짜를 반환
+        assertThat(result).hasSize(31);
+        assertThat(result.get(0).getDate()).isEqualTo(LocalDate.of(2023, 3, 1));
+        assertThat(result.get(14).getLoanCount()).isEqualTo(4);
+        assertThat(result.get(15).getLoanCount()).isZero();
+    }
+
+    private LoanDailyStats createLoanDailyStats(LocalDate date, int loanCount) {
+        LoanDailyStats stats = new LoanDailyStats(date);
+        ReflectionTestUtils.setField(stats, "loanCount", (long) loanCount);
+        return stats;
+    }
 
     @Test
     @DisplayName("키워드 검색")
@@ -707,10 +982,11 @@ class BookServiceTest {
         // 검색 결과 생성
         List<Book> books = createBooks();
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Book> bookPage = new PageImpl<>(books, pageable, books.size());
-        given(bookRepository.search(any(BookSearchCondition.class), any(Pageable.class))).willReturn(bookPage);
+        Page<Long> bookIdPage = new PageImpl<>(books.stream().map(Book::getId).toList(), pageable, books.size());
+        given(bookSearchIndex.search(any(BookSearchCondition.class), any(Pageable.class))).willReturn(bookIdPage);
+        given(bookRepository.findAllByIdInOrder(anyList())).willReturn(books);
         // 찜 정보 생성
-        given(memberBookmarkRepository.existsByMemberIdAndBookId(1L, null)).willReturn(false);
+        given(memberBookmarkRepository.findBookIdsByMemberIdAndBookIdIn(eq(1L), anyList())).willReturn(Collections.emptyList());
 
         // when
         Page<BooksMarkResponse> result = bookService.findBySearchKeyword(req, 1L, pageable);
@@ -719,8 +995,11 @@ class BookServiceTest {
         assertThat(result.getTotalElements()).isEqualTo(4);
         // 찜 정보 모두 false 확인
         assertThat(result.getContent()).allSatisfy(book -> assertThat(book.isMarked()).isEqualTo(false));
-        then(bookRepository).should(times(1)).search(any(BookSearchCondition.class), any(Pageable.class));
-        then(memberBookmarkRepository).should(times(4)).existsByMemberIdAndBookId(1L, null);
+        then(bookSearchIndex).should(times(1)).search(any(BookSearchCondition.class), any(Pageable.class));
+        then(bookRepository).should(never()).search(any(BookSearchCondition.class), any(Pageable.class));
+        // 페이지의 도서 수와 관계없이 찜 정보는 한 번만 조회
+        then(memberBookmarkRepository).should(times(1)).findBookIdsByMemberIdAndBookIdIn(eq(1L), anyList());
+        then(memberBookmarkRepository).should(never()).existsByMemberIdAndBookId(anyLong(), any());
     }
 
     @Nested
@@ -753,15 +1032,17 @@ class BookServiceTest {
             // 검색 결과 도서 생성
             List<Book> books = createBooks();
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Book> bookPage = new PageImpl<>(books, pageable, books.size());
-            given(bookRepository.search(any(BookSearchCondition.class), any(Pageable.class))).willReturn(bookPage);
+            Page<Long> bookIdPage = new PageImpl<>(books.stream().map(Book::getId).toList(), pageable, books.size());
+            given(bookSearchIndex.search(any(BookSearchCondition.class), any(Pageable.class))).willReturn(bookIdPage);
+            given(bookRepository.findBooksResponseByIdInOrder(anyList())).willReturn(createBooksResponse(books));
 
             // when
             Page<BooksResponse> result = bookService.searchBooks(request, pageable);
 
             // then
             assertThat(result.getTotalElements()).isEqualTo(4);
-            then(bookRepository).should(times(1)).search(any(BookSearchCondition.class), any(Pageable.class));
+            then(bookSearchIndex).should(times(1)).search(any(BookSearchCondition.class), any(Pageable.class));
+            then(bookRepository).should(never()).findAllByIdInOrder(anyList());
         }
 
         @Test
@@ -781,17 +1062,60 @@ class BookServiceTest {
     @DisplayName("최근 입고된 도서 4권 조회")
     void findNewBooks() {
         // given
-        List<Book> books = createBooks();
-        given(bookRepository.findTop4ByOrderByCreatedAtDesc()).willReturn(books);
+        List<BookInfoResponse> expected = createBooks().stream()
+                .map(book -> BookInfoResponse.builder()
+                        .title(book.getBookInfo().getTitle())
+                        .image(book.getBookInfo().getImage())
+                        .build())
+                .toList();
+        given(bookRepository.findNewBooksInfo(4)).willReturn(expected);
 
         // when
         List<BookInfoResponse> result = bookService.findNewBooks();
 
         // then
-        List<BookInfoResponse> expected = BookInfoResponse.from(books);
         assertThat(result.size()).isEqualTo(4);
         assertThat(result).usingRecursiveComparison().isEqualTo(expected);
-        then(bookRepository).should(times(1)).findTop4ByOrderByCreatedAtDesc();
+        then(bookRepository).should(times(1)).findNewBooksInfo(4);
+    }
+
+    @Test
+    @DisplayName("최근 입고된 도서는 캐싱하고, 도서 입고 후 다시 조회")
+    void findNewBooks_Cached() {
+        // given
+        List<BookInfoResponse> expected = List.of(BookInfoResponse.builder().title("title").build());
+        given(catalogVersion.tag()).willReturn("1");
+        given(bookRepository.findNewBooksInfo(4)).willReturn(expected);
+        bookService.findNewBooks();
+
+        // when
+        List<BookInfoResponse> cached = bookService.findNewBooks();
+        referenceDataCache.invalidateNewBooks();
+        bookService.findNewBooks();
+
+        // then
+        assertThat(cached).usingRecursiveComparison().isEqualTo(expected);
+        then(bookRepository).should(times(2)).findNewBooksInfo(4);
+        ReferenceDataCache.Stats stats = bookService.getReferenceDataCacheStats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.rebuilds()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경으로 목록 변경 번호가 바뀌면 최근 입고된 도서를 다시 조회")
+    void findNewBooks_RevisionChanged() {
+        // given
+        given(catalogVersion.tag()).willReturn("1", "1", "2");
+        given(bookRepository.findNewBooksInfo(4)).willReturn(List.of(BookInfoResponse.builder().title("title").build()));
+
+        // when
+        bookService.findNewBooks();
+        bookService.findNewBooks();
+        bookService.findNewBooks();
+
+        // then
+        then(bookRepository).should(times(2)).findNewBooksInfo(4);
     }
 
     // 도서 4권 생성
@@ -814,6 +1138,21 @@ class BookServiceTest {
         return books;
     }
 
+    // 도서 목록 화면 정보 생성
+    private List<BooksResponse> createBooksResponse(List<Book> books) {
+        return books.stream()
+                .map(book -> BooksResponse.builder()
+                        .id(book.getId())
+                        .quantity(book.getQuantity())
+                        .loanableCnt(book.getLoanableCnt())
+                        .title(book.getBookInfo().getTitle())
+                        .author(book.getBookInfo().getAuthor())
+                        .publisher(book.getBookInfo().getPublisher())
+                        .createdAt(book.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
     @Test
     @DisplayName("전체 도서 조회")
     void findAllBooks() {
@@ -822,14 +1161,14 @@ class BookServiceTest {
         books.add(book);
         // 4권의 도서만 페이지네이션하여 조회
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Book> bookPage = new PageImpl<>(books, pageable, 4);
-        given(bookRepository.findAll(pageable)).willReturn(bookPage);
+        List<BooksResponse> expected = createBooksResponse(books);
+        CursorPage<BooksResponse> bookPage = new CursorPage<>(expected, pageable, 4, null);
+        given(bookRepository.findAllByCursor(isNull(), isNull(), eq(pageable))).willReturn(bookPage);
 
         // when
-        Page<BooksResponse> result = bookService.findBooks(pageable);
+        Page<BooksResponse> result = bookService.findBooks(null, pageable);
 
         // then
-        List<BooksResponse> expected = BooksResponse.from(bookPage);
         // 전체 도서 수는 5권
         assertThat(result.getTotalElements()).isEqualTo(5);
         assertThat(result.getContent()).usingRecursiveComparison().isEqualTo(expected);
@@ -842,11 +1181,12 @@ class BookServiceTest {
         List<Book> books = createBooks();
         books.add(book);
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Book> bookPage = new PageImpl<>(books, pageable, 4);
-        given(bookRepository.findAll(pageable)).willReturn(bookPage);
+        List<Long> bookIds = List.of(1L, 2L, 3L, 4L, 5L);
+        given(bookRepository.searchIds(any(BookSearchCondition.class), eq(pageable))).willReturn(new PageImpl<>(bookIds, pageable, 4));
+        given(bookRepository.findAllByIdInOrder(bookIds)).willReturn(books);
 
         // 찜 정보 생성
-        given(memberBookmarkRepository.existsByMemberIdAndBookId(1L, null)).willReturn(true);
+        given(memberBookmarkRepository.findBookIdsByMemberIdAndBookIdIn(eq(1L), anyList())).willReturn(Collections.singletonList(null));
 
         // when
         Page<BooksMarkResponse> result = bookService.findBooksWithMark(1L, pageable);
@@ -872,11 +1212,12 @@ class BookServiceTest {
             List<Book> books = createBooks();
             books.add(book);
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Book> bookPage = new PageImpl<>(books, pageable, 4);
-            given(bookRepository.search(any(BookSearchCondition.class), any(Pageable.class))).willReturn(bookPage);
+            List<Long> bookIds = List.of(1L, 2L, 3L, 4L, 5L);
+            given(bookRepository.searchIds(any(BookSearchCondition.class), any(Pageable.class))).willReturn(new PageImpl<>(bookIds, pageable, 4));
+            given(bookRepository.findAllByIdInOrder(bookIds)).willReturn(books);
 
             // 찜 정보 생성
-            given(memberBookmarkRepository.existsByMemberIdAndBookId(1L, null)).willReturn(true);
+            given(memberBookmarkRepository.findBookIdsByMemberIdAndBookIdIn(eq(1L), anyList())).willReturn(Collections.singletonList(null));
 
             // when
             Page<BooksMarkResponse> result = bookService.findBooksByCategoryWithMark(1L, 1L, pageable);
@@ -888,8 +1229,9 @@ class BookServiceTest {
             assertThat(result.getContent()).allSatisfy(book -> assertThat(book.isMarked()).isEqualTo(true));
 
             then(bookCategoryRepository).should(times(1)).existsById(categoryId);
-            then(bookRepository).should(times(1)).search(any(BookSearchCondition.class), any(Pageable.class));
-            then(memberBookmarkRepository).should(times(5)).existsByMemberIdAndBookId(1L, null);
+            then(bookRepository).should(times(1)).searchIds(any(BookSearchCondition.class), any(Pageable.class));
+            then(bookRepository).should(times(1)).findAllByIdInOrder(bookIds);
+            then(memberBookmarkRepository).should(times(1)).findBookIdsByMemberIdAndBookIdIn(eq(1L), anyList());
         }
 
         @Test
@@ -929,18 +1271,20 @@ class BookServiceTest {
         void findAllLoanHistory() {
             // given
             Pageable pageable = PageRequest.of(0, 10);
-            Page<MemberLoanHistory> histories = new PageImpl<>(Arrays.asList(memberLoanHis, memberLoanHis2), pageable, 2);
+            List<LoanStatusResponse> content = Arrays.asList(
+                    LoanStatusResponse.builder().id(2L).memberName(member.getName()).bookTitle(bookInfo.getTitle()).createdAt(LocalDateTime.now()).build(),
+                    LoanStatusResponse.builder().id(1L).memberName(member.getName()).bookTitle(bookInfo.getTitle()).createdAt(LocalDateTime.now()).build());
+            CursorPage<LoanStatusResponse> histories = new CursorPage<>(content, pageable, 2, null);
 
-            given(memberLoanHisRepository.findAll(pageable)).willReturn(histories);
+            given(memberLoanHisRepository.findLoanStatusByCursor(eq(LoanStatusFilter.OVERDUE), any(LocalDateTime.class), isNull(), eq(pageable)))
+                    .willReturn(histories);
 
             // when
-            Page<LoanStatusResponse> result = bookService.findAllLoanHistory(pageable);
+            Page<LoanStatusResponse> result = bookService.findAllLoanHistory(LoanStatusFilter.OVERDUE, null, pageable);
 
             // then
-            List<LoanStatusResponse> expectedResponse = LoanStatusResponse.from(histories);
-
             assertThat(result.getTotalElements()).isEqualTo(2);
-            assertThat(result.getContent()).usingRecursiveComparison().isEqualTo(expectedResponse);
+            assertThat(result.getContent()).isEqualTo(content);
         }
 
         @Test
@@ -0,0 +1,104 @@
+package com.plee.library.service.book;
+
+import com.plee.library.domain.book.CatalogRevision;
+import com.plee.library.repository.book.BookRepository;
+import com.plee.library.repository.book.CatalogRevisionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogVersion 테스트")
+class CatalogVersionTest {
+
+    @InjectMocks
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private CatalogRevisionRepository catalogRevisionRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Test
+    @DisplayName("변경 번호를 읽기 전에는 태그를 만들지 않음")
+    void tag_BeforeLoad() {
+        // when, then
+        assertThat(catalogVersion.tag()).isNull();
+    }
+
+    @Test
+    @DisplayName("변경은 DB 에 반영하기 전부터 이 노드의 태그에 반영되고, 모아서 한 번만 증가")
+    void markChanged_Coalesced() {
+        // given
+        given(catalogRevisionRepository.increase(CatalogRevision.ID)).willReturn(1);
+        given(catalogRevisionRepository.findRevision(CatalogRevision.ID)).willReturn(Optional.of(5L), Optional.of(6L));
+        catalogVersion.init();
+        String before = catalogVersion.tag();
+
+        // when
+        catalogVersion.markChanged();
+        catalogVersion.markChanged();
+        String pending = catalogVersion.tag();
+        catalogVersion.flush();
+
+        // then
+        assertThat(before).isEqualTo("5");
+        assertThat(pending).isNotEqualTo(before);
+        assertThat(catalogVersion.tag()).isEqualTo("6");
+        // 서버 시작 시 한 번, 반영 시 한 번만 증가
+        then(catalogRevisionRepository).should(times(2)).increase(CatalogRevision.ID);
+    }
+
+    @Test
+    @DisplayName("반영할 변경이 없으면 다른 노드의 변경 번호만 읽음")
+    void flush_NoPending() {
+        // given
+        given(catalogRevisionRepository.findRevision(CatalogRevision.ID)).willReturn(Optional.of(7L));
+
+        // when
+        catalogVersion.flush();
+
+        // then
+        assertThat(catalogVersion.tag()).isEqualTo("7");
+        then(catalogRevisionRepository).should(never()).increase(anyLong());
+    }
+
+    @Test
+    @DisplayName("도서 상세 화면의 태그는 도서의 수정 시간으로 만들고, 반복 요청 시 DB 를 조회하지 않음")
+    void bookTag() {
+        // given
+        given(catalogRevisionRepository.findRevision(CatalogRevision.ID)).willReturn(Optional.of(1L));
+        given(bookRepository.findLastUpdatedAtById(1L)).willReturn(Optional.of(LocalDateTime.of(2023, 9, 30, 0, 0)));
+        catalogVersion.flush();
+
+        // when
+        String first = catalogVersion.bookTag(1L);
+        String second = catalogVersion.bookTag(1L);
+
+        // then
+        assertThat(first).startsWith("1-1.").isEqualTo(second);
+        then(bookRepository).should(times(1)).findLastUpdatedAtById(1L);
+    }
+
+    @Test
+    @DisplayName("없는 도서는 태그를 만들지 않음")
+    void bookTag_NotFound() {
+        // given
+        given(catalogRevisionRepository.findRevision(CatalogRevision.ID)).willReturn(Optional.of(1L));
+        given(bookRepository.findLastUpdatedAtById(1L)).willReturn(Optional.empty());
+        catalogVersion.flush();
+
+        // when, then
+        assertThat(catalogVersion.bookTag(1L)).isNull();
+    }
+}
@@ -0,0 +1,192 @@
+package com.plee.library.service.book;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plee.library.config.NaverApiStubServer;
+import com.plee.library.config.NaverBookSearchConfig;
+import com.plee.library.dto.book.request.SearchApiBookRequest;
+import com.plee.library.dto.book.response.SearchBookResponse;
+import com.plee.library.util.message.BookMessage;
+import com.plee.library.util.resilience.TokenBucketRateLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("NaverBookSearchCache 테스트")
+class NaverBookSearchCacheTest {
+
+    private NaverApiStubServer stubServer;
+    private MutableClock clock;
+    private NaverBookSearchCache naverBookSearchCache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = new NaverApiStubServer();
+        NaverBookSearchConfig naverBookSearchConfig = new NaverBookSearchConfig(new ObjectMapper(), "test-id", "test-secret",
+                stubServer.getUrl(), Duration.ofSeconds(1), Duration.ofSeconds(1), 10, 5, Duration.ofSeconds(30),
+                new TokenBucketRateLimiter(100, 100, 10000, 10, Duration.ofSeconds(1)));
+
+        clock = new MutableClock(Instant.parse("2023-09-30T00:00:00Z"));
+        naverBookSearchCache = new NaverBookSearchCache(naverBookSearchConfig, 2, Duration.ofMinutes(10), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.close();
+    }
+
+    @Test
+    @DisplayName("정규화한 키워드가 같은 검색은 캐시된 결과 반환")
+    void search_hit() {
+        // when
+        SearchBookResponse first = naverBookSearchCache.search(new SearchApiBookRequest("Java"), TokenBucketRateLimiter.Priority.NORMAL).join();
+        SearchBookResponse second = naverBookSearchCache.search(new SearchApiBookRequest("  java "), TokenBucketRateLimiter.Priority.NORMAL).join();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getItems().get(0).getTitle()).isEqualTo("java");
+        assertThat(stubServer.getRequestCount()).isEqualTo(1);
+        assertThat(naverBookSearchCache.getStats()).isEqualTo(new NaverBookSearchCache.Stats(1, 1, 0, 0, 1));
+    }
+
+    @Test
+    @DisplayName("페이지 정보가 다른 검색은 따로 조회")
+    void search_differentPage() {
+        // given
+        SearchApiBookRequest secondPage = new SearchApiBookRequest("java");
+        secondPage.setStart(51);
+
+        // when
+        naverBookSearchCache.search(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL).join();
+        naverBookSearchCache.search(secondPage, TokenBucketRateLimiter.Priority.NORMAL).join();
+
+        // then
+        assertThat(stubServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("유지 시간이 지난 결과는 다시 조회")
+    void search_expired() {
+        // given
+        naverBookSearchCache.search(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL).join();
+        clock.plus(Duration.ofMinutes(10));
+
+        // when
+        naverBookSearchCache.search(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL).join();
+
+        // then
+        assertThat(stubServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 결과 제거")
+    void search_evictLeastRecentlyUsed() {
+        // given
+        naverBookSearchCache.search(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL).join();
+        naverBookSearchCache.search(new SearchApiBookRequest("spring"), TokenBucketRateLimiter.Priority.NORMAL).join();
+        // java 를 다시 사용하여 spring 이 가장 오래 사용되지 않은 결과가 됨
+        naverBookSearchCache.search(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL).join();
+
+        // when
+        naverBookSearchCache.search(new SearchApiBookRequest("jpa"), TokenBucketRateLimiter.Priority.NORMAL).join();
+        naverBookSearchCache.search(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL).join();
+        naverBookSearchCache.search(new SearchApiBookRequest("spring"), TokenBucketRateLimiter.Priority.NORMAL).join();
+
+        // then
+        // java 1번, spring 2번, jpa 1번 조회
+        assertThat(stubServer.getRequestCount()).isEqualTo(4);
+        assertThat(naverBookSearchCache.getStats().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시에 요청된 같은 검색은 한 번만 조회하고 결과 공유")
+    void search_coalesce() {
+        // given
+        int requests = 5;
+        stubServer.hold();
+
+        // when
+        List<CompletableFuture<SearchBookResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(naverBookSearchCache.search(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL));
+        }
+        stubServer.release();
+
+        // then
+        SearchBookResponse first = futures.get(0).join();
+        for (CompletableFuture<SearchBookResponse> future : futures) {
+            assertThat(future.join()).isSameAs(first);
+        }
+        assertThat(stubServer.getRequestCount()).isEqualTo(1);
+        assertThat(naverBookSearchCache.getStats().coalesced()).isEqualTo(requests - 1);
+    }
+
+    @Test
+    @DisplayName("실패한 검색은 캐싱하지 않음")
+    void search_failNotCached() {
+        // given
+        stubServer.respondWith(500);
+
+        // when, then
+        assertThatThrownBy(() -> naverBookSearchCache.search(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL).join())
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(BookMessage.API_ERROR.getMessage());
+
+        stubServer.respondWith(200);
+        naverBookSearchCache.search(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL).join();
+        assertThat(stubServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검색에 실패한 경우 만료된 이전 결과 반환")
+    void search_staleFallback() {
+        // given
+        SearchBookResponse first = naverBookSearchCache.search(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL).join();
+        clock.plus(Duration.ofMinutes(10));
+        stubServer.respondWith(500);
+
+        // when
+        SearchBookResponse result = naverBookSearchCache.search(new SearchApiBookRequest("java"), TokenBucketRateLimiter.Priority.NORMAL).join();
+
+        // then
+        assertThat(result).isSameAs(first);
+        assertThat(naverBookSearchCache.getStats().fallbacks()).isEqualTo(1);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void plus(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.plee.library.service.book;
+
+import com.plee.library.domain.book.BookInfo;
+import com.plee.library.domain.job.JobCheckpoint;
+import com.plee.library.domain.member.Member;
+import com.plee.library.domain.member.MemberLoanHistory;
+import com.plee.library.domain.stats.LoanStatsType;
+import com.plee.library.repository.book.BookRepository;
+import com.plee.library.repository.job.JobCheckpointRepository;
+import com.plee.library.repository.member.MemberLoanHistoryRepository;
+import com.plee.library.repository.member.MemberRepository;
+import com.plee.library.service.job.JobLease;
+import com.plee.library.service.job.JobLockManager;
+import com.plee.library.service.stats.LoanStatsRecorder;
+import com.plee.library.util.message.BookMessage;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OverdueReturnProcessor 테스트")
+class OverdueReturnProcessorTest {
+
+    @Mock
+    private MemberLoanHistoryRepository memberLoanHisRepository;
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+    @Mock
+    private JobLockManager jobLockManager;
+    @Mock
+    private LoanStatsRecorder loanStatsRecorder;
+    @Mock
+    private CatalogVersion catalogVersion;
+    @InjectMocks
+    private OverdueReturnProcessor overdueReturnProcessor;
+
+    private static final String JOB_NAME = "overdue-return";
+
+    private final LocalDateTime scheduledAt = LocalDate.now().atStartOfDay();
+    private final JobLease lease = new JobLease(JOB_NAME, 1L, scheduledAt, Duration.ofMinutes(5));
+    private JobCheckpoint checkpoint;
+
+    @BeforeEach
+    void setUp() {
+        checkpoint = JobCheckpoint.builder()
+                .jobName(JOB_NAME)
+                .scheduledAt(scheduledAt)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("반납 작업 시작")
+    class StartTest {
+
+        @Test
+        @DisplayName("체크포인트가 없는 경우 처음부터 처리")
+        void start_first() {
+            // given
+            given(jobCheckpointRepository.findById(JOB_NAME)).willReturn(Optional.empty());
+
+            // when
+            Long lastId = overdueReturnProcessor.start(lease, scheduledAt);
+
+            // then
+            assertThat(lastId).isZero();
+            then(jobCheckpointRepository).should().save(any(JobCheckpoint.class));
+        }
+
+        @Test
+        @DisplayName("같은 실행 시간의 작업이 중단된 경우 마지막으로 처리한 위치부터 처리")
+        void start_resume() {
+            // given
+            checkpoint.advance(10L);
+            given(jobCheckpointRepository.findById(JOB_NAME)).willReturn(Optional.of(checkpoint));
+
+            // when
+            Long lastId = overdueReturnProcessor.start(lease, scheduledAt);
+
+            // then
+            assertThat(lastId).isEqualTo(10L);
+        }
+
+        @Test
+        @DisplayName("이전 작업이 완료된 경우 처음부터 처리")
+        void start_afterComplete() {
+            // given
+            checkpoint.advance(10L);
+            checkpoint.complete();
+            given(jobCheckpointRepository.findById(JOB_NAME)).willReturn(Optional.of(checkpoint));
+
+            // when
+            Long lastId = overdueReturnProcessor.start(lease, scheduledAt.plusDays(1));
+
+            // then
+            assertThat(lastId).isZero();
+            assertThat(checkpoint.isCompleted()).isFalse();
+            assertThat(checkpoint.getScheduledAt()).isEqualTo(scheduledAt.plusDays(1));
+        }
+
+        @Test
+        @DisplayName("중단된 작업은 일정 시간과 관계없이 이어서 처리")
+        void start_resumeInterrupted() {
+            // given
+            checkpoint.advance(10L);
+            given(jobCheckpointRepository.findById(JOB_NAME)).willReturn(Optional.of(checkpoint));
+
+            // when
+            LocalDateTime interruptedAt = overdueReturnProcessor.findInterrupted(JOB_NAME).orElseThrow();
+            Long lastId = overdueReturnProcessor.start(lease, interruptedAt);
+
+            // then
+            assertThat(interruptedAt).isEqualTo(scheduledAt);
+            assertThat(lastId).isEqualTo(10L);
+
+            // given
+            checkpoint.complete();
+
+            // when, then
+            assertThat(overdueReturnProcessor.findInterrupted(JOB_NAME)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("대출 이력 묶음 반납 처리")
+    class ReturnChunkTest {
+        private final List<Long> historyIds = List.of(1L, 2L, 3L);
+        private List<MemberLoanHistory> histories;
+
+        @BeforeEach
+        void setUp() {
+            Member member = Member.builder().id(1L).build();
+            BookInfo bookInfo1 = BookInfo.builder().isbn("9788994492081").build();
+            BookInfo bookInfo2 = BookInfo.builder().isbn("9788994492082").build();
+            histories = List.of(createHistory(1L, member, bookInfo1), createHistory(2L, member, bookInfo1),
+                    createHistory(3L, member, bookInfo2));
+            given(memberLoanHisRepository.findOverdueByIdInForUpdate(historyIds, scheduledAt)).willReturn(histories);
+        }
+
+        @Test
+        @DisplayName("잠그고 조회한 대출 이력을 도서, 회원 별로 합산하여 수량을 변경하고 체크포인트 저장")
+        void returnChunk() {
+            // given
+            given(memberLoanHisRepository.updateReturnedAtByIdIn(historyIds, scheduledAt)).willReturn(3);
+            given(bookRepository.increaseLoanableCntByIsbn(anyString(), anyInt())).willReturn(1);
+            given(memberRepository.decreaseActiveLoanCount(1L, 3)).willReturn(1);
+            given(jobCheckpointRepository.findById(JOB_NAME)).willReturn(Optional.of(checkpoint));
+
+            // when
+            int result = overdueReturnProcessor.returnChunk(lease, historyIds, scheduledAt);
+
+            // then
+            assertThat(result).isEqualTo(3);
+            then(bookRepository).should().increaseLoanableCntByIsbn("9788994492081", 2);
+            then(bookRepository).should().increaseLoanableCntByIsbn("9788994492082", 1);
+            assertThat(checkpoint.getLastProcessedId()).isEqualTo(3L);
+            then(loanStatsRecorder).should().record(LoanStatsType.OVERDUE_RETURN, scheduledAt.toLocalDate(), 3);
+        }
+
+        @Test
+        @DisplayName("조회 이후 회원이 직접 반납하거나 연장한 대출 이력은 수량을 변경하지 않음")
+        void returnChunk_skipReturned() {
+            // given
+            // 1번 대출 이력은 이미 반납되어 잠그고 조회한 결과에서 제외
+            given(memberLoanHisRepository.findOverdueByIdInForUpdate(historyIds, scheduledAt))
+                    .willReturn(histories.subList(1, 3));
+            given(memberLoanHisRepository.updateReturnedAtByIdIn(List.of(2L, 3L), scheduledAt)).willReturn(2);
+            given(bookRepository.increaseLoanableCntByIsbn(anyString(), anyInt())).willReturn(1);
+            given(memberRepository.decreaseActiveLoanCount(1L, 2)).willReturn(1);
+            given(jobCheckpointRepository.findById(JOB_NAME)).willReturn(Optional.of(checkpoint));
+
+            // when
+            int result = overdueReturnProcessor.returnChunk(lease, historyIds, scheduledAt);
+
+            // then
+            assertThat(result).isEqualTo(2);
+            then(bookRepository).should().increaseLoanableCntByIsbn("9788994492081", 1);
+            then(bookRepository).should().increaseLoanableCntByIsbn("9788994492082", 1);
+            assertThat(checkpoint.getLastProcessedId()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("실패: 대출 가능한 수량이 올바르지 않은 경우")
+        void returnChunk_failInvalidLoanableCnt() {
+            // given
+            given(memberLoanHisRepository.updateReturnedAtByIdIn(historyIds, scheduledAt)).willReturn(3);
+            given(bookRepository.increaseLoanableCntByIsbn(anyString(), anyInt())).willReturn(0);
+
+            // when, then
+            assertThatThrownBy(() -> overdueReturnProcessor.returnChunk(lease, historyIds, scheduledAt))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining(BookMessage.INVALID_LOANABLE_CNT.getMessage());
+            assertThat(checkpoint.getLastProcessedId()).isZero();
+        }
+
+        private MemberLoanHistory createHistory(Long id, Member member, BookInfo bookInfo) {
+            MemberLoanHistory history = new MemberLoanHistory(member, bookInfo);
+            ReflectionTestUtils.setField(history, "id", id);
+            return history;
+        }
+    }
+
+    @Test
+    @DisplayName("실패: 잠금이 만료되어 다른 노드가 잠금을 획득한 경우")
+    void returnChunk_failLockLost() {
+        // given
+        willThrow(new IllegalStateException("lock lost")).given(jobLockManager).validate(lease);
+
+        // when, then
+        assertThatThrownBy(() -> overdueReturnProcessor.returnChunk(lease, List.of(1L), scheduledAt))
+                .isInstanceOf(IllegalStateException.class);
+        then(memberLoanHisRepository).shouldHaveNoInteractions();
+    }
+}
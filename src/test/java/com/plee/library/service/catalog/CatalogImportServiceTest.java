@@ -0,0 +1,189 @@
+package com.plee.library.service.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plee.library.domain.book.BookCategory;
+import com.plee.library.dto.admin.request.ExportFormat;
+import com.plee.library.dto.admin.response.CatalogImportResult;
+import com.plee.library.repository.book.BookCategoryRepository;
+import com.plee.library.repository.book.BookCountCache;
+import com.plee.library.service.book.BookSearchIndex;
+import com.plee.library.service.book.CatalogVersion;
+import com.plee.library.service.book.ReferenceDataCache;
+import com.plee.library.util.message.BookMessage;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogImportService 테스트")
+class CatalogImportServiceTest {
+
+    private static final String HEADER = "isbn,title,author,publisher,image,description,pubDate,quantity,categoryId\n";
+
+    @Mock
+    private CatalogImportWriter catalogImportWriter;
+    @Mock
+    private BookCategoryRepository bookCategoryRepository;
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+    @Mock
+    private BookCountCache bookCountCache;
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private CatalogImportService catalogImportService;
+
+    @BeforeEach
+    void setUp() {
+        catalogImportService = new CatalogImportService(catalogImportWriter, bookCategoryRepository, bookSearchIndex,
+                bookCountCache, new ReferenceDataCache(), catalogVersion, new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator());
+        given(bookCategoryRepository.findAll()).willReturn(List.of(new BookCategory(1L, "프로그래밍")));
+    }
+
+    @Test
+    @DisplayName("CSV 도서 목록 입고, 따옴표로 감싼 쉼표와 줄바꿈 처리")
+    void importCsv() throws IOException {
+        // given
+        String csv = HEADER
+                + "9788994492032,Java의 정석,남궁성,도우출판,,\"자바 입문서, 기본서\",20160201,3,1\n"
+                + "978-89-6626-228-1,\"이펙티브 \"\"자바\"\"\",조슈아 블로크,인사이트,,\"첫 줄\n둘째 줄\",20181101,2,1\n";
+        given(catalogImportWriter.write(anyList())).willReturn(new CatalogImportWriter.Result(2, 1, List.of()));
+
+        // when
+        CatalogImportResult result = catalogImportService.importCatalog(ExportFormat.CSV, toStream(csv));
+
+        // then
+        ArgumentCaptor<List<CatalogImportLine>> captor = ArgumentCaptor.forClass(List.class);
+        then(catalogImportWriter).should().write(captor.capture());
+        List<CatalogImportLine> lines = captor.getValue();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).request().getDescription()).isEqualTo("자바 입문서, 기본서");
+        assertThat(lines.get(1).request().getIsbn()).isEqualTo("9788966262281");
+        assertThat(lines.get(1).request().getTitle()).isEqualTo("이펙티브 \"자바\"");
+        assertThat(lines.get(1).request().getDescription()).isEqualTo("첫 줄\n둘째 줄");
+        assertThat(lines.get(1).line()).isEqualTo(3);
+
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getApprovedRequests()).isEqualTo(1);
+        then(bookSearchIndex).should().rebuild();
+        then(bookCountCache).should().invalidate();
+    }
+
+    @Test
+    @DisplayName("gzip 으로 압축된 JSON Lines 도서 목록 입고")
+    void importGzipJsonLines() throws IOException {
+        // given
+        String jsonl = "{\"isbn\":\"9788994492032\",\"title\":\"Java의 정석\",\"quantity\":3,\"categoryId\":1,\"extra\":\"무시\"}\n"
+                + "\n"
+                + "{\"isbn\":\"9788966262281\",\"title\":\"이펙티브 자바\",\"quantity\":2,\"categoryId\":1}\n";
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(jsonl.getBytes(StandardCharsets.UTF_8));
+        }
+        given(catalogImportWriter.write(anyList())).willReturn(new CatalogImportWriter.Result(2, 0, List.of()));
+
+        // when
+        CatalogImportResult result = catalogImportService.importCatalog(ExportFormat.JSONL,
+                new ByteArrayInputStream(compressed.toByteArray()));
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getRejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 행은 거절하고 나머지 도서 입고")
+    void importWithRejects() throws IOException {
+        // given
+        String csv = HEADER
+                + "9788994492032,Java의 정석,,,,,,3,1\n"
+                + "9788994492032,Java의 정석,,,,,,3,1\n"
+                + "1234,잘못된 ISBN,,,,,,1,1\n"
+                + "9788966262281,,,,,,,1,1\n"
+                + "9791162241844,없는 카테고리,,,,,,1,99\n"
+                + "9788968481475,수량 오류,,,,,,many,1\n";
+        given(catalogImportWriter.write(anyList())).willReturn(new CatalogImportWriter.Result(1, 0, List.of()));
+
+        // when
+        CatalogImportResult result = catalogImportService.importCatalog(ExportFormat.CSV, toStream(csv));
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(6);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(5);
+        assertThat(result.getRejects())
+                .extracting(CatalogImportResult.Reject::line)
+                .containsExactly(3L, 4L, 5L, 6L, 7L);
+        assertThat(result.getRejects())
+                .extracting(CatalogImportResult.Reject::reason)
+                .contains(BookMessage.DUPLICATE_IMPORT_ISBN.getMessage(), BookMessage.REQUIRED_BOOK_TITLE.getMessage(),
+                        BookMessage.NOT_FOUND_CATEGORY.getMessage(), BookMessage.INVALID_IMPORT_ROW.getMessage());
+    }
+
+    @Test
+    @DisplayName("이미 존재하는 도서와 저장에 실패한 묶음은 거절")
+    void importAlreadyExistsAndFailed() throws IOException {
+        // given
+        String csv = HEADER + "9788994492032,Java의 정석,,,,,,3,1\n";
+        given(catalogImportWriter.write(anyList())).willAnswer(invocation -> {
+            List<CatalogImportLine> lines = invocation.getArgument(0);
+            return new CatalogImportWriter.Result(0, 0, List.copyOf(lines));
+        });
+
+        // when
+        CatalogImportResult result = catalogImportService.importCatalog(ExportFormat.CSV, toStream(csv));
+
+        // then
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getRejects()).extracting(CatalogImportResult.Reject::reason)
+                .containsExactly(BookMessage.ALREADY_EXIST_BOOK.getMessage());
+        then(bookSearchIndex).shouldHaveNoInteractions();
+
+        // given
+        given(catalogImportWriter.write(anyList())).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        CatalogImportResult failed = catalogImportService.importCatalog(ExportFormat.CSV, toStream(csv));
+
+        // then
+        assertThat(failed.getRejects()).extracting(CatalogImportResult.Reject::reason)
+                .containsExactly(BookMessage.FAILED_IMPORT_BOOK.getMessage());
+    }
+
+    @Test
+    @DisplayName("실패: CSV 에 필수 열이 없는 경우")
+    void importWithoutRequiredColumns() {
+        // given
+        String csv = "isbn,title\n9788994492032,Java의 정석\n";
+
+        // when, then
+        assertThatThrownBy(() -> catalogImportService.importCatalog(ExportFormat.CSV, toStream(csv)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(BookMessage.INVALID_IMPORT_FILE.getMessage());
+        then(catalogImportWriter).shouldHaveNoInteractions();
+    }
+
+    private InputStream toStream(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
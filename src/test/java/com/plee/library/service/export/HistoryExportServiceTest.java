@@ -0,0 +1,97 @@
+package com.plee.library.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.plee.library.dto.admin.request.ExportFormat;
+import com.plee.library.dto.admin.response.LoanHistoryExportRow;
+import com.plee.library.dto.admin.response.RequestHistoryExportRow;
+import com.plee.library.repository.member.MemberLoanHistoryRepository;
+import com.plee.library.repository.member.MemberRequestHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HistoryExportService 테스트")
+class HistoryExportServiceTest {
+
+    @Mock
+    private MemberLoanHistoryRepository memberLoanHisRepository;
+    @Mock
+    private MemberRequestHistoryRepository memberReqHisRepository;
+
+    private HistoryExportService historyExportService;
+    private LocalDateTime loanedAt;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        historyExportService = new HistoryExportService(memberLoanHisRepository, memberReqHisRepository, objectMapper);
+        loanedAt = LocalDateTime.of(2023, 9, 30, 10, 0);
+    }
+
+    @Test
+    @DisplayName("대출 이력을 gzip 으로 압축한 CSV 로 내보내고 스트림을 닫음")
+    void exportLoanHistory_csv() throws IOException {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        given(memberLoanHisRepository.streamAllForExport()).willReturn(Stream.of(
+                new LoanHistoryExportRow(1L, 1L, "test@gmail.com", "이푸름", "9788994492081", "자바, \"기초\"",
+                        false, loanedAt, loanedAt.plusDays(7), null)
+        ).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        historyExportService.exportLoanHistory(ExportFormat.CSV, out);
+
+        // then
+        assertThat(gunzip(out)).isEqualTo(
+                "id,memberId,loginId,memberName,isbn,title,isRenew,loanedAt,dueAt,returnedAt\n" +
+                "1,1,test@gmail.com,이푸름,9788994492081,\"자바, \"\"기초\"\"\",false,2023-09-30T10:00,2023-10-07T10:00,\n");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("신규 도서 요청 이력을 gzip 으로 압축한 JSON Lines 로 내보냄")
+    void exportRequestHistory_jsonl() throws IOException {
+        // given
+        given(memberReqHisRepository.streamAllForExport()).willReturn(Stream.of(
+                new RequestHistoryExportRow(1L, 1L, "test@gmail.com", "9788994492081", "title", "reason", true, loanedAt),
+                new RequestHistoryExportRow(2L, 1L, "test@gmail.com", "9788994492082", "title2", "reason2", false, loanedAt)
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        historyExportService.exportRequestHistory(ExportFormat.JSONL, out);
+
+        // then
+        String[] lines = gunzip(out).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"id\":1", "\"requestReason\":\"reason\"", "\"requestedAt\":\"2023-09-30T10:00:00\"");
+        assertThat(lines[1]).contains("\"id\":2", "\"requestReason\":\"reason2\"");
+    }
+
+    private String gunzip(ByteArrayOutputStream out) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
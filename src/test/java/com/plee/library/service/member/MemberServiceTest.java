@@ -22,6 +22,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import com.plee.library.service.book.CatalogVersion;
+import com.plee.library.service.stats.CirculationEvent;
+import com.plee.library.service.stats.CirculationMetrics;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -56,6 +59,10 @@ class MemberServiceTest {
     private BookInfoRepository bookInfoRepository;
     @Mock
     private BCryptPasswordEncoder passwordEncoder;
+    @Mock
+    private CatalogVersion catalogVersion;
+    @Mock
+    private CirculationMetrics circulationMetrics;
     @InjectMocks
     private MemberServiceImpl memberService;
 
@@ -432,6 +439,7 @@ class MemberServiceTest {
             // then
             then(bookRepository).should(never()).findByBookInfoIsbn(anyString());
             then(memberRepository).should(times(1)).delete(any(Member.class));
+            then(circulationMetrics).should(never()).recordAfterCommit(any(CirculationEvent.class));
         }
 
         @Test
@@ -466,7 +474,9 @@ class MemberServiceTest {
             then(bookRepository).should(times(1)).findByBookInfoIsbn(anyString());
             then(memberRepository).should(times(1)).delete(any(Member.class));
             // 도서 수량 증가 확인
-            assertThat(book.getLoanableCnt()).isEqualTo(2);
+            then(bookRepository).should(times(1)).increaseLoanableCnt(book.getId(), 1);
+            // 강제 반납도 반납 통계에 기록
+            then(circulationMetrics).should(times(1)).recordAfterCommit(CirculationEvent.RETURN);
         }
 
         @Test
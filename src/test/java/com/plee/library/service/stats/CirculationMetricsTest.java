@@ -0,0 +1,162 @@
+package com.plee.library.service.stats;
+
+import com.plee.library.domain.stats.LoanStatsType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.*;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CirculationMetrics 테스트")
+class CirculationMetricsTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private MutableClock clock;
+    private CirculationMetrics circulationMetrics;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(LocalDateTime.of(2023, 9, 30, 12, 0).atZone(ZONE).toInstant());
+        circulationMetrics = new CirculationMetrics(clock);
+    }
+
+    @Test
+    @DisplayName("오늘, 최근 1시간 동안의 이벤트 수 조회")
+    void record() {
+        // given
+        circulationMetrics.record(CirculationEvent.LOAN);
+        circulationMetrics.record(CirculationEvent.LOAN);
+        circulationMetrics.record(CirculationEvent.LOAN_FAILED_MAX_LOAN);
+
+        // when
+        Map<CirculationEvent, Long> today = circulationMetrics.getTodayCounts();
+        Map<CirculationEvent, Long> lastHour = circulationMetrics.getLastHourCounts();
+
+        // then
+        assertThat(today.get(CirculationEvent.LOAN)).isEqualTo(2);
+        assertThat(today.get(CirculationEvent.LOAN_FAILED_MAX_LOAN)).isEqualTo(1);
+        assertThat(today.get(CirculationEvent.RETURN)).isZero();
+        assertThat(lastHour).isEqualTo(today);
+    }
+
+    @Test
+    @DisplayName("1시간이 지난 이벤트는 최근 1시간 이벤트 수에서 제외")
+    void getLastHourCounts_expired() {
+        // given
+        circulationMetrics.record(CirculationEvent.RETURN);
+        clock.plus(Duration.ofMinutes(30));
+        circulationMetrics.record(CirculationEvent.RETURN);
+        clock.plus(Duration.ofMinutes(31));
+
+        // when, then
+        assertThat(circulationMetrics.getLastHourCounts().get(CirculationEvent.RETURN)).isEqualTo(1);
+        assertThat(circulationMetrics.getTodayCounts().get(CirculationEvent.RETURN)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 오늘 이벤트 수 초기화")
+    void getTodayCounts_nextDay() {
+        // given
+        circulationMetrics.record(CirculationEvent.RENEW);
+        clock.plus(Duration.ofHours(12));
+
+        // when, then
+        assertThat(circulationMetrics.getTodayCounts().get(CirculationEvent.RENEW)).isZero();
+    }
+
+    @Test
+    @DisplayName("통계 테이블에 반영할 이벤트 수만 꺼내고, 이미 꺼낸 수는 다시 꺼내지 않음")
+    void drainPending() {
+        // given
+        LocalDate date = LocalDate.now(clock);
+        circulationMetrics.record(CirculationEvent.LOAN);
+        circulationMetrics.record(CirculationEvent.BOOKMARK);
+        circulationMetrics.record(CirculationEvent.LOAN_FAILED_CANNOT_LOAN);
+
+        // when
+        Map<LocalDate, Map<LoanStatsType, Long>> result = circulationMetrics.drainPending();
+
+        // then
+        assertThat(result).containsOnlyKeys(date);
+        assertThat(result.get(date)).containsOnly(
+                entry(LoanStatsType.LOAN, 1L),
+                entry(LoanStatsType.BOOKMARK, 1L),
+                entry(LoanStatsType.LOAN_FAILED_CANNOT_LOAN, 1L));
+        assertThat(circulationMetrics.drainPending()).isEmpty();
+        // 오늘 이벤트 수는 유지
+        assertThat(circulationMetrics.getTodayCounts().get(CirculationEvent.BOOKMARK)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 이벤트 수는 다음에 다시 꺼냄")
+    void restorePending() {
+        // given
+        LocalDate date = LocalDate.now(clock);
+        circulationMetrics.record(CirculationEvent.BOOKMARK);
+        Map<LocalDate, Map<LoanStatsType, Long>> drained = circulationMetrics.drainPending();
+        circulationMetrics.record(CirculationEvent.BOOKMARK);
+
+        // when
+        circulationMetrics.restorePending(drained);
+
+        // then
+        assertThat(circulationMetrics.drainPending().get(date)).containsOnly(entry(LoanStatsType.BOOKMARK, 2L));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 발생한 이벤트는 커밋된 경우에만 기록")
+    void recordAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            circulationMetrics.recordAfterCommit(CirculationEvent.LOAN);
+            circulationMetrics.recordAfterCommit(CirculationEvent.RETURN);
+            assertThat(circulationMetrics.getTodayCounts().get(CirculationEvent.LOAN)).isZero();
+
+            // when
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.get(0).afterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        // 커밋되지 않은 반납은 기록하지 않음
+        assertThat(circulationMetrics.drainPending().get(LocalDate.now(clock))).containsOnly(entry(LoanStatsType.LOAN, 1L));
+        assertThat(circulationMetrics.getTodayCounts().get(CirculationEvent.RETURN)).isZero();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void plus(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
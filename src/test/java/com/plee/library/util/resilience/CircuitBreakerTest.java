@@ -0,0 +1,98 @@
+package com.plee.library.util.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CircuitBreaker 테스트")
+class CircuitBreakerTest {
+
+    private Instant now;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.parse("2023-09-30T00:00:00Z");
+        circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(30), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("연속 실패 횟수가 기준에 도달하면 호출 차단")
+    void onFailure_open() {
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수 초기화")
+    void onSuccess_reset() {
+        // when
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나기 전에는 호출 차단")
+    void open_beforeDuration() {
+        // given
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        // when, then
+        assertThat(circuitBreaker.isCallPermitted()).isFalse();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 시험 호출 1건만 허용하고, 성공하면 차단 해제")
+    void halfOpen_success() {
+        // given
+        CircuitBreaker expired = new CircuitBreaker(2, Duration.ZERO, Clock.fixed(now, ZoneOffset.UTC));
+        expired.onFailure();
+        expired.onFailure();
+
+        // when, then
+        // 확인만으로는 상태가 바뀌지 않음
+        assertThat(expired.isCallPermitted()).isTrue();
+        assertThat(expired.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(expired.tryAcquirePermission()).isTrue();
+        assertThat(expired.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(expired.tryAcquirePermission()).isFalse();
+        expired.onSuccess();
+        assertThat(expired.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 호출 차단")
+    void halfOpen_failure() {
+        // given
+        CircuitBreaker expired = new CircuitBreaker(2, Duration.ZERO, Clock.fixed(now, ZoneOffset.UTC));
+        expired.onFailure();
+        expired.onFailure();
+        expired.tryAcquirePermission();
+
+        // when
+        expired.onFailure();
+
+        // then
+        assertThat(expired.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,126 @@
+package com.plee.library.util.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TokenBucketRateLimiter 테스트")
+class TokenBucketRateLimiterTest {
+
+    // 시간이 흐르지 않아 토큰이 다시 채워지지 않는 시계
+    private final Clock fixedClock = Clock.fixed(Instant.parse("2023-09-30T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("토큰이 있으면 바로 허용")
+    void acquire_immediately() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 2, 100, 10, Duration.ofSeconds(1), fixedClock);
+
+        // when
+        CompletableFuture<Void> first = rateLimiter.acquire(TokenBucketRateLimiter.Priority.NORMAL);
+        CompletableFuture<Void> second = rateLimiter.acquire(TokenBucketRateLimiter.Priority.NORMAL);
+
+        // then
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        TokenBucketRateLimiter.Stats stats = rateLimiter.getStats();
+        assertThat(stats.permitted()).isEqualTo(2);
+        assertThat(stats.dailyUsed()).isEqualTo(2);
+        assertThat(stats.availableTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰이 채워지면 우선순위가 높은 요청부터 허용")
+    void acquire_priority() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(10, 1, 100, 10, Duration.ofSeconds(5));
+        rateLimiter.acquire(TokenBucketRateLimiter.Priority.NORMAL).join();
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        // when
+        CompletableFuture<Void> member = rateLimiter.acquire(TokenBucketRateLimiter.Priority.NORMAL)
+                .thenRun(() -> order.add("member"));
+        CompletableFuture<Void> admin = rateLimiter.acquire(TokenBucketRateLimiter.Priority.HIGH)
+                .thenRun(() -> order.add("admin"));
+        CompletableFuture.allOf(member, admin).join();
+
+        // then
+        assertThat(order).containsExactly("admin", "member");
+        assertThat(rateLimiter.getStats().queued()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("호출하지 않은 허가를 반환하면 토큰과 하루 호출 수를 되돌림")
+    void refund() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, 100, 10, Duration.ofSeconds(1), fixedClock);
+        rateLimiter.acquire(TokenBucketRateLimiter.Priority.NORMAL).join();
+
+        // when
+        rateLimiter.refund();
+
+        // then
+        TokenBucketRateLimiter.Stats stats = rateLimiter.getStats();
+        assertThat(stats.availableTokens()).isEqualTo(1);
+        assertThat(stats.dailyUsed()).isZero();
+        assertThat(rateLimiter.acquire(TokenBucketRateLimiter.Priority.NORMAL)).isCompleted();
+    }
+
+    @Test
+    @DisplayName("실패: 대기열이 가득 찬 경우 바로 거절")
+    void acquire_queueFull() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, 100, 1, Duration.ofSeconds(1), fixedClock);
+        rateLimiter.acquire(TokenBucketRateLimiter.Priority.NORMAL);
+        rateLimiter.acquire(TokenBucketRateLimiter.Priority.NORMAL);
+
+        // when, then
+        assertThatThrownBy(() -> rateLimiter.acquire(TokenBucketRateLimiter.Priority.HIGH).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(rateLimiter.getStats().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패: 최대 대기 시간이 지난 경우")
+    void acquire_timeout() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1, 100, 10, Duration.ofMillis(100), fixedClock);
+        rateLimiter.acquire(TokenBucketRateLimiter.Priority.NORMAL);
+
+        // when, then
+        assertThatThrownBy(() -> rateLimiter.acquire(TokenBucketRateLimiter.Priority.NORMAL).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        TokenBucketRateLimiter.Stats stats = rateLimiter.getStats();
+        assertThat(stats.timedOut()).isEqualTo(1);
+        assertThat(stats.waiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 하루 호출 수를 모두 사용한 경우")
+    void acquire_dailyLimit() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 10, 2, 10, Duration.ofSeconds(1), fixedClock);
+        rateLimiter.acquire(TokenBucketRateLimiter.Priority.HIGH);
+        rateLimiter.acquire(TokenBucketRateLimiter.Priority.HIGH);
+
+        // when, then
+        assertThat(rateLimiter.isDailyLimitExhausted()).isTrue();
+        assertThatThrownBy(() -> rateLimiter.acquire(TokenBucketRateLimiter.Priority.HIGH).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+}